@@ -0,0 +1,525 @@
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Writes and reads saves in a compact binary format through a FileChannel. A save file starts with
+ * a header, which holds a magic number, the version of the format, the number of sections, the length
+ * of the sections, and a CRC32C checksum of the sections. Every section starts with its id and its
+ * length, so a reader can skip the sections of a newer version that it does not know.
+ *
+ * The sections are the dungeon info, one fixed-size record per character in list order, and the
+ * names of the characters that have a name of their own. The name of a character such as "Goblin 3"
+ * is stored as its kind and number, so a save of a large dungeon holds almost no text.
+ *
+ * A save file may be compressed as a whole (see SaveCompression), which the readers find out by
+ * themselves, so a compressed file is read through the same sections as it is inflated.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class BinarySaveFile {
+
+    public static final String EXTENSION = ".sav";    // The extension of a binary save file
+    public static final int MAGIC = 0x44445356;       // The first four bytes of a binary save file, "DDSV" in ASCII
+    public static final short VERSION = 1;            // The version of the format written by this class
+
+    static final int HEADER_BYTES = 20;               // Magic (4), version (2), number of sections (2), length of the sections (8), checksum (4)
+
+    private static final short SECTION_DUNGEON = 1;       // The id of the section with the dungeon info
+    private static final short SECTION_CHARACTERS = 2;    // The id of the section with the records of the characters
+    private static final short SECTION_NAMES = 3;         // The id of the section with the names of the characters
+    private static final int SECTION_HEADER_BYTES = 10;   // Id (2) and length (8) of a section
+
+    private static final int DUNGEON_BYTES = 29;          // Characters, dungeon size, turn counter, character in same room, potion turn counter (4 each), can retreat (1), seed (8)
+    static final int CHARACTER_BYTES = 27;                // Kind (1), number, health (4 each), type (1), max damage, X, Y, gold (4 each), potions (1)
+
+    private static final byte HEALTH_POTION = 1;          // Bit of the potions byte of a character that has a health potion
+    private static final byte STRENGTH_POTION = 2;        // Bit of the potions byte of a character that has a strength potion
+
+    private static final int BUFFER_BYTES = 1 << 16;      // The size of the buffer that the file is streamed through
+
+    /**
+     * Writes a game session to a binary save file, replacing the file if it exists.
+     *
+     * @param session          The game session to save
+     * @param file             The file to write
+     * @throws IOException     If the file cannot be written
+     */
+    public static void write(GameSession session, Path file) throws IOException {
+        ByteBuffer contents = encode(session);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (contents.hasRemaining()) channel.write(contents);
+        }
+    }
+
+    /**
+     * Encodes a game session as the whole content of a binary save file. The content is a snapshot that
+     * does not change when the game goes on, so it can be written by another thread (see SaveWriter).
+     *
+     * @param session      The game session to save
+     * @return contents    The content of the save file, from its position to its limit
+     */
+    public static ByteBuffer encode(GameSession session) {
+        CharacterStore store = session.getCharacterList();
+        int characterCount = store.size();
+
+        // The few names of their own are encoded first, since the length of their section is written before them
+        List<byte[]> names = new ArrayList<>();
+        List<Integer> nameIndexes = new ArrayList<>();
+        long namesBytes = 4;
+        for (int i = 0; i < characterCount; i++) {
+            int id = store.getId(i);
+            if (store.getKind(id) != CharacterStore.KIND_NAMED) continue;
+
+            byte[] name = store.getName(id).getBytes(StandardCharsets.UTF_8);
+            names.add(name);
+            nameIndexes.add(i);
+            namesBytes += 8 + name.length;
+        }
+
+        long sectionBytes = 3 * SECTION_HEADER_BYTES + DUNGEON_BYTES + (long) characterCount * CHARACTER_BYTES + namesBytes;
+        if (HEADER_BYTES + sectionBytes > Integer.MAX_VALUE - 8) throw new IllegalStateException("The dungeon is too large to be saved");
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) (HEADER_BYTES + sectionBytes));
+        buffer.position(HEADER_BYTES);
+        Character hero = store.getFirst();
+
+        buffer.putShort(SECTION_DUNGEON).putLong(DUNGEON_BYTES);
+        buffer.putInt(characterCount);
+        buffer.putInt(session.getDungeonSize());
+        buffer.putInt(session.getTurnCounter());
+        buffer.putInt(hero.getCharacterInSameRoomIndex());
+        buffer.putInt(session.getPotionTurnCounter());
+        buffer.put((byte) (session.getCanRetreat() ? 1 : 0));
+        buffer.putLong(session.getSeed());
+
+        buffer.putShort(SECTION_CHARACTERS).putLong((long) characterCount * CHARACTER_BYTES);
+        for (int i = 0; i < characterCount; i++) {
+            putCharacter(buffer, store, store.getId(i));
+        }
+
+        buffer.putShort(SECTION_NAMES).putLong(namesBytes);
+        buffer.putInt(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            byte[] name = names.get(i);
+            buffer.putInt(nameIndexes.get(i)).putInt(name.length).put(name);
+        }
+
+        // The header is put last, once the checksum of the sections is known
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), HEADER_BYTES, (int) sectionBytes);
+        buffer.putInt(0, MAGIC).putShort(4, VERSION).putShort(6, (short) 3).putLong(8, sectionBytes).putInt(16, (int) crc.getValue());
+        return buffer.flip();
+    }
+
+    /**
+     * Writes the content of a binary save file as a text export, which holds the same values as "name: value" 
+     * lines (see TextSaveLoader). The content was made by encode, so the export is rendered from a snapshot 
+     * of the game, and the text is streamed into the output without being held in memory.
+     *
+     * @param contents         The content of a save file made by encode, from its position to its limit, which does not change
+     * @param output           The stream that the export is written to, which is flushed but left open
+     * @throws IOException     If the export cannot be written
+     */
+    public static void writeText(ByteBuffer contents, OutputStream output) throws IOException {
+        ByteBuffer buffer = contents.duplicate();
+        int dungeonInfo = buffer.position() + HEADER_BYTES + SECTION_HEADER_BYTES;
+        int characterCount = buffer.getInt(dungeonInfo);
+        int records = dungeonInfo + DUNGEON_BYTES + SECTION_HEADER_BYTES;
+
+        // The names follow the records, so the few names of their own are taken first
+        Map<Integer, String> names = new HashMap<>();
+        buffer.position(records + characterCount * CHARACTER_BYTES + SECTION_HEADER_BYTES);
+        int nameCount = buffer.getInt();
+        for (int i = 0; i < nameCount; i++) {
+            int index = buffer.getInt();
+            byte[] name = new byte[buffer.getInt()];
+            buffer.get(name);
+            names.put(index, new String(name, StandardCharsets.UTF_8));
+        }
+
+        Writer text = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_BYTES);
+        buffer.position(dungeonInfo);
+        text.write("numOfCharacters: " + buffer.getInt() + "\n");
+        text.write("dungeonSize: " + buffer.getInt() + "\n");
+        text.write("turnCounter: " + buffer.getInt() + "\n");
+        text.write("characterInSameRoom: " + buffer.getInt() + "\n");
+        text.write("potionTurnCounter: " + buffer.getInt() + "\n");
+        text.write("canRetreat: " + (buffer.get() != 0) + "\n");
+        text.write("seed: " + buffer.getLong() + "\n");
+        text.write("~~~ END OF DUNGEON INFO ~~~\n");
+
+        buffer.position(records);
+        for (int i = 0; i < characterCount; i++) {
+            int kind = buffer.get(), number = buffer.getInt(), health = buffer.getInt(), type = buffer.get();
+            int maxDamage = buffer.getInt(), xCord = buffer.getInt(), yCord = buffer.getInt(), gold = buffer.getInt();
+            byte potions = buffer.get();
+
+            String name = (kind == CharacterStore.KIND_NAMED) ? names.getOrDefault(i, "") : CharacterStore.getKindName(kind, number);
+            text.write("name: " + name + "\n");
+            text.write("health: " + health + "\n");
+            text.write("maxDamage: " + maxDamage + "\n");
+            text.write("xCord: " + xCord + "\n");
+            text.write("yCord: " + yCord + "\n");
+            text.write("gold: " + gold + "\n");
+            text.write("type: " + type + "\n");
+            text.write("healthPotionCondition: " + ((potions & HEALTH_POTION) != 0) + "\n");
+            text.write("strengthPotionCondition: " + ((potions & STRENGTH_POTION) != 0) + "\n");
+            text.write("~~~ END OF CHARACTER INFO ~~~\n");
+        }
+
+        text.write("~~~ END OF SAVE FILE ~~~");
+        text.flush();
+    }
+
+    /**
+     * Reads a binary save file into a game session. The file is read once, and its values are range-checked 
+     * and its checksum is computed while it is read. The characters of the file replace the characters of 
+     * the session, and the dungeon info of the file is set in the session, only once the whole file was read 
+     * without a mistake, so a damaged file leaves the running game as it was. 
+     *
+     * @param file             The file to read
+     * @param session          The game session to load the save into
+     * @return                 The list position of the character in the hero's room, or -1 if there is none
+     * @throws IOException     If the file cannot be read, is not a binary save file, or is damaged
+     */
+    public static int load(Path file, GameSession session) throws IOException {
+        CharacterStore store = session.getCharacterList();
+        int[] ids = null;
+        int dungeonSize = 0, turnCounter = 0, characterInSameRoom = -1, potionTurnCounter = 0;
+        boolean canRetreat = false, charactersRead = false;
+        long seed = 0;
+
+        try (ReadableByteChannel channel = SaveCompression.open(file)) {
+            ByteBuffer header = readHeader(channel, file);
+            int sectionCount = header.getShort(6);
+            long sectionBytes = header.getLong(8);
+            CRC32C crc = new CRC32C();
+            ChannelReader reader = new ChannelReader(channel, file, crc);
+
+            for (int section = 0; section < sectionCount; section++) {
+                ByteBuffer buffer = reader.require(SECTION_HEADER_BYTES);
+                short sectionId = buffer.getShort();
+                long bytes = buffer.getLong();
+
+                switch (sectionId) {
+                    case SECTION_DUNGEON:
+                        if (bytes < DUNGEON_BYTES) throw new IOException("The dungeon info of the save file " + file + " is too short");
+
+                        buffer = reader.require(DUNGEON_BYTES);
+                        int characterCount = buffer.getInt();
+                        dungeonSize = buffer.getInt();
+                        turnCounter = buffer.getInt();
+                        characterInSameRoom = buffer.getInt();
+                        potionTurnCounter = buffer.getInt();
+                        canRetreat = buffer.get() != 0;
+                        seed = buffer.getLong();
+                        reader.skip(bytes - DUNGEON_BYTES);
+
+                        // The count is checked against the length of the file, so a damaged count cannot make a huge array
+                        if (characterCount < 1 || (long) characterCount * CHARACTER_BYTES > sectionBytes) {
+                            throw new IOException("The save file " + file + " cannot hold " + characterCount + " characters");
+                        }
+                        if (dungeonSize < 1) throw new IOException("The dungeon of the save file " + file + " has a size of " + dungeonSize);
+                        if (characterInSameRoom < -1 || characterInSameRoom >= characterCount) {
+                            throw new IOException("The character in the hero's room of the save file " + file + " is not listed");
+                        }
+                        ids = new int[characterCount];
+                        break;
+                    case SECTION_CHARACTERS:
+                        if (ids == null || bytes != (long) ids.length * CHARACTER_BYTES) {
+                            throw new IOException("The characters of the save file " + file + " do not match its dungeon info");
+                        }
+
+                        store.ensureCapacity(ids.length);
+                        OccupancyIndex rooms = new OccupancyIndex(ids.length);
+                        for (int i = 0; i < ids.length; i++) {
+                            ids[i] = createCharacter(reader.require(CHARACTER_BYTES), store);
+
+                            int kind = store.getKind(ids[i]), xCord = store.getXCord(ids[i]), yCord = store.getYCord(ids[i]);
+                            if (kind < CharacterStore.KIND_NAMED || kind > CharacterStore.KIND_GOLEM) {
+                                throw new IOException("Character " + (i + 1) + " of the save file " + file + " is of no known kind");
+                            }
+                            if (xCord < 0 || xCord >= dungeonSize || yCord < 0 || yCord >= dungeonSize) {
+                                throw new IOException("Character " + (i + 1) + " of the save file " + file + " is in the room (" + xCord + ", " + yCord 
+                                        + "), which is outside the dungeon of size " + dungeonSize);
+                            }
+
+                            // Only one character besides the hero can be in a room, or the occupancy index of the store would lose one of them
+                            if (i > 0 && !rooms.add(i, xCord, yCord)) {
+                                throw new IOException("Characters " + (rooms.get(xCord, yCord) + 1) + " and " + (i + 1) + " of the save file " + file 
+                                        + " are both in the room (" + xCord + ", " + yCord + ")");
+                            }
+                        }
+                        charactersRead = true;
+                        break;
+                    case SECTION_NAMES:
+                        if (!charactersRead) throw new IOException("The names of the save file " + file + " come before its characters");
+
+                        int nameCount = reader.require(4).getInt();
+                        for (int i = 0; i < nameCount; i++) {
+                            buffer = reader.require(8);
+                            int index = buffer.getInt(), length = buffer.getInt();
+                            if (index < 0 || index >= ids.length) throw new IOException("A name of the save file " + file + " belongs to no character");
+                            if (length < 0 || length > sectionBytes) throw new IOException("A name of the save file " + file + " is longer than the file");
+                            store.setName(ids[index], new String(reader.getBytes(length), StandardCharsets.UTF_8));
+                        }
+                        break;
+                    default:
+                        reader.skip(bytes);
+                }
+            }
+
+            // The rest of the file is read as well, as it is covered by the checksum
+            long readBytes = reader.finish();
+            if (readBytes != sectionBytes) {
+                throw new IOException("The save file " + file + " should hold " + sectionBytes + " bytes of sections, but holds " + readBytes);
+            }
+            if ((int) crc.getValue() != header.getInt(16)) throw new IOException("The checksum of the save file " + file + " does not match, so the file is damaged");
+        }
+
+        if (!charactersRead) throw new IOException("The save file " + file + " holds no characters");
+
+        // The file was read without a mistake, so the loaded game replaces the running game
+        session.setDungeonSize(dungeonSize);
+        session.setTurnCounter(turnCounter);
+        session.setPotionTurnCounter(potionTurnCounter);
+        session.setCanRetreat(canRetreat);
+        session.setSeed(seed);
+        store.replaceContents(ids);
+        return characterInSameRoom;
+    }
+
+    /**
+     * Reads the preview of a save file for the save loading menu. Only the dungeon info, the hero's
+     * record, and the hero's name are read, and the records of the other characters are skipped.
+     *
+     * @param file             The file to read
+     * @return preview         The preview of the save
+     * @throws IOException     If the file cannot be read or is not a binary save file
+     */
+    public static SavePreview readPreview(Path file) throws IOException {
+        try (ReadableByteChannel channel = SaveCompression.open(file)) {
+            int sectionCount = readHeader(channel, file).getShort(6);
+            ChannelReader reader = new ChannelReader(channel, file, null);
+            int dungeonSize = 0, turnCounter = 0, health = 0, gold = 0;
+            String heroName = null;
+
+            for (int section = 0; section < sectionCount; section++) {
+                ByteBuffer buffer = reader.require(SECTION_HEADER_BYTES);
+                short sectionId = buffer.getShort();
+                long sectionBytes = buffer.getLong();
+                long unreadBytes = sectionBytes;
+
+                if (sectionId == SECTION_DUNGEON && sectionBytes >= DUNGEON_BYTES) {
+                    buffer = reader.require(12);
+                    buffer.getInt();
+                    dungeonSize = buffer.getInt();
+                    turnCounter = buffer.getInt();
+                    unreadBytes -= 12;
+                }
+                else if (sectionId == SECTION_CHARACTERS && sectionBytes >= CHARACTER_BYTES) {
+                    buffer = reader.require(CHARACTER_BYTES);
+                    int start = buffer.position();
+                    int kind = buffer.get(), number = buffer.getInt();
+                    health = buffer.getInt();
+                    gold = buffer.getInt(start + 22);
+                    buffer.position(start + CHARACTER_BYTES);
+                    unreadBytes -= CHARACTER_BYTES;
+                    if (kind != CharacterStore.KIND_NAMED) heroName = CharacterStore.getKindName(kind, number);
+                }
+                else if (sectionId == SECTION_NAMES && sectionBytes >= 12) {
+                    
+                    // The names are written in list order, so the hero's name is the first one if the hero has a name of its own
+                    buffer = reader.require(12);
+                    int nameCount = buffer.getInt(), index = buffer.getInt(), length = buffer.getInt();
+                    unreadBytes -= 12;
+                    if (nameCount > 0 && index == 0 && length >= 0 && length <= unreadBytes) {
+                        heroName = new String(reader.getBytes(length), StandardCharsets.UTF_8);
+                        unreadBytes -= length;
+                    }
+                }
+                reader.skip(unreadBytes);
+            }
+
+            if (heroName == null) heroName = "";
+            return new SavePreview(file.getFileName().toString(), heroName, health, gold, turnCounter, dungeonSize,
+                    Files.getLastModifiedTime(file).toMillis(), Files.size(file));
+        }
+    }
+
+    /**
+     * Puts the record of a character into a buffer. The TurnJournal writes the characters that 
+     * changed in a turn with the same record.
+     *
+     * @param buffer     The buffer, with room for CHARACTER_BYTES bytes
+     * @param store      The store of the character
+     * @param id         The id of the character
+     */
+    static void putCharacter(ByteBuffer buffer, CharacterStore store, int id) {
+        buffer.put((byte) store.getKind(id));
+        buffer.putInt(store.getNumber(id));
+        buffer.putInt(store.getHealth(id));
+        buffer.put((byte) store.getTypeValue(id));
+        buffer.putInt(store.getMaxDamage(id));
+        buffer.putInt(store.getXCord(id));
+        buffer.putInt(store.getYCord(id));
+        buffer.putInt(store.getGoldValue(id));
+        buffer.put((byte) ((store.getHasHealthPotion(id) ? HEALTH_POTION : 0) | (store.getHasStrengthPotion(id) ? STRENGTH_POTION : 0)));
+    }
+
+    /**
+     * Takes the record of a character from a buffer and creates the character in a store, without 
+     * listing it. A named character gets its name afterward.
+     *
+     * @param buffer     The buffer, with CHARACTER_BYTES bytes remaining
+     * @param store      The store to create the character in
+     * @return id        The id of the new character
+     */
+    static int createCharacter(ByteBuffer buffer, CharacterStore store) {
+        int kind = buffer.get(), number = buffer.getInt(), health = buffer.getInt(), type = buffer.get();
+        int maxDamage = buffer.getInt(), xCord = buffer.getInt(), yCord = buffer.getInt(), gold = buffer.getInt();
+        byte potions = buffer.get();
+        return store.create(kind, number, health, type, maxDamage, xCord, yCord, gold,
+                (potions & HEALTH_POTION) != 0, (potions & STRENGTH_POTION) != 0);
+    }
+
+    /**
+     * Reads the header of a save file and checks its magic number and version.
+     *
+     * @param channel          The channel of the file, at its start
+     * @param file             The file, for the error messages
+     * @return header          The header, with its position at the start
+     * @throws IOException     If the header cannot be read or belongs to no known save file
+     */
+    private static ByteBuffer readHeader(ReadableByteChannel channel, Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (header.hasRemaining()) {
+            if (channel.read(header) == -1) throw new EOFException("The save file " + file + " is too short to have a header");
+        }
+        header.flip();
+
+        if (header.getInt(0) != MAGIC) throw new IOException("The file " + file + " is not a binary save file");
+        if (header.getShort(4) > VERSION) {
+            throw new IOException("The save file " + file + " was made by a newer version of the game (format " + header.getShort(4) + ")");
+        }
+        return header;
+    }
+
+    /**
+     * Streams the sections of a save file from a channel through a buffer. If the reader has a checksum, 
+     * every byte that is read from the channel is added to it, so no part of the file can be skipped. 
+     */
+    private static class ChannelReader {
+
+        private final ReadableByteChannel channel;                                  // The channel of the file, which is inflated if the file is compressed
+        private final Path file;                                                    // The file, for the error messages
+        private final CRC32C crc;                                                   // The checksum of the bytes that were read, or null if none is computed
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);  // The bytes that were read but not taken yet
+        private long readBytes = 0;                                                 // The number of bytes that were read from the channel
+
+        private ChannelReader(ReadableByteChannel channel, Path file, CRC32C crc) {
+            this.channel = channel;
+            this.file = file;
+            this.crc = crc;
+            buffer.flip();
+        }
+
+        /**
+         * Reads from the channel into the buffer and adds the new bytes to the checksum.
+         *
+         * @return                 The number of bytes that were read, or -1 at the end of the file
+         * @throws IOException     If the file cannot be read
+         */
+        private int read() throws IOException {
+            int start = buffer.position();
+            int read = channel.read(buffer);
+            if (read > 0) {
+                readBytes += read;
+                if (crc != null) crc.update(buffer.duplicate().flip().position(start));
+            }
+            return read;
+        }
+
+        /**
+         * Reads the rest of the file, whose bytes are not taken.
+         *
+         * @return                 The number of bytes that were read from the channel in all
+         * @throws IOException     If the file cannot be read
+         */
+        private long finish() throws IOException {
+            do buffer.clear(); while (read() != -1);
+            buffer.clear().flip();
+            return readBytes;
+        }
+
+        /**
+         * Reads until the buffer holds the given number of bytes.
+         *
+         * @param bytes            The number of bytes that will be taken, at most the size of the buffer
+         * @return buffer          The buffer to take the bytes from
+         * @throws IOException     If the file ends before the bytes
+         */
+        private ByteBuffer require(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) return buffer;
+
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (read() == -1) throw new EOFException("The save file " + file + " ended early");
+            }
+            buffer.flip();
+            return buffer;
+        }
+
+        private byte[] getBytes(int length) throws IOException {
+            if (length < 0) throw new IOException("The save file " + file + " has a text of negative length");
+
+            byte[] bytes = new byte[length];
+            for (int offset = 0; offset < length; ) {
+                int chunk = Math.min(require(1).remaining(), length - offset);
+                buffer.get(bytes, offset, chunk);
+                offset += chunk;
+            }
+            return bytes;
+        }
+
+        private void skip(long bytes) throws IOException {
+            if (bytes < 0) throw new IOException("The save file " + file + " has a section of negative length");
+
+            long inBuffer = Math.min(bytes, buffer.remaining());
+            buffer.position(buffer.position() + (int) inBuffer);
+            long remaining = bytes - inBuffer;
+            if (remaining == 0) return;
+
+            // A file that is not compressed is skipped by moving the channel, and a compressed or checksummed one has to be read
+            if (crc == null && channel instanceof SeekableByteChannel seekable) {
+                seekable.position(seekable.position() + remaining);
+                return;
+            }
+            while (remaining > 0) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), remaining));
+                int read = read();
+                if (read == -1) throw new EOFException("The save file " + file + " ended early");
+                remaining -= read;
+            }
+            buffer.clear().flip();
+        }
+    }
+}
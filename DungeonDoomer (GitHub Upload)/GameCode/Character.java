@@ -1,39 +1,34 @@
-import java.util.ArrayList;
 
 /**
- * Holds private fields and some logic for characters. 
+ * A view of one character of a game session. The fields of every character are held in the 
+ * session's CharacterStore, and a Character object only holds the id of the character there, 
+ * so a view can be made for any character at any time without copying it. Two views are equal
+ * if they show the same character. A view also holds the generation of its slot, so a view of a 
+ * removed character can be told apart from a view of the character that reuses the slot. 
  * 
  * @author Blake Payne
  * @since  12.29.2024
  */
 public class Character {
     
-    private String name = "";                   // Name of a character
-    private int health = 0;                     // Health value of a character
-    private int maxDamage = 0;                  // The value of maximum damage a character can do
-    private int xCord = -1;                     // The X coordinate of a character
-    private int yCord = -1;                     // The Y coordinate of a character
-    private int gold = 0;                       // Amount of gold a character possesses
-    private int type = -1;                      // Character type (0 = hero, 1 = merchant, 2 = monster, 3 = mimic (not hostile), -1 = n/a)
-    private boolean hasHealthPotion = false;    // Indicates if the hero can drink a health potion or if a merchant has one to sell
-    private boolean hasStrengthPotion = false;  // Indicates if the hero can drink a strength potion or if a merchant has one to sell
-
-    private int characterInSameRoomIndex = -1;  // Holds the index of the character in the same room as the hero
-    private int dungeonSize = 0;                // Integer size of a dungeon (stored in the Hero object)
-    private int turnCounter = 0;                // Tracks the turn number of the game (stored in the Hero object)
-    private Character hero;                     // Represents the hero object and holds all the hero's information
-    
-    private ArrayList<Character> characterList = MainLogic.getCharacterList(); // Character arraylist holds all information about each character
+    private final GameSession session;          // The game session that this character belongs to
+    private final CharacterStore store;         // The store that holds the fields of this character
+    private final int id;                       // The id of this character in the store
+    private final int generation;               // The generation of the store's slot when this view was made
     
     /**
-     * The default character constructor. This character will be removed from the list when any character dies.
+     * A constructor for an empty character that belongs to a specific game session. 
+     * 
+     * @param session                   The game session of the character
      */
-    public Character() {
+    public Character(GameSession session) {
+        this(session, "", 0, -1, 0, -1, -1, 0, false, false);
     }
 
     /**
-     * A constructor for initialization of a Character class object with appropriate parameters
+     * A constructor for initialization of a Character class object that belongs to a specific game session
      * 
+     * @param session                   The game session of the character
      * @param name                      The name of the character
      * @param health                    The health of the character
      * @param type                      The type of the character
@@ -44,80 +39,126 @@ public class Character {
      * @param hasHealthPotion           The indicator for possession of a health potion
      * @param hasStrengthPotion         The indicator for possession of a strength potion
      */
-    public Character(String name, int health, int type, int maxDamage, int xCord, int yCord, int gold,
+    public Character(GameSession session, String name, int health, int type, int maxDamage, int xCord, int yCord, int gold,
                      boolean hasHealthPotion, boolean hasStrengthPotion) {
-        this.name = name;
-        this.health = health;
-        this.type = type;
-        this.maxDamage = maxDamage;
-        this.xCord = xCord;
-        this.yCord = yCord;
-        this.gold = gold;
-        this.hasHealthPotion = hasHealthPotion;
-        this.hasStrengthPotion = hasStrengthPotion;
+        this(session, session.getCharacterList().create(name, health, type, maxDamage, xCord, yCord, gold, hasHealthPotion, hasStrengthPotion));
+    }
+
+    /**
+     * A constructor for a character whose name is its kind and number, such as "Goblin 3"
+     * 
+     * @param session                   The game session of the character
+     * @param kind                      The kind of the character's name (see CharacterStore)
+     * @param number                    The number in the character's name
+     * @param health                    The health of the character
+     * @param type                      The type of the character
+     * @param maxDamage                 The max damage of the character
+     * @param xCord                     The X coordinate of the character
+     * @param yCord                     The Y coordinate of the character
+     * @param gold                      The gold amount that the character has
+     * @param hasHealthPotion           The indicator for possession of a health potion
+     * @param hasStrengthPotion         The indicator for possession of a strength potion
+     */
+    public Character(GameSession session, int kind, int number, int health, int type, int maxDamage, int xCord, int yCord, int gold,
+                     boolean hasHealthPotion, boolean hasStrengthPotion) {
+        this(session, session.getCharacterList().create(kind, number, health, type, maxDamage, xCord, yCord, gold, hasHealthPotion, hasStrengthPotion));
+    }
+
+    /**
+     * A constructor for a view of a character that is already in the store of a game session
+     * 
+     * @param session                   The game session of the character
+     * @param id                        The id of the character in the session's store
+     */
+    Character(GameSession session, int id) {
+        this.session = session;
+        this.store = session.getCharacterList();
+        this.id = id;
+        this.generation = store.getGeneration(id);
     }
 
     // Getters and Setters for Character class
+    public GameSession getSession() {
+        return session;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public long getHandle() {
+        return ((long) generation << 32) | id;
+    }
+
+    /**
+     * Checks if this character is still in the store, and has not been removed since the view was made. 
+     * 
+     * @return true if the character is still in the store, and false otherwise
+     */
+    public boolean isValid() {
+        return store.isValid(getHandle());
+    }
+
     public void setDungeonSize(int dungeonSize) {
-        this.dungeonSize = dungeonSize;
+        session.setDungeonSize(dungeonSize);
     }
 
     public int getDungeonSize() {
-        return dungeonSize;
+        return session.getDungeonSize();
     }
 
     public String getName() { 
-        return name; 
+        return store.getName(id); 
     }
 
     public void setName(String name) { 
-        this.name = name; 
+        store.setName(id, name); 
     }
 
     public int getHealth() {
-        return health; 
+        return store.getHealth(id); 
     }
 
     public void setHealth(int health) {
-        this.health = health;
+        store.setHealth(id, health);
     }
 
     public int getTypeValue() {
-        return type; 
+        return store.getTypeValue(id); 
     }
 
     public void setTypeValue(int type) {
-        this.type = type; 
+        store.setTypeValue(id, type); 
     }
 
     public int getMaxDamage() {
-        return maxDamage;
+        return store.getMaxDamage(id);
     }
 
     public void setMaxDamage(int maxDamage) {
-        this.maxDamage = maxDamage; 
+        store.setMaxDamage(id, maxDamage); 
     }
 
     public int getXCord() {
-        return xCord; 
+        return store.getXCord(id); 
     }
 
     public void setXCord(int xCord) {
-        if (xCord < 0 || xCord >= MainLogic.getDungeonSize()) {
-            MainLogic.getGameWindow().logAndNotifyIllegalState("X Coordinate cannot be negative or equal to/larger than the size of the dungeon");
+        if (xCord < 0 || xCord >= session.getDungeonSize()) {
+            session.getListener().logAndNotifyIllegalState("X Coordinate cannot be negative or equal to/larger than the size of the dungeon");
         }
-        this.xCord = xCord;
+        store.setXYCords(id, xCord, getYCord());
     }
 
     public int getYCord() {
-        return yCord;
+        return store.getYCord(id);
     }
 
     public void setYCord(int yCord) {
-        if (yCord < 0 || yCord >= MainLogic.getDungeonSize()) {
-            MainLogic.getGameWindow().logAndNotifyIllegalState("Y Coordinate cannot be negative or equal to/larger than the size of the dungeon");
+        if (yCord < 0 || yCord >= session.getDungeonSize()) {
+            session.getListener().logAndNotifyIllegalState("Y Coordinate cannot be negative or equal to/larger than the size of the dungeon");
         }
-        this.yCord = yCord;
+        store.setXYCords(id, getXCord(), yCord);
     }
 
     public void setXYCords(int xCord, int yCord) {
@@ -126,40 +167,40 @@ public class Character {
     }
 
     public int getGoldValue() {
-        return gold; 
+        return store.getGoldValue(id); 
     }
 
     public void setGoldValue(int gold) {
-        this.gold = gold;
+        store.setGoldValue(id, gold);
     }
 
     public void setTurnCounterValue(int turnCounter) {
-        this.turnCounter = turnCounter;
+        session.setTurnCounter(turnCounter);
     }
 
     public int getTurnCounterValue() {
-        return turnCounter;
+        return session.getTurnCounter();
     }
 
     public boolean getHasHealthPotion() {
-        return hasHealthPotion;
+        return store.getHasHealthPotion(id);
     }
 
     public void setHasHealthPotion(boolean hasHealthPotion) {
-        this.hasHealthPotion = hasHealthPotion;
+        store.setHasHealthPotion(id, hasHealthPotion);
     }
 
     public boolean getHasStrengthPotion() {
-        return hasStrengthPotion;
+        return store.getHasStrengthPotion(id);
     }
 
     public void setHasStrengthPotion(boolean hasStrengthPotion) {
-        this.hasStrengthPotion = hasStrengthPotion;
+        store.setHasStrengthPotion(id, hasStrengthPotion);
     }
 
     public String getPotionMessage(boolean inPossession) {
         String message = "";
-        switch (MainLogic.getLanguage()) {
+        switch (session.getLanguage()) {
             case "English": if(inPossession) message = "Owned"; else message = "None"; break;
             case "German": if(inPossession) message = "Besitzt"; else message = "Kein"; break;
         }
@@ -167,27 +208,35 @@ public class Character {
     }
 
     public void setCharacterInSameRoomIndex(int characterInSameRoomIndex) {
-        this.characterInSameRoomIndex = characterInSameRoomIndex;
+        session.setCharacterInSameRoomIndex(characterInSameRoomIndex);
     }
 
     public int getCharacterInSameRoomIndex() {
-        return characterInSameRoomIndex;
+        return session.getCharacterInSameRoomIndex();
+    }
+
+    public void setCharacterInSameRoom(Character character) {
+        session.setCharacterInSameRoom(character);
+    }
+
+    public Character getCharacterInSameRoom() {
+        return session.getCharacterInSameRoom();
     }
 
     public int getPotionTurnCounter() {
-        return MainLogic.getPotionTurnCounter();
+        return session.getPotionTurnCounter();
     }
 
     public void setPotionTurnCounter(int potionTurnCounter) {
-        MainLogic.setPotionTurnCounter(potionTurnCounter);
+        session.setPotionTurnCounter(potionTurnCounter);
     }
 
     public boolean getCanRetreat() {
-        return MainLogic.getCanRetreat();
+        return session.getCanRetreat();
     }
 
     public void setCanRetreat(boolean retreatBoolean) {
-        MainLogic.setCanRetreat(retreatBoolean);
+        session.setCanRetreat(retreatBoolean);
     }
 
     /**
@@ -196,7 +245,7 @@ public class Character {
      * @return true if health is less than 0, and false otherwise 
      */
     public boolean isDead() {
-        return health <= 0;
+        return getHealth() <= 0;
     }
 
     /**
@@ -205,15 +254,16 @@ public class Character {
      * @return true if escaped, and false otherwise
      */
     public boolean hasEscaped() {
-        return (xCord == (dungeonSize - 1)) && (yCord == (dungeonSize - 1));
+        int dungeonSize = getDungeonSize();
+        return (getXCord() == (dungeonSize - 1)) && (getYCord() == (dungeonSize - 1));
     }
 
     /**
     * This method is used to lower the hero's health each turn. Sets health to zero if negative. 
     */
     public void turnHealthDeduction() {
-        health -= 2;
-        if (health < 0) setHealth(0);
+        setHealth(getHealth() - 2);
+        if (getHealth() < 0) setHealth(0);
     }
 
     /**
@@ -222,18 +272,14 @@ public class Character {
     * @return true if they are in the same room, and false otherwise
     */
     public boolean isAnotherCharacterInSameRoom() {
-        characterList = MainLogic.getCharacterList();
-        hero = characterList.getFirst();
-        this.setCharacterInSameRoomIndex(-1);
+        Character hero = session.getHero();
+        this.setCharacterInSameRoom(null);
         
-        for (int i = 1; i < characterList.size(); i++) {
-            
-            // If the hero and a monster are in the same room, the characterInSameRoom variable will be updated to the index of that monster in characterList
-            if ((hero.getXCord() == characterList.get(i).getXCord()) && (hero.getYCord() == characterList.get(i).getYCord())) {
-                setCharacterInSameRoomIndex(i);
-                return true;
-            }
-            
+        // If the hero and a monster are in the same room, the characterInSameRoom variable will be updated to the handle of that monster
+        int characterId = store.getIdInRoom(hero.getXCord(), hero.getYCord());
+        if (characterId != -1) {
+            setCharacterInSameRoom(new Character(session, characterId));
+            return true;
         }
         return false;
     }
@@ -244,94 +290,47 @@ public class Character {
     * @return smellCounter: the counter that tracks how many adjacent monsters there are
     */
     public int getSmellCounter() {
-        characterList = MainLogic.getCharacterList();
-        int smellCounter = 0;
-
-        try {
-            if (characterList.size() <= 2) {
-                // If there are only two characters, the following will check if the second character is adjacent to the hero
-                smellCounter += smellCounterIncrementor(1);
-            } 
-            else if ((characterList.get(1).getTypeValue() == 1) && (characterList.get(2).getTypeValue() != 1)) { 
-                // If the second character in the character list is a merchant, but the third character is not,
-                // the following will check all characters, starting with the third, to see if any are adjacent to the hero
-                for (int i = 2; i < characterList.size(); i++) {
-                    smellCounter += smellCounterIncrementor(i);
-                }
-            } 
-            else if ((characterList.get(2).getTypeValue() == 1) && (characterList.get(3).getTypeValue() != 1)) {
-                // If the third character in the character list is a merchant, but the fourth character is not,
-                // the following will check all characters, starting with the fourth, to see if any are adjacent to the hero
-                for (int i = 3; i < characterList.size(); i++) {
-                    smellCounter += smellCounterIncrementor(i);
-                }
-            }
-        }
-        catch (Exception e) {
-            e.printStackTrace(MainLogic.getPrintStream());
-            MainLogic.getGameWindow().pushMessage("\nAn unknown error has occurred when hero smelled for monsters.\n");
-        }
-        return smellCounter;
-    }
-
-    /**
-     * Functionality for smell counter in inAdjacentRoom() method. 
-     * 
-     * @param index     The index of the monster in the characterList arrayList
-     * @return          smellCounter: the counter that tracks the number of adjacent monsters
-     */
-    private int smellCounterIncrementor(int index) {
-        characterList = MainLogic.getCharacterList();
-        hero = characterList.getFirst();
-        int smellCounter = 0;
-
-        // Checks the change in x coordinates of the hero and every monster to see any are next to each other
-        int xCordChecker = Math.abs(hero.getXCord() - characterList.get(index).getXCord());
-        int yCordChecker = Math.abs(hero.getYCord() - characterList.get(index).getYCord());
-        
-        // If the difference between the x/y coordinate is 1 and the other x/y coordinate is 0, then that monster is adjacent to the hero
-        if ((xCordChecker == 1 && yCordChecker == 0) || (xCordChecker == 0 && yCordChecker == 1)) {
-            smellCounter++;
-        }
-        
-        return smellCounter;
+        return store.countAdjacentMonsters(getXCord(), getYCord());
     }
 
     /**
     * Deals damage to hero and monster in combat. Returns boolean value based on character death.
     */
     public void hitCharacter() {
-        Character monster = MainLogic.getCharacterList().get(hero.getCharacterInSameRoomIndex());
-        hero = characterList.getFirst();
+        GameEvents.Hit hitEvent = GameEvents.startHit();
+        Character hero = session.getHero();
+        Character monster = session.getCharacterInSameRoom();
+        int monsterKind = session.getCharacterList().getKind(monster.getId());
 
         // Logic for when the hero hits a monster in combat 
-        int damageToMonster = MainLogic.getRandomNumber(hero.getMaxDamage());
+        int damageToMonster = session.getRandomNumber(hero.getMaxDamage());
         int newMonsterHealth = monster.getHealth() - damageToMonster;
         monster.setHealth(newMonsterHealth);
         
-        switch (MainLogic.getLanguage()) {
-            case "English": MainLogic.getGameWindow().printToTerminal("\n\nYou hit " + monster.getName() + " for " + damageToMonster + " damage\n"); break;
-            case "German": MainLogic.getGameWindow().printToTerminal("\n\nSie haben " + monster.getName() + " für " + damageToMonster + " Schadenspunkte geschlagen\n"); break;
+        switch (session.getLanguage()) {
+            case "English": session.printToTerminal("\n\nYou hit " + monster.getName() + " for " + damageToMonster + " damage\n"); break;
+            case "German": session.printToTerminal("\n\nSie haben " + monster.getName() + " für " + damageToMonster + " Schadenspunkte geschlagen\n"); break;
         }
         
         // If the monster dies, it will be removed, but the battle will continue if it is still alive
         if (monster.isDead()) {
-            MainLogic.setCharacterDeath(true);
+            session.setCharacterDeath(true);
         }
         else { 
             // Logic for when a monster hits hero in combat 
-            int damageToHero = MainLogic.getRandomNumber(monster.getMaxDamage());
+            int damageToHero = session.getRandomNumber(monster.getMaxDamage());
             int newHeroHealth = hero.getHealth() - damageToHero;
             hero.setHealth(newHeroHealth);
             
-            switch (MainLogic.getLanguage()) {
-                case "English": MainLogic.getGameWindow().printToTerminal(monster.getName() + " hits you for " + damageToHero + " damage"); break;
-                case "German": MainLogic.getGameWindow().printToTerminal(monster.getName() + " hat Sie für " + damageToHero + " Schadenspunkte geschlagen"); break;
+            switch (session.getLanguage()) {
+                case "English": session.printToTerminal(monster.getName() + " hits you for " + damageToHero + " damage"); break;
+                case "German": session.printToTerminal(monster.getName() + " hat Sie für " + damageToHero + " Schadenspunkte geschlagen"); break;
             }
             
             // If the hero dies, the game will end, but the battle will continue if the hero is still alive
-            if (hero.isDead()) MainLogic.setCharacterDeath(true);
+            if (hero.isDead()) session.setCharacterDeath(true);
         }
+        if (hitEvent != null) hitEvent.finish(session, monsterKind, monster.getHealth(), hero.getHealth());
     }
 
     /**
@@ -342,31 +341,33 @@ public class Character {
     */
     public boolean canMove(String direction) {
         boolean validDirection = false;
+        int xCord = getXCord(), yCord = getYCord(), dungeonSize = getDungeonSize();
+        
         if (direction.contains("north") || direction.contains("nord")) {
             if (yCord != 0) {
-                yCord -= 1;
+                store.setXYCords(id, xCord, yCord - 1);
                 validDirection = true;
             }
         } 
         else if (direction.contains("south") || direction.contains("süd") || direction.contains("sued")) {
             if (yCord != (dungeonSize - 1)) {
-                yCord += 1;
+                store.setXYCords(id, xCord, yCord + 1);
                 validDirection = true;
             }
         } 
         else if (direction.contains("east") || direction.contains("ost")) {
             if (xCord != (dungeonSize - 1)) {
-                xCord += 1;
+                store.setXYCords(id, xCord + 1, yCord);
                 validDirection = true;
             }
         } 
         else if (direction.contains("west")) {
             if (xCord != 0) {
-                xCord -= 1;
+                store.setXYCords(id, xCord - 1, yCord);
                 validDirection = true;
             }
         } 
-        else MainLogic.getGameWindow().logAndNotifyIllegalState("An valid direction was imputed, but the hero could not be moved.");
+        else session.getListener().logAndNotifyIllegalState("An valid direction was imputed, but the hero could not be moved.");
 
         return validDirection;
     }
@@ -376,6 +377,19 @@ public class Character {
     */
     @Override 
     public String toString() {
-        return name + " at " + xCord + ", " + yCord + " with " + health + " health and " + gold + " gold";
+        return getName() + " at " + getXCord() + ", " + getYCord() + " with " + getHealth() + " health and " + getGoldValue() + " gold";
+    }
+
+    /**
+     * Two characters are equal if they are views of the same character in the same store
+     */
+    @Override
+    public boolean equals(Object other) {
+        return (other instanceof Character character) && character.store == store && character.id == id && character.generation == generation;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(getHandle());
     }
 }
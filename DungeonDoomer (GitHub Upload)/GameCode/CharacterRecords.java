@@ -0,0 +1,178 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable list of the records of the listed characters, in list order, as the GameHistory keeps
+ * it for every turn. A record is the one that BinarySaveFile writes for a character. The records are
+ * held in leaves of 32 records under branches of 32 children, and a new list is made by copying only
+ * the leaves and branches on the way to the records that changed. Every other leaf and branch is
+ * shared with the list it was made from, so a list costs the characters that changed since the last one.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class CharacterRecords {
+
+    private static final int SHIFT = 5;                                      // The number of index bits taken by each level of the tree
+    private static final int WIDTH = 1 << SHIFT;                             // The number of records in a leaf and of children in a branch
+    private static final int MASK = WIDTH - 1;                               // The index bits of a position in its leaf or branch
+    private static final int RECORD_BYTES = BinarySaveFile.CHARACTER_BYTES;  // The size of the record of a character
+
+    public static final CharacterRecords EMPTY = new CharacterRecords(null, 0, 0);    // The list without records
+
+    private final Node root;     // The root of the tree, or null if the list was never filled
+    private final int shift;     // The index bits below the root, which is a leaf if it is 0
+    private final int size;      // The number of records in the list
+
+    private CharacterRecords(Node root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    /**
+     * Makes a list of the records of every listed character of a store.
+     *
+     * @param store     The store of the characters
+     * @return          The list of records
+     */
+    public static CharacterRecords of(CharacterStore store) {
+        int[] ids = new int[store.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = store.getId(i);
+        return EMPTY.with(store, ids);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Makes a new list with the current records of some characters and the current size of the store.
+     * Records at positions past the new size are dropped, and this list does not change.
+     *
+     * @param store          The store of the characters
+     * @param changedIds     The ids of the listed characters whose records changed
+     * @return               The new list, which shares every unchanged leaf with this list
+     */
+    public CharacterRecords with(CharacterStore store, int[] changedIds) {
+        int newSize = store.size();
+        Object edit = new Object();    // Marks the nodes that were copied for this list, so they are copied only once
+        Node newRoot = root;
+        int newShift = shift;
+
+        while (newSize > (1L << (newShift + SHIFT))) {
+            Node branch = new Node(edit, false);
+            branch.children[0] = newRoot;
+            newRoot = branch;
+            newShift += SHIFT;
+        }
+
+        for (int id : changedIds) {
+            newRoot = set(newRoot, newShift, store.indexOfId(id), store, id, edit);
+        }
+        return new CharacterRecords(newRoot, newShift, newSize);
+    }
+
+    /**
+     * Puts the record of a character at a position, copying the nodes on the way unless they were copied by the same edit.
+     *
+     * @return      The node that takes the place of the given node
+     */
+    private static Node set(Node node, int level, int position, CharacterStore store, int id, Object edit) {
+        Node editable = (node == null) ? new Node(edit, level == 0) : node.editableBy(edit);
+
+        if (level == 0) {
+            int index = position & MASK;
+            BinarySaveFile.putCharacter(ByteBuffer.wrap(editable.records, index * RECORD_BYTES, RECORD_BYTES), store, id);
+
+            boolean named = store.getKind(id) == CharacterStore.KIND_NAMED;
+            if (named && editable.names == null) editable.names = new String[WIDTH];
+            if (editable.names != null) editable.names[index] = named ? store.getName(id) : null;
+        }
+        else {
+            int index = (position >>> level) & MASK;
+            editable.children[index] = set(editable.children[index], level - SHIFT, position, store, id, edit);
+        }
+        return editable;
+    }
+
+    /**
+     * Finds the positions whose records differ from another list. Leaves that are shared by both lists
+     * are skipped without looking at their records.
+     *
+     * @param other        The other list, such as the list of the turn after this one
+     * @param consumer     Told every position below this list's size whose record differs from the other list
+     */
+    public void forEachDifference(CharacterRecords other, IntConsumer consumer) {
+        for (int leafStart = 0; leafStart < size; leafStart += WIDTH) {
+            Node leaf = getLeaf(leafStart), otherLeaf = other.getLeaf(leafStart);
+            int leafEnd = Math.min(leafStart + WIDTH, size);
+            if (leaf == otherLeaf && leafEnd <= other.size) continue;
+
+            for (int position = leafStart; position < leafEnd; position++) {
+                int index = position & MASK, from = index * RECORD_BYTES, to = from + RECORD_BYTES;
+                boolean same = position < other.size && otherLeaf != null
+                        && Arrays.equals(leaf.records, from, to, otherLeaf.records, from, to)
+                        && Objects.equals(leaf.getName(index), otherLeaf.getName(index));
+                if (!same) consumer.accept(position);
+            }
+        }
+    }
+
+    /**
+     * Creates the character of a record in a store, without listing it.
+     *
+     * @param position     The position of the record
+     * @param store        The store to create the character in
+     * @return id          The id of the new character
+     */
+    public int createCharacter(int position, CharacterStore store) {
+        Node leaf = getLeaf(position);
+        int index = position & MASK;
+        int id = BinarySaveFile.createCharacter(ByteBuffer.wrap(leaf.records, index * RECORD_BYTES, RECORD_BYTES), store);
+        if (store.getKind(id) == CharacterStore.KIND_NAMED) store.setName(id, leaf.getName(index));
+        return id;
+    }
+
+    private Node getLeaf(int position) {
+        Node node = root;
+        for (int level = shift; level > 0 && node != null; level -= SHIFT) {
+            node = node.children[(position >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * A leaf with the records of 32 positions, or a branch with 32 children.
+     */
+    private static class Node {
+
+        private final Object edit;          // The edit that made this node, which may change it until the edit is done
+        private final Node[] children;      // The children of a branch, or null in a leaf
+        private final byte[] records;       // The records of a leaf, or null in a branch
+        private String[] names;             // The names of their own of the records of a leaf, or null if there are none
+
+        private Node(Object edit, boolean leaf) {
+            this(edit, leaf ? null : new Node[WIDTH], leaf ? new byte[WIDTH * RECORD_BYTES] : null, null);
+        }
+
+        private Node(Object edit, Node[] children, byte[] records, String[] names) {
+            this.edit = edit;
+            this.children = children;
+            this.records = records;
+            this.names = names;
+        }
+
+        private Node editableBy(Object edit) {
+            if (this.edit == edit) return this;
+            return new Node(edit, (children == null) ? null : children.clone(), (records == null) ? null : records.clone(),
+                    (names == null) ? null : names.clone());
+        }
+
+        private String getName(int index) {
+            return (names == null) ? null : names[index];
+        }
+    }
+}
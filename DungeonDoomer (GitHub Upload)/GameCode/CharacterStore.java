@@ -0,0 +1,730 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Holds every character of a game session in parallel primitive arrays instead of one object per
+ * character. A character is known by a stable integer id (its slot in the arrays), and a Character
+ * object is only a small view of one id. The store is also the list of characters in the dungeon,
+ * with the hero first, and keeps the OccupancyIndex of the listed monsters in sync as they move.
+ *
+ * Names such as "Goblin 3" are not stored as strings. They are made from the kind and the number
+ * of the character when asked for, and only other names (such as the hero's) are kept in a map.
+ *
+ * A handle is an id together with the generation of its slot. The generation changes whenever the
+ * slot is freed, so a handle kept across removals either still finds its character in constant
+ * time or is known to be stale. Removing a character moves the last character of the list into
+ * its position instead of shifting the rest of the list.
+ *
+ * While changes are recorded, the store remembers which listed characters were changed, added, or
+ * moved to another position, so the TurnJournal can write only those characters after a turn.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class CharacterStore extends AbstractList<Character> implements RandomAccess {
+
+    public static final int KIND_NAMED = 0;       // A character with a name of its own, such as the hero
+    public static final int KIND_MERCHANT = 1;    // A character named "Merchant" and its number
+    public static final int KIND_GOBLIN = 2;      // A character named "Goblin" and its number
+    public static final int KIND_SKELETON = 3;    // A character named "Skeleton" and its number
+    public static final int KIND_MIMIC = 4;       // A character named "Mimic" and its number
+    public static final int KIND_GOLEM = 5;       // A character named "Golem" and its number
+
+    public static final long NO_HANDLE = -1;      // The handle of no character
+
+    private static final String[] KIND_NAMES = {"", "Merchant", "Goblin", "Skeleton", "Mimic", "Golem"};   // The name of each kind
+
+    private static final byte HEALTH_POTION = 1;      // Flag of a character that has a health potion
+    private static final byte STRENGTH_POTION = 2;    // Flag of a character that has a strength potion
+    private static final byte LISTED = 4;             // Flag of a character that is in the list of the dungeon
+    private static final byte ALIVE = 8;              // Flag of a slot that is handed out
+    private static final byte CHANGED = 16;           // Flag of a character that changed since the changes were last taken
+
+    private final GameSession session;    // The game session that the characters belong to
+
+    private int[] health;          // Health value of each character
+    private int[] maxDamage;       // The value of maximum damage each character can do
+    private int[] xCords;          // The X coordinate of each character
+    private int[] yCords;          // The Y coordinate of each character
+    private int[] gold;            // Amount of gold each character possesses
+    private int[] numbers;         // The number in the name of each character
+    private byte[] types;          // The type of each character (0 = hero, 1 = merchant, 2 = monster, 3 = mimic (not hostile), -1 = n/a)
+    private byte[] kinds;          // The kind of name of each character
+    private byte[] flags;          // The potion, list, and slot flags of each character
+    private int[] generations;     // The generation of each slot, which changes every time the slot is freed
+    private int[] positions;       // The position of each listed character in the list
+    private HashMap<Integer, String> names = new HashMap<>();    // The names of the characters that have a name of their own
+
+    private int slotCount = 0;               // The number of slots that were ever handed out
+    private int[] freeSlots = new int[16];   // The slots that can be handed out again
+    private int freeCount = 0;               // The number of slots in freeSlots
+
+    private int[] order = new int[16];       // The ids of the listed characters, in list order
+    private int size = 0;                    // The number of listed characters
+
+    private OccupancyIndex occupancyIndex = new OccupancyIndex();    // Finds the listed monster in a room of the dungeon
+
+    private boolean recordingChanges = false;   // Whether the changed characters are remembered
+    private int[] changedIds = new int[16];     // The ids of the characters that changed, in the order they first changed
+    private int changedCount = 0;               // The number of ids in changedIds
+    private boolean replaced = false;           // Whether the whole list was cleared or replaced since the changes were last taken
+
+    /**
+     * Creates an empty store.
+     *
+     * @param session    The game session that the characters belong to
+     */
+    public CharacterStore(GameSession session) {
+        this.session = session;
+        allocate(16);
+    }
+
+    /**
+     * Hands out a slot for a new character that is not in the list yet.
+     *
+     * @param kind                  The kind of name of the character
+     * @param number                The number in the name of the character
+     * @param health                The health of the character
+     * @param type                  The type of the character
+     * @param maxDamage             The max damage of the character
+     * @param xCord                 The X coordinate of the character
+     * @param yCord                 The Y coordinate of the character
+     * @param gold                  The gold amount that the character has
+     * @param hasHealthPotion       The indicator for possession of a health potion
+     * @param hasStrengthPotion     The indicator for possession of a strength potion
+     * @return id                   The id of the new character
+     */
+    public int create(int kind, int number, int health, int type, int maxDamage, int xCord, int yCord, int gold,
+                      boolean hasHealthPotion, boolean hasStrengthPotion) {
+        int id = (freeCount > 0) ? freeSlots[--freeCount] : nextSlot();
+
+        this.kinds[id] = (byte) kind;
+        this.numbers[id] = number;
+        this.health[id] = health;
+        this.types[id] = (byte) type;
+        this.maxDamage[id] = maxDamage;
+        this.xCords[id] = xCord;
+        this.yCords[id] = yCord;
+        this.gold[id] = gold;
+        this.flags[id] = (byte) (ALIVE | (hasHealthPotion ? HEALTH_POTION : 0) | (hasStrengthPotion ? STRENGTH_POTION : 0));
+        return id;
+    }
+
+    /**
+     * Hands out a slot for a new character with a name that is not in the list yet.
+     *
+     * @param name                  The name of the character
+     * @param health                The health of the character
+     * @param type                  The type of the character
+     * @param maxDamage             The max damage of the character
+     * @param xCord                 The X coordinate of the character
+     * @param yCord                 The Y coordinate of the character
+     * @param gold                  The gold amount that the character has
+     * @param hasHealthPotion       The indicator for possession of a health potion
+     * @param hasStrengthPotion     The indicator for possession of a strength potion
+     * @return id                   The id of the new character
+     */
+    public int create(String name, int health, int type, int maxDamage, int xCord, int yCord, int gold,
+                      boolean hasHealthPotion, boolean hasStrengthPotion) {
+        int id = create(KIND_NAMED, 0, health, type, maxDamage, xCord, yCord, gold, hasHealthPotion, hasStrengthPotion);
+        setName(id, name);
+        return id;
+    }
+
+    private int nextSlot() {
+        if (slotCount == health.length) allocate(health.length * 2);
+        return slotCount++;
+    }
+
+    /**
+     * Makes room for the given number of characters, so that the arrays do not regrow while a dungeon is made.
+     *
+     * @param capacity     The number of characters the store is expected to hold
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > health.length) allocate(capacity);
+        if (capacity > order.length) order = Arrays.copyOf(order, capacity);
+        occupancyIndex.ensureCapacity(capacity);
+    }
+
+    /**
+     * Grows the arrays of the store to a new number of slots.
+     *
+     * @param capacity     The new number of slots
+     */
+    private void allocate(int capacity) {
+        if (health == null) {
+            health = new int[capacity]; maxDamage = new int[capacity]; xCords = new int[capacity]; yCords = new int[capacity];
+            gold = new int[capacity]; numbers = new int[capacity];
+            types = new byte[capacity]; kinds = new byte[capacity]; flags = new byte[capacity];
+            generations = new int[capacity]; positions = new int[capacity];
+            return;
+        }
+        health = Arrays.copyOf(health, capacity); maxDamage = Arrays.copyOf(maxDamage, capacity);
+        xCords = Arrays.copyOf(xCords, capacity); yCords = Arrays.copyOf(yCords, capacity);
+        gold = Arrays.copyOf(gold, capacity); numbers = Arrays.copyOf(numbers, capacity);
+        types = Arrays.copyOf(types, capacity); kinds = Arrays.copyOf(kinds, capacity); flags = Arrays.copyOf(flags, capacity);
+        generations = Arrays.copyOf(generations, capacity); positions = Arrays.copyOf(positions, capacity);
+    }
+
+    // Getters and Setters for the fields of a character, by id
+    public String getName(int id) {
+        return (kinds[id] == KIND_NAMED) ? names.getOrDefault(id, "") : getKindName(kinds[id], numbers[id]);
+    }
+
+    /**
+     * Makes the name of a character that is named by its kind and number, such as "Goblin 3".
+     *
+     * @param kind       The kind of the character's name, other than KIND_NAMED
+     * @param number     The number in the character's name
+     * @return           The name of the character
+     */
+    public static String getKindName(int kind, int number) {
+        return getKindName(kind) + " " + number;
+    }
+
+    /**
+     * Returns the name of a kind of character, such as "Goblin".
+     *
+     * @param kind     The kind, other than KIND_NAMED
+     * @return         The name of the kind
+     */
+    public static String getKindName(int kind) {
+        return KIND_NAMES[kind];
+    }
+
+    /**
+     * Sets the name of a character. A name made of a kind and a number, such as "Goblin 3",
+     * is stored as the kind and the number.
+     *
+     * @param id        The id of the character
+     * @param name      The new name of the character
+     */
+    public void setName(int id, String name) {
+        int space = name.lastIndexOf(' ');
+        int kind = (space > 0) ? Arrays.asList(KIND_NAMES).indexOf(name.substring(0, space)) : -1;
+        int number = (kind > 0) ? parseNumber(name, space + 1) : -1;
+
+        markChanged(id);
+        if (number >= 0) {
+            kinds[id] = (byte) kind;
+            numbers[id] = number;
+            names.remove(id);
+        }
+        else {
+            kinds[id] = KIND_NAMED;
+            names.put(id, name);
+        }
+    }
+
+    /**
+     * Reads the number at the end of a name. A number with a leading zero would not be written
+     * back the same way, so it does not count as one.
+     *
+     * @param name      The name of the character
+     * @param start     The index of the first digit
+     * @return          The number, or -1 if the end of the name is not a number
+     */
+    private int parseNumber(String name, int start) {
+        if (start >= name.length() || name.length() - start > 9 || (name.charAt(start) == '0' && name.length() - start > 1)) return -1;
+
+        int number = 0;
+        for (int i = start; i < name.length(); i++) {
+            char digit = name.charAt(i);
+            if (digit < '0' || digit > '9') return -1;
+            number = number * 10 + (digit - '0');
+        }
+        return number;
+    }
+
+    public int getKind(int id) {
+        return kinds[id];
+    }
+
+    public int getNumber(int id) {
+        return numbers[id];
+    }
+
+    public int getHealth(int id) {
+        return health[id];
+    }
+
+    public void setHealth(int id, int health) {
+        markChanged(id);
+        this.health[id] = health;
+    }
+
+    public int getTypeValue(int id) {
+        return types[id];
+    }
+
+    public void setTypeValue(int id, int type) {
+        markChanged(id);
+        types[id] = (byte) type;
+    }
+
+    public int getMaxDamage(int id) {
+        return maxDamage[id];
+    }
+
+    public void setMaxDamage(int id, int maxDamage) {
+        markChanged(id);
+        this.maxDamage[id] = maxDamage;
+    }
+
+    public int getXCord(int id) {
+        return xCords[id];
+    }
+
+    public int getYCord(int id) {
+        return yCords[id];
+    }
+
+    /**
+     * Moves a character to a room and moves it in the occupancy index if it is a listed monster.
+     *
+     * @param id        The id of the character
+     * @param xCord     The new X coordinate of the character
+     * @param yCord     The new Y coordinate of the character
+     */
+    public void setXYCords(int id, int xCord, int yCord) {
+        if ((flags[id] & LISTED) != 0 && order[0] != id) occupancyIndex.move(id, xCords[id], yCords[id], xCord, yCord);
+        markChanged(id);
+        xCords[id] = xCord;
+        yCords[id] = yCord;
+    }
+
+    public int getGoldValue(int id) {
+        return gold[id];
+    }
+
+    public void setGoldValue(int id, int gold) {
+        markChanged(id);
+        this.gold[id] = gold;
+    }
+
+    public boolean getHasHealthPotion(int id) {
+        return (flags[id] & HEALTH_POTION) != 0;
+    }
+
+    public void setHasHealthPotion(int id, boolean hasHealthPotion) {
+        setFlag(id, HEALTH_POTION, hasHealthPotion);
+    }
+
+    public boolean getHasStrengthPotion(int id) {
+        return (flags[id] & STRENGTH_POTION) != 0;
+    }
+
+    public void setHasStrengthPotion(int id, boolean hasStrengthPotion) {
+        setFlag(id, STRENGTH_POTION, hasStrengthPotion);
+    }
+
+    private void setFlag(int id, byte flag, boolean value) {
+        markChanged(id);
+        flags[id] = (byte) (value ? (flags[id] | flag) : (flags[id] & ~flag));
+    }
+
+    // Handles of the characters
+    /**
+     * Returns the handle of a character, which stays valid until the character is removed.
+     *
+     * @param id    The id of the character
+     * @return      The handle of the character
+     */
+    public long getHandle(int id) {
+        return ((long) generations[id] << 32) | id;
+    }
+
+    public int getGeneration(int id) {
+        return generations[id];
+    }
+
+    /**
+     * Checks if a handle still belongs to a character that has not been removed.
+     *
+     * @param handle    The handle of the character
+     * @return          true if the handle is valid, and false if it is stale or NO_HANDLE
+     */
+    public boolean isValid(long handle) {
+        int id = (int) handle;
+        return handle != NO_HANDLE && id >= 0 && id < slotCount && (flags[id] & ALIVE) != 0 && generations[id] == (int) (handle >>> 32);
+    }
+
+    /**
+     * Returns a view of the character of a handle.
+     *
+     * @param handle    The handle of the character
+     * @return          A view of the character, or null if the handle is stale or NO_HANDLE
+     */
+    public Character resolve(long handle) {
+        return isValid(handle) ? new Character(session, (int) handle) : null;
+    }
+
+    /**
+     * Finds the position of the character of a handle in the list.
+     *
+     * @param handle    The handle of the character
+     * @return          The position of the character, or -1 if it is not listed or the handle is stale
+     */
+    public int indexOfHandle(long handle) {
+        return isValid(handle) ? indexOfId((int) handle) : -1;
+    }
+
+    // Methods of the list of characters in the dungeon
+    @Override
+    public Character get(int index) {
+        return new Character(session, getId(index));
+    }
+
+    /**
+     * Returns the id of the character at a position of the list.
+     *
+     * @param index     The position in the list
+     * @return          The id of the character
+     */
+    public int getId(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        return order[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a character to the end of the list. The first character added is the hero, and every
+     * character after it is put into the occupancy index.
+     *
+     * @param character     The character to add
+     * @return              true
+     */
+    @Override
+    public boolean add(Character character) {
+        add(size, character);
+        return true;
+    }
+
+    @Override
+    public void add(int index, Character character) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        int id = adopt(character);
+        if ((flags[id] & LISTED) != 0) throw new IllegalStateException(getName(id) + " is already in the list of characters");
+
+        if (size == order.length) order = Arrays.copyOf(order, size * 2);
+        System.arraycopy(order, index, order, index + 1, size - index);
+        order[index] = id;
+        size++;
+        modCount++;
+        updatePositions(index, size);
+
+        flags[id] |= LISTED;
+        if (index > 0) occupancyIndex.add(id, xCords[id], yCords[id]);
+        else if (size > 1) rebuildOccupancyIndex();
+    }
+
+    /**
+     * Removes the character at a position of the list and frees its slot. The last character of 
+     * the list takes the removed character's position, unless the hero is removed.
+     *
+     * @param index     The position in the list
+     * @return          A view of the removed character, which is stale afterward
+     */
+    @Override
+    public Character remove(int index) {
+        Character character = get(index);
+        removeRange(index, index + 1);
+        return character;
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        int index = indexOf(object);
+        if (index == -1) return false;
+        removeRange(index, index + 1);
+        return true;
+    }
+
+    /**
+     * Removes the characters in a range of positions. A single monster is removed by swapping the
+     * last character into its position, and other ranges are removed by moving the rest of the list back.
+     *
+     * @param fromIndex     The first position to remove
+     * @param toIndex       The position after the last position to remove
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        boolean removesEveryMonster = (fromIndex <= 1) && (toIndex == size);
+        if (removesEveryMonster) occupancyIndex.clear();
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            int id = order[i];
+            if (i > 0 && !removesEveryMonster) occupancyIndex.remove(id, xCords[id], yCords[id]);
+            free(id);
+        }
+
+        if (fromIndex > 0 && toIndex == fromIndex + 1) {
+            order[fromIndex] = order[size - 1];
+            size--;
+            updatePositions(fromIndex, Math.min(fromIndex + 1, size));
+        }
+        else {
+            System.arraycopy(order, toIndex, order, fromIndex, size - toIndex);
+            size -= toIndex - fromIndex;
+            updatePositions(fromIndex, size);
+        }
+        modCount++;
+        if (fromIndex == 0) rebuildOccupancyIndex();
+    }
+
+    private void updatePositions(int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            positions[order[i]] = i;
+            markChanged(order[i]);
+        }
+    }
+
+    @Override
+    public int indexOf(Object object) {
+        return (object instanceof Character character && character.getSession() == session) ? indexOfHandle(character.getHandle()) : -1;
+    }
+
+    /**
+     * Finds the position of a character in the list.
+     *
+     * @param id    The id of the character
+     * @return      The position of the character, or -1 if it is not listed
+     */
+    public int indexOfId(int id) {
+        return (id >= 0 && id < slotCount && (flags[id] & LISTED) != 0) ? positions[id] : -1;
+    }
+
+    /**
+     * Removes every character and frees every slot, including the slots of characters that were never listed.
+     */
+    @Override
+    public void clear() {
+        for (int id = 0; id < slotCount; id++) {
+            if ((flags[id] & ALIVE) != 0) generations[id]++;
+        }
+        Arrays.fill(flags, 0, slotCount, (byte) 0);
+        names.clear();
+        slotCount = 0;
+        freeCount = 0;
+        size = 0;
+        modCount++;
+        occupancyIndex.clear();
+        replaced = recordingChanges;
+    }
+
+    /**
+     * Replaces the list with the characters of another list, such as one read from a save file.
+     * Characters of another session are copied into this store. Every slot that is not in the
+     * new list is freed.
+     *
+     * @param list     The new list of characters, with the hero first
+     */
+    public void replaceContents(List<Character> list) {
+        if (list == this) return;
+
+        int[] ids = new int[list.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = adopt(list.get(i));
+        }
+        replaceContents(ids);
+    }
+
+    /**
+     * Replaces the list with the characters of the given ids, such as the characters that a save file
+     * was read into, without making a view of every character. Every slot that is not in the new list is freed.
+     *
+     * @param ids     The ids of the new list of characters, with the hero first
+     */
+    public void replaceContents(int[] ids) {
+        // Every slot is marked free, and then the slots of the new list are taken back out
+        for (int id = 0; id < slotCount; id++) {
+            flags[id] &= ~LISTED;
+        }
+        order = (ids.length > order.length) ? new int[ids.length] : order;
+        size = 0;
+        for (int id : ids) {
+            if ((flags[id] & LISTED) != 0) continue;
+            flags[id] |= LISTED;
+            positions[id] = size;
+            order[size++] = id;
+        }
+
+        freeCount = 0;
+        for (int id = slotCount - 1; id >= 0; id--) {
+            if ((flags[id] & LISTED) != 0) continue;
+            if ((flags[id] & ALIVE) != 0) free(id);
+            else pushFreeSlot(id);
+        }
+        modCount++;
+        rebuildOccupancyIndex();
+        replaced = recordingChanges;
+    }
+
+    /**
+     * Returns the id of a character in this store, and copies the character into a new slot if it belongs to another session.
+     *
+     * @param character     The character
+     * @return              The id of the character in this store
+     */
+    private int adopt(Character character) {
+        if (character.getSession() == session) return character.getId();
+        return create(character.getName(), character.getHealth(), character.getTypeValue(), character.getMaxDamage(),
+                character.getXCord(), character.getYCord(), character.getGoldValue(), character.getHasHealthPotion(),
+                character.getHasStrengthPotion());
+    }
+
+    /**
+     * Frees the slot of a character, which makes every handle of the character stale.
+     *
+     * @param id    The id of the character
+     */
+    private void free(int id) {
+        generations[id]++;
+        flags[id] = 0;
+        names.remove(id);
+        pushFreeSlot(id);
+    }
+
+    private void pushFreeSlot(int id) {
+        if (freeCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        freeSlots[freeCount++] = id;
+    }
+
+    /**
+     * Puts every listed character except the hero back into a new occupancy index.
+     */
+    private void rebuildOccupancyIndex() {
+        occupancyIndex.clear();
+        occupancyIndex.ensureCapacity(size);
+        for (int i = 1; i < size; i++) {
+            occupancyIndex.add(order[i], xCords[order[i]], yCords[order[i]]);
+        }
+    }
+
+    // Changes of the characters
+    public boolean isRecordingChanges() {
+        return recordingChanges;
+    }
+
+    /**
+     * Starts or stops remembering the characters that change. Changes from before the recording 
+     * started are not remembered.
+     *
+     * @param recordingChanges     Whether the changed characters should be remembered
+     */
+    public void setRecordingChanges(boolean recordingChanges) {
+        if (recordingChanges == this.recordingChanges) return;
+
+        takeChangedIds();
+        this.recordingChanges = recordingChanges;
+    }
+
+    /**
+     * Checks if the whole list was cleared or replaced (e.g. by a loaded save) since the changes were
+     * last taken, in which case the changed ids alone do not describe the list.
+     *
+     * @return      true if the list was replaced, and false otherwise
+     */
+    public boolean wasReplaced() {
+        return replaced;
+    }
+
+    public int getChangedCount() {
+        return changedCount;
+    }
+
+    /**
+     * Returns the listed characters that were changed, added, or moved to another position since the
+     * changes were last taken, and starts remembering anew. Characters that were removed are not
+     * returned, since the list size tells which positions are gone.
+     *
+     * @return      The ids of the changed characters that are still listed
+     */
+    public int[] takeChangedIds() {
+        int[] ids = new int[changedCount];
+        int count = 0;
+        for (int i = 0; i < changedCount; i++) {
+            int id = changedIds[i];
+            if ((flags[id] & CHANGED) == 0) continue;    // The id was already taken, or its slot was freed
+
+            flags[id] &= ~CHANGED;
+            if ((flags[id] & LISTED) != 0) ids[count++] = id;
+        }
+
+        changedCount = 0;
+        replaced = false;
+        if (changedIds.length > 4096) changedIds = new int[16];
+        return (count == ids.length) ? ids : Arrays.copyOf(ids, count);
+    }
+
+    private void markChanged(int id) {
+        if (!recordingChanges || (flags[id] & CHANGED) != 0) return;
+
+        flags[id] |= CHANGED;
+        if (changedCount == changedIds.length) changedIds = Arrays.copyOf(changedIds, changedCount * 2);
+        changedIds[changedCount++] = id;
+    }
+
+    // Queries of the dungeon
+    /**
+     * Returns the id of the listed monster in a room.
+     *
+     * @param xCord     The X coordinate of the room
+     * @param yCord     The Y coordinate of the room
+     * @return          The id of the character in the room, or -1 if the room is empty
+     */
+    public int getIdInRoom(int xCord, int yCord) {
+        return occupancyIndex.get(xCord, yCord);
+    }
+
+    public boolean isRoomOccupied(int xCord, int yCord) {
+        return occupancyIndex.isOccupied(xCord, yCord);
+    }
+
+    /**
+     * Counts the monsters (every character that is not a merchant) directly north, south, east, or west of a room.
+     *
+     * @param xCord     The X coordinate of the room
+     * @param yCord     The Y coordinate of the room
+     * @return          The number of adjacent monsters
+     */
+    public int countAdjacentMonsters(int xCord, int yCord) {
+        return isMonster(occupancyIndex.get(xCord, yCord - 1)) + isMonster(occupancyIndex.get(xCord, yCord + 1))
+                + isMonster(occupancyIndex.get(xCord + 1, yCord)) + isMonster(occupancyIndex.get(xCord - 1, yCord));
+    }
+
+    private int isMonster(int id) {
+        return (id != -1 && types[id] != 1) ? 1 : 0;
+    }
+
+    /**
+     * Finds the next listed character that is dead by walking the health array.
+     *
+     * @param fromIndex     The position in the list to start at
+     * @return              The position of the next dead character, or -1 if there is none
+     */
+    public int findDead(int fromIndex) {
+        for (int i = fromIndex; i < size; i++) {
+            if (health[order[i]] <= 0) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Estimates the bytes used per listed character by the arrays of the store and its occupancy index.
+     *
+     * @return      The number of bytes per character
+     */
+    public double getBytesPerCharacter() {
+        long bytes = (long) health.length * (8 * Integer.BYTES + 3) + (long) order.length * Integer.BYTES + occupancyIndex.getBytes();
+        return (size == 0) ? 0 : (double) bytes / size;
+    }
+}
@@ -0,0 +1,259 @@
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import javax.swing.JComponent;
+import javax.swing.ToolTipManager;
+
+/**
+ * Paints the map of the dungeon as one component, no matter how many rooms the dungeon has. A camera
+ * chooses the part of the dungeon that is shown, so only the rooms inside the area being repainted are
+ * drawn, and a move of the hero only repaints the hero's old and new room. The map can be panned by
+ * dragging it and zoomed with the mouse wheel, and a double click centers it on the hero again.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+@SuppressWarnings("serial")
+public final class DungeonMapPanel extends JComponent {
+
+    private static final int FIT_ROOMS = 15;             // The most rooms shown along each side of the map before it is zoomed
+    private static final int MIN_ROOM_PIXELS = 1;       // The smallest size of a room on screen
+    private static final int MAX_ROOM_PIXELS = 128;     // The largest size of a room on screen
+    private static final int WALL_PIXELS = 4;           // The smallest size of a room on screen that still has lines drawn around it
+
+    private final Rectangle clip = new Rectangle();     // The area being repainted. Reused, so painting does not allocate
+    private Color backgroundColor, roomColor;           // The colors around the dungeon and of a room, taken from the theme
+    private Color wallColor, heroColor;                 // The colors of the lines between rooms and of the hero's room, taken from the theme
+
+    private int dungeonSize = 0;                        // The size of the dungeon that is shown
+    private int roomPixels = 0;                         // The size of a room on screen
+    private int cameraX = 0, cameraY = 0;               // The point of the dungeon (in pixels) shown in the top left corner
+    private int heroX = -1, heroY = -1;                 // The coordinates of the room that is shown as the hero's room
+    private int dragX, dragY;                           // The last position of the mouse while the map is dragged
+
+    /**
+     * Creates an empty map. The map shows a dungeon once updateHero() was called.
+     *
+     * @param theme       The theme whose colors the map is painted with
+     */
+    public DungeonMapPanel(Theme theme) {
+        setTheme(theme);
+        setOpaque(true);
+        ToolTipManager.sharedInstance().registerComponent(this);
+
+        MouseAdapter mouseHandler = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragX = e.getX(); dragY = e.getY();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                moveCamera(cameraX + dragX - e.getX(), cameraY + dragY - e.getY());
+                dragX = e.getX(); dragY = e.getY();
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) centerOnHero();
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                int step = Math.max(1, roomPixels / 4);
+                zoom((e.getWheelRotation() < 0) ? roomPixels + step : roomPixels - step, e.getX(), e.getY());
+            }
+        };
+        addMouseListener(mouseHandler);
+        addMouseMotionListener(mouseHandler);
+        addMouseWheelListener(mouseHandler);
+    }
+
+    // Getters for DungeonMapPanel class
+    public int getRoomPixels() {
+        return roomPixels;
+    }
+
+    public int getCameraX() {
+        return cameraX;
+    }
+
+    public int getCameraY() {
+        return cameraY;
+    }
+
+    /**
+     * Takes the colors of the map from a theme, so painting does not look up any colors.
+     *
+     * @param theme     The theme whose colors the map is painted with
+     */
+    public void setTheme(Theme theme) {
+        backgroundColor = theme.getColor("BLACK");
+        roomColor = theme.getColor("DARK_GRAY");
+        wallColor = theme.getColor("GRAY");
+        heroColor = theme.getColor("GREEN");
+        repaint();
+    }
+
+    /**
+     * Shows the hero's current room. A new dungeon is shown at the default zoom and centered on the hero. Otherwise,
+     * only the hero's old and new room are repainted, and the map is only centered on the hero again if the hero
+     * left the shown part of the dungeon.
+     *
+     * @param newDungeonSize    The size of the dungeon
+     * @param newHeroX          The X coordinate of the hero's room
+     * @param newHeroY          The Y coordinate of the hero's room
+     */
+    public void updateHero(int newDungeonSize, int newHeroX, int newHeroY) {
+        if (newDungeonSize != dungeonSize || roomPixels == 0) {
+            dungeonSize = newDungeonSize;
+            heroX = newHeroX; heroY = newHeroY;
+            roomPixels = Math.clamp(Math.min(getViewWidth(), getViewHeight()) / Math.min(dungeonSize, FIT_ROOMS), MIN_ROOM_PIXELS, MAX_ROOM_PIXELS);
+            centerOnHero();
+            return;
+        }
+
+        if (newHeroX == heroX && newHeroY == heroY) return;
+
+        repaintRoom(heroX, heroY);
+        heroX = newHeroX; heroY = newHeroY;
+
+        if (isRoomShown(heroX, heroY)) repaintRoom(heroX, heroY);
+        else centerOnHero();
+    }
+
+    /**
+     * Moves the camera so that the hero's room is in the center of the map.
+     */
+    public void centerOnHero() {
+        moveCamera(heroX * roomPixels + (roomPixels - getViewWidth()) / 2, heroY * roomPixels + (roomPixels - getViewHeight()) / 2);
+        repaint();
+    }
+
+    /**
+     * Changes the size of the rooms on screen, keeping the room under the mouse in place.
+     *
+     * @param newRoomPixels     The new size of a room on screen
+     * @param anchorX           The X position on the map that should stay in place
+     * @param anchorY           The Y position on the map that should stay in place
+     */
+    public void zoom(int newRoomPixels, int anchorX, int anchorY) {
+        newRoomPixels = Math.clamp(newRoomPixels, MIN_ROOM_PIXELS, MAX_ROOM_PIXELS);
+        if (newRoomPixels == roomPixels) return;
+
+        long pointX = (long) (cameraX + anchorX) * newRoomPixels / roomPixels;
+        long pointY = (long) (cameraY + anchorY) * newRoomPixels / roomPixels;
+        roomPixels = newRoomPixels;
+
+        moveCamera((int) pointX - anchorX, (int) pointY - anchorY);
+        repaint();
+    }
+
+    /**
+     * Returns the coordinates of the room as a tooltip. The text is only made while the mouse hovers over the map.
+     *
+     * @param e     The mouse event of the hover
+     * @return      The coordinates of the room under the mouse, or null if there is no room under the mouse
+     */
+    @Override
+    public String getToolTipText(MouseEvent e) {
+        if (roomPixels == 0) return null;
+
+        int xCord = Math.floorDiv(cameraX + e.getX(), roomPixels), yCord = Math.floorDiv(cameraY + e.getY(), roomPixels);
+        if (xCord < 0 || yCord < 0 || xCord >= dungeonSize || yCord >= dungeonSize) return null;
+
+        return "X: " + xCord + ", Y: " + yCord;
+    }
+
+    /**
+     * Paints the rooms inside the area being repainted. The rooms are filled as one rectangle and the lines between
+     * them are drawn once per shown row and column, so painting does not depend on the size of the dungeon.
+     *
+     * @param g     The graphics to paint with
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        clip.setBounds(0, 0, getWidth(), getHeight());
+        g.getClipBounds(clip);
+
+        g.setColor(backgroundColor);
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        if (roomPixels == 0) return;
+
+        // The first and last room inside the area being repainted
+        int firstX = Math.max(0, Math.floorDiv(cameraX + clip.x, roomPixels));
+        int firstY = Math.max(0, Math.floorDiv(cameraY + clip.y, roomPixels));
+        int lastX = Math.min(dungeonSize - 1, Math.floorDiv(cameraX + clip.x + clip.width - 1, roomPixels));
+        int lastY = Math.min(dungeonSize - 1, Math.floorDiv(cameraY + clip.y + clip.height - 1, roomPixels));
+        if (firstX > lastX || firstY > lastY) return;
+
+        int left = firstX * roomPixels - cameraX, top = firstY * roomPixels - cameraY;
+        int right = (lastX + 1) * roomPixels - cameraX, bottom = (lastY + 1) * roomPixels - cameraY;
+
+        g.setColor(roomColor);
+        g.fillRect(left, top, right - left, bottom - top);
+
+        boolean hasWalls = roomPixels >= WALL_PIXELS;
+        if (hasWalls) {
+            g.setColor(wallColor);
+            for (int x = left; x <= right; x += roomPixels) g.drawLine(x, top, x, bottom);
+            for (int y = top; y <= bottom; y += roomPixels) g.drawLine(left, y, right, y);
+        }
+
+        if (heroX >= firstX && heroX <= lastX && heroY >= firstY && heroY <= lastY) {
+            int inset = hasWalls ? 1 : 0;
+            g.setColor(heroColor);
+            g.fillRect(heroX * roomPixels - cameraX + inset, heroY * roomPixels - cameraY + inset, roomPixels - inset, roomPixels - inset);
+        }
+    }
+
+    /**
+     * Moves the camera, keeping as much of the dungeon on screen as possible. A dungeon smaller than the map is centered.
+     *
+     * @param x     The new X position of the camera in pixels
+     * @param y     The new Y position of the camera in pixels
+     */
+    private void moveCamera(int x, int y) {
+        int newCameraX = clampCamera(x, getViewWidth()), newCameraY = clampCamera(y, getViewHeight());
+        if (newCameraX == cameraX && newCameraY == cameraY) return;
+
+        cameraX = newCameraX; cameraY = newCameraY;
+        repaint();
+    }
+
+    private int clampCamera(int position, int viewPixels) {
+        int dungeonPixels = dungeonSize * roomPixels;
+        if (dungeonPixels <= viewPixels) return (dungeonPixels - viewPixels) / 2;
+        return Math.clamp(position, 0, dungeonPixels - viewPixels);
+    }
+
+    private boolean isRoomShown(int xCord, int yCord) {
+        int x = xCord * roomPixels - cameraX, y = yCord * roomPixels - cameraY;
+        return x >= 0 && y >= 0 && x + roomPixels <= getViewWidth() && y + roomPixels <= getViewHeight();
+    }
+
+    private void repaintRoom(int xCord, int yCord) {
+        repaint(xCord * roomPixels - cameraX, yCord * roomPixels - cameraY, roomPixels + 1, roomPixels + 1);
+    }
+
+    /**
+     * Returns the width of the map, or its preferred width if it was not laid out yet.
+     *
+     * @return      The width of the map in pixels
+     */
+    private int getViewWidth() {
+        return (getWidth() > 0) ? getWidth() : getPreferredSize().width;
+    }
+
+    /**
+     * Returns the height of the map, or its preferred height if it was not laid out yet.
+     *
+     * @return      The height of the map in pixels
+     */
+    private int getViewHeight() {
+        return (getHeight() > 0) ? getHeight() : getPreferredSize().height;
+    }
+}
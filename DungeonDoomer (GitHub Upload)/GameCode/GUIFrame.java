@@ -7,9 +7,14 @@ import java.awt.GridLayout;
 import java.awt.Toolkit;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
-import java.lang.reflect.Field;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
 import javax.swing.JButton;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
@@ -20,6 +25,7 @@ import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
 import javax.swing.JTextField;
 import javax.swing.SwingUtilities;
+import javax.swing.text.BadLocationException;
 
 /**
  * Holds most of the frontend components for the game. 
@@ -28,7 +34,7 @@ import javax.swing.SwingUtilities;
  * @since  08.19.2024
  */
 @SuppressWarnings("unused")
-public class GUIFrame extends JFrame {
+public class GUIFrame extends JFrame implements GameListener {
     
     private JPanel primaryPanel;    // The primary panel for all visual elements. Everything is added and removed from/to here
     
@@ -39,27 +45,38 @@ public class GUIFrame extends JFrame {
     private JTextArea outputTerminal;   // The text area for the output in the createTerminal() method
     private JTextField nameField;       // The text field of the user's name when entered in mainMenu() method 
     
-    private String terminalOutput = "";  // A large string that hold all text printed to the output terminal 
     private String terminalInput = "";   // A string that hold all text inputted by the user into the input terminal 
     private String statusName = "";      // Used in switch case in createStatusPanel() as the name of a hero's attribute
     private String buttonName = "";      // Used in switch case in mainMenu() to store the name of a button 
     private String userInput = "";       // A string that stores the most recent input of the user into the GUI terminal 
-    private String valueName = "";       // Used in switch case in createStatusPanel() to store the value of an attribute
     private String heroName = "";        // Stores the name of the hero when the user enters it in the mainMenu() method
     
-    private ArrayList<Character> characterList;       // The ArrayList of characters found in and around the dungeon
+    private List<Character> characterList;            // The list of characters found in and around the dungeon
     private Integer mainMenuButtonCounter = 0;        // Used in switch case in mainMenu() to track the number of buttons created
     private Integer statusPanelCounter = -1;          // Used in switch case in createStatusPanel() to track the number of panels created
     private Character hero;                           // A character class object that holds the info for the hero
     
     private LanguageTranslation[] statusPanelTranslations;           // Holds the status' name translations in an array  
     private boolean isAdmin = false, nameEntered = false;            // These track if the user has given a hero name or is admin 
-    private ArrayList<JPanel> panelGrid = new ArrayList<>();         // Stores the JPanel objects located in each part of the map grid
-    private ArrayList<JButton> buttonGrid = new ArrayList<>();       // Stores the JPanel objects for the main menu buttons 
-    private SaveFileMaker saveFileMaker = new SaveFileMaker();       // The class object for the Save File Maker file. 
+    private JScrollPane outputScrollPane;                            // The scroll pane around the output terminal
+    private JLabel[] statusValueLabels = new JLabel[GameScreenSnapshot.STATUS_COUNT];    // The labels that show the values of the hero's attributes
+    private boolean gameScreenShown = false;                         // Whether the primary panel shows the game screen, which is then only updated where it changed
+    private TerminalLog terminalLog = new TerminalLog(MainLogic.getTerminalLineLimit());    // The newest lines printed to the output terminal
+    private GameSession session = MainLogic.getSession();            // The game session that this window is a client of
+    private SaveFileMaker saveFileMaker = new SaveFileMaker(session); // The class object for the Save File Maker file. 
     private SaveFileReader saveFileReader = new SaveFileReader();    // The class object for the Save File Reader file. 
+    private TurnJournal turnJournal = MainLogic.getTurnJournal();    // Writes every turn, so an unfinished game can be resumed
+    private GameHistory gameHistory = new GameHistory(session, MainLogic.getHistoryDepth());    // Keeps the last turns, so they can be undone in casual mode
+    private List<Theme> themes = Theme.loadAll(Paths.get(Theme.THEME_FOLDER));    // The default theme and the themes of the theme files
+    private Theme theme = themes.getFirst();                         // The theme whose colors are used by every component of the window
+    private DungeonMapPanel dungeonMap = new DungeonMapPanel(theme);    // The map of the dungeon in the center of the game screen
+    private GameLogicExecutor gameLogic = new GameLogicExecutor(MainLogic.getGameLog());   // Runs the rules of the game on a thread of its own
+    private volatile GameScreenSnapshot latestSnapshot;             // The newest state of the game, to be shown by the game screen
+    private volatile boolean gameScreenRequested = false;            // Whether the game screen should be shown, which is false once a menu replaced it
+    private AtomicBoolean screenUpdateScheduled = new AtomicBoolean(); // Whether an update of the game screen waits on the event thread
+    private long dialogNanos = 0;                                    // The time the logic thread waited for the user to close popups, which is left out of the command latency
     
-    private String[] adminCommands = {"perish", "escape", "list", "size", "status", "break lang", "money"};   // A list of commands that can be used if user is admin
+    private String[] adminCommands = {"perish", "escape", "list", "size", "status", "break lang", "money", "seed"};   // A list of commands that can be used if user is admin
     
     /**
      * Constructor that initializes the game.
@@ -109,12 +126,39 @@ public class GUIFrame extends JFrame {
         return inputTerminal.getText();
     }
 
-    public ArrayList<JPanel> getPanelGrid() {
-        return panelGrid;
+    public DungeonMapPanel getDungeonMap() {
+        return dungeonMap;
     }
 
-    public ArrayList<JButton> getButtonGrid() {
-        return buttonGrid;
+    public GameLogicExecutor getGameLogic() {
+        return gameLogic;
+    }
+
+    public Theme getTheme() {
+        return theme;
+    }
+
+    /**
+     * Changes the theme of the window. Components that are created afterward use the colors of the new theme. 
+     * 
+     * @param newTheme     The theme whose colors should be used
+     */
+    public void setTheme(Theme newTheme) {
+        theme = newTheme;
+        dungeonMap.setTheme(newTheme);
+        gameScreenShown = false;
+    }
+
+    /**
+     * Changes the theme of the window to the next of the loaded themes and tells the user its name. 
+     */
+    private void toggleTheme() {
+        setTheme(themes.get((themes.indexOf(theme) + 1) % themes.size()));
+        
+        switch (session.getLanguage()) {
+            case "English": pushMessage("The theme is set to " + theme.getName() + "."); break;
+            case "German": pushMessage("Das Design wurde auf " + theme.getName() + " gesetzt."); break;
+        }
     }
 
     public void setIsAdmin(boolean privilege) {
@@ -130,53 +174,68 @@ public class GUIFrame extends JFrame {
             heroName = nameField.getText().toLowerCase().trim();
             setNameEntered(true);
             if (heroName.equalsIgnoreCase("admin")) setIsAdmin(true);
-            if (playGame) playGame(true);
+            if (playGame) gameLogic.submit(() -> { playGame(true); recordTurn(); });
         }
     }
 
     /**
-     * TODO: make java comment 
-     * 
-     * @return
+     * Clears the primary panel of its contents and updates the UI. 
      */
-    public int calculateHeroLocationID() {
-        return (MainLogic.getCharacterList().get(0).getYCord() * MainLogic.getCharacterList().get(0).getDungeonSize()) + MainLogic.getCharacterList().get(0).getXCord();
+    public void clearPrimaryAndUpdate() {
+        primaryPanel.removeAll(); 
+        primaryPanel.updateUI();
+        gameScreenShown = false;
+        gameScreenRequested = false;
     }
 
     /**
-     * TODO: make java comment 
-     * 
-     * @param index
-     * @return
+     * Hands the current state of the game to the event thread, which shows it on the game screen. Calls that are made 
+     * before the event thread gets to the update are shown as one update of the newest state. 
      */
-    public int[] calculateCordsFromLocationID(int index) {
-        int[] coordinates = new int[2];
-        
-        try { coordinates[0] = (int)(index % MainLogic.getDungeonSize()); } catch (ArithmeticException e) { coordinates[0] = 0; }
-        try { coordinates[1] = (int)(index / MainLogic.getDungeonSize()); } catch (ArithmeticException e) { coordinates[1] = 0; }
-        
-        return coordinates;
+    public void fullGameGraphicsUpdate() {
+        MainLogic.getGameMetrics().recordScreenUpdateRequest();
+        latestSnapshot = GameScreenSnapshot.capture(session);
+        gameScreenRequested = true;
+        scheduleScreenUpdate();
     }
 
     /**
-     * Clears the primary panel of its contents and updates the UI. 
+     * Asks the event thread to update the game screen, unless an update is already waiting. 
      */
-    public void clearPrimaryAndUpdate() {
-        primaryPanel.removeAll(); 
-        primaryPanel.updateUI();
+    private void scheduleScreenUpdate() {
+        if (!screenUpdateScheduled.getAndSet(true)) SwingUtilities.invokeLater(this::showGameScreen);
     }
 
     /**
-     * Clears the primary panel and re-adds graphics by calling the main "create" methods. 
+     * Shows the game screen by calling the main "create" methods, or only updates the parts of the screen that changed 
+     * if it is already shown. The game screen is built again only after another menu replaced it, so an input takes 
+     * the same time to show in a dungeon of any size. Runs on the event thread. 
      */
-    public void fullGameGraphicsUpdate() {
+    private void showGameScreen() {
+        screenUpdateScheduled.set(false);
+        GameScreenSnapshot snapshot = latestSnapshot;
+        if (!gameScreenRequested || snapshot == null) return;
+        long startTime = System.nanoTime();
+        GameEvents.ScreenUpdate updateEvent = GameEvents.startScreenUpdate();
+        
+        if (gameScreenShown) {
+            snapshot.showIn(statusValueLabels);
+            updateTerminal();
+            dungeonMap.updateHero(snapshot.getDungeonSize(), snapshot.getHeroX(), snapshot.getHeroY());
+            MainLogic.getGameMetrics().recordScreenUpdate(false, System.nanoTime() - startTime);
+            if (updateEvent != null) updateEvent.finish(false, snapshot.getDungeonSize());
+            return;
+        }
+        
         clearPrimaryAndUpdate();
-        createStatusPanel();
+        createStatusPanel(snapshot);
         createTitlePanel();
         createTerminal();
-        panelGrid.clear();
-        buttonGrid.clear();
-        createMap();
+        createMap(snapshot);
+        gameScreenShown = true;
+        gameScreenRequested = true;
+        MainLogic.getGameMetrics().recordScreenUpdate(true, System.nanoTime() - startTime);
+        if (updateEvent != null) updateEvent.finish(true, snapshot.getDungeonSize());
     }
 
     /**
@@ -185,14 +244,15 @@ public class GUIFrame extends JFrame {
      * @param thingToPrint     The string to "print" or add to the output terminal
      */
     public void printToTerminal(String thingToPrint) { 
-        terminalOutput += thingToPrint;
+        terminalLog.append(thingToPrint);
+        scheduleScreenUpdate();
     }
 
     /**
      * Clears both the input and output terminals of all text. 
      */
     public void clearTerminals() {
-        terminalOutput = "";
+        terminalLog.clear();
         terminalInput = "";
     }
 
@@ -201,7 +261,7 @@ public class GUIFrame extends JFrame {
      */
     public void clearTerminalsAndUpdate() {
         clearTerminals();
-        createTerminal();
+        scheduleScreenUpdate();
     }
 
     /**
@@ -210,22 +270,111 @@ public class GUIFrame extends JFrame {
      * @param message     A string message to be included in the popup
      */
     public void pushMessage(String message) {
-        JOptionPane.showMessageDialog(this, message);
+        showDialog(() -> { JOptionPane.showMessageDialog(this, message); return 0; });
+    }
+
+    /**
+     * Shows a popup on the event thread and waits until the user closes it. When called on the logic thread, only 
+     * the logic thread waits, so the window keeps painting. 
+     * 
+     * @param dialog     Shows the popup and returns the answer of the user
+     * @return           The answer of the user, or -1 if the popup could not be shown
+     */
+    private int showDialog(IntSupplier dialog) {
+        if (SwingUtilities.isEventDispatchThread()) return dialog.getAsInt();
+        
+        int[] answer = {-1};
+        long startTime = System.nanoTime();
+        try { 
+            SwingUtilities.invokeAndWait(() -> answer[0] = dialog.getAsInt()); 
+        }
+        catch (InterruptedException e) { 
+            Thread.currentThread().interrupt(); 
+        }
+        catch (InvocationTargetException e) { 
+            MainLogic.getGameLog().error("A dialog could not be shown", e.getCause()); 
+        }
+        if (gameLogic.isLogicThread()) dialogNanos += System.nanoTime() - startTime;
+        return answer[0];
     }
 
     /**
-     * Creates a popup to warn user about unsaved progress before closing window. 
+     * Creates a popup that asks the user to confirm closing the window. The turn journal keeps the game, 
+     * so it is offered to be continued when the game is started again. Runs on the logic thread. 
      */
     public void pushCloseMessage() {
         String title = "", message = "";
 
-        switch (MainLogic.getLanguage()) {
-            case "English": title = "Warning"; message = "All unsaved progress will be lost! Do you want to continue?"; break;
-            case "German": title = "Achtung"; message = "Alle nicht gespeicherten Informationen geht verloren! Möchten Sie fortfahren?"; break;
+        switch (session.getLanguage()) {
+            case "English": title = "Close Game"; message = "Your game is kept and can be continued the next time you start the game. Do you want to close the game?"; break;
+            case "German": title = "Spiel schließen"; message = "Ihr Spiel wird aufbewahrt und kann beim nächsten Start fortgesetzt werden. Möchten Sie das Spiel schließen?"; break;
         }
 
-        Integer yesOrNo = JOptionPane.showConfirmDialog(null, message, title, JOptionPane.YES_NO_OPTION);
-        if (yesOrNo == 0) { MainLogic.getGameWindow().dispose(); }
+        String closeTitle = title, closeMessage = message;
+        Integer yesOrNo = showDialog(() -> JOptionPane.showConfirmDialog(null, closeMessage, closeTitle, JOptionPane.YES_NO_OPTION));
+        if (yesOrNo == 0) shutDown();
+    }
+
+    /**
+     * Closes the turn journal, the save writer, and the log, and then the window. Every way of closing the game 
+     * ends here, so the last turns and any save that is still being written reach the disk before the program ends. 
+     * Runs on the logic thread, so nothing is closed while a command is running. 
+     */
+    private void shutDown() {
+        turnJournal.close();
+        MainLogic.getSaveWriter().close();
+        MainLogic.getGameLog().close();
+        SwingUtilities.invokeLater(() -> MainLogic.getGameWindow().dispose()); 
+    }
+
+    /**
+     * Offers to resume the game that the turn journal kept when the window was last closed, and starts 
+     * the journal afterward. Runs on the logic thread once the window is open. 
+     */
+    public void offerToResumeGame() {
+        SavePreview unfinishedGame = turnJournal.findUnfinishedGame();
+        
+        if (unfinishedGame != null) {
+            String title = "", message = "";
+            switch (session.getLanguage()) {
+                case "English": title = "Unfinished Game"; message = "The game of " + unfinishedGame.getHeroName() + " was not finished. Would you like to continue it?"; break;
+                case "German": title = "Unvollendetes Spiel"; message = "Das Spiel von " + unfinishedGame.getHeroName() + " wurde nicht beendet. Möchten Sie es fortsetzen?"; break;
+            }
+            
+            String resumeTitle = title, resumeMessage = message;
+            Integer yesOrNo = showDialog(() -> JOptionPane.showConfirmDialog(null, resumeMessage, resumeTitle, JOptionPane.YES_NO_OPTION));
+            if (yesOrNo == 0) { 
+                resumeUnfinishedGame(); 
+            }
+            else turnJournal.discardUnfinishedGame();
+        }
+        turnJournal.start();
+        recordTurn();
+    }
+
+    /**
+     * Loads the last turn of the unfinished game from the turn journal and shows the game screen. 
+     */
+    private void resumeUnfinishedGame() {
+        int characterInSameRoom;
+        try { 
+            characterInSameRoom = turnJournal.recover(); 
+        }
+        catch (IOException ioe) {
+            MainLogic.getGameLog().error("The unfinished game could not be resumed", ioe);
+            session.getCharacterList().clear();
+            pushMessage(new LanguageTranslation("The unfinished game could not be loaded.", "Das unvollendete Spiel konnte nicht geladen werden.").extrapolate());
+            return;
+        }
+        
+        session.setCharacterList(session.getCharacterList());
+        session.setCharacterInSameRoomIndex(characterInSameRoom);
+        session.setGameStart(false);
+        characterList = session.getCharacterList();
+        hero = characterList.getFirst();
+        if (hero.getName().equalsIgnoreCase("admin")) setIsAdmin(true);
+        
+        playGame(true);
     }
 
     /**
@@ -234,15 +383,16 @@ public class GUIFrame extends JFrame {
     public void pushEscapeMessage() {
         String title = "", message = "";
 
-        switch (MainLogic.getLanguage()) {
+        switch (session.getLanguage()) {
             case "English": title = "Congrats"; message = "You have escaped the dungeon! Would you like to keep exploring?"; break;
             case "German": title = "Glückwunsch"; message = "Sie sind aus dem Kerker entkommen! Möchten Sie weiter abenteuern?"; break;
         }
         
-        Integer yesOrNo = JOptionPane.showConfirmDialog(null, message, title, JOptionPane.YES_NO_OPTION);
+        String escapeTitle = title, escapeMessage = message;
+        Integer yesOrNo = showDialog(() -> JOptionPane.showConfirmDialog(null, escapeMessage, escapeTitle, JOptionPane.YES_NO_OPTION));
 
         if (yesOrNo == 0) { 
-            MainLogic.setGameRerun(true);
+            session.setGameRerun(true);
         }
         else if (yesOrNo == 1) { pushCloseMessage(); }
     }
@@ -253,23 +403,33 @@ public class GUIFrame extends JFrame {
     public void pushDeathMessage() {
         String title = "", message = "";
         
-        switch (MainLogic.getLanguage()) {
+        switch (session.getLanguage()) {
             case "English": title = "Game Over"; message = "You have perished. Click “Okay“ to close or “Cancel“ to reload from a save."; break;
             case "German": title = "Spiel vorbei"; message = "Sie sind gestorben. Drücken Sie „OK“, um zu schließen, oder „Abbrechen“, um aus einer gespeicherten Datei zu laden."; break;
         }
         
-        Integer yesOrNo = JOptionPane.showConfirmDialog(null, message, title, JOptionPane.OK_CANCEL_OPTION);
+        String deathTitle = title, deathMessage = message;
+        Integer yesOrNo = showDialog(() -> JOptionPane.showConfirmDialog(null, deathMessage, deathTitle, JOptionPane.OK_CANCEL_OPTION));
         if (yesOrNo == 2) {
             
             try { 
                 clearTerminalsAndUpdate(); 
-                MainLogic.setIsSaveLoading(true); 
+                session.setIsSaveLoading(true); 
                 playGame(true); 
             } 
-            catch (Exception e) { e.printStackTrace(MainLogic.getPrintStream()); }
+            catch (Exception e) { MainLogic.getGameLog().error("The game could not be started", e); }
             
         }
-        else if (yesOrNo == 0) { MainLogic.getGameWindow().dispose(); }
+        else if (yesOrNo == 0) { shutDown(); }
+    }
+
+    /**
+     * Redraws the game and clears the terminals after the dungeon was reset for the hero to keep exploring. 
+     */
+    @Override
+    public void gameRerun() {
+        playGame(false);
+        clearTerminalsAndUpdate();
     }
 
     /**
@@ -284,7 +444,36 @@ public class GUIFrame extends JFrame {
         }
         catch (IllegalStateException ise) {
             MainLogic.getGameWindow().pushMessage(ise.getMessage());
-            ise.printStackTrace(MainLogic.getPrintStream());
+            MainLogic.getGameLog().error("An illegal state was reached", ise);
+        }
+    }
+
+    /**
+     * Counts a move of the hero in the game metrics. 
+     */
+    @Override
+    public void heroMoved() {
+        MainLogic.getGameMetrics().recordMove();
+    }
+
+    /**
+     * Counts a fight that was started in the game metrics. 
+     */
+    @Override
+    public void combatStarted() {
+        MainLogic.getGameMetrics().recordCombat();
+    }
+
+    /**
+     * Writes an error that the game session went on after to the game log. If the error was an unsupported 
+     * language, the user is also told that the game is in English now. 
+     */
+    @Override
+    public void logError(String message, Throwable throwable) {
+        MainLogic.getGameLog().error(message, throwable);
+        
+        if (throwable instanceof IllegalLanguageException) {
+            pushMessage("An Illegal Language Exception has been thrown. The game's language will now default to English.");
         }
     }
 
@@ -315,7 +504,7 @@ public class GUIFrame extends JFrame {
         gameTitlePanel.add(gameTitleLabel);
         
         String authorLabelText = "", nameLabelText = "";
-        switch (MainLogic.getLanguage()) {
+        switch (session.getLanguage()) {
             case "English": authorLabelText = "Made By: Blake Payne"; nameLabelText = "Enter Hero Name:"; break;
             case "German": authorLabelText = "Hergestellt von: Blake Payne"; nameLabelText = "Geben Sie den Name ein:"; break;
         }
@@ -365,7 +554,7 @@ public class GUIFrame extends JFrame {
             // TODO: call factory function on this 
             JPanel buttonPanel = new JPanel();
             buttonPanel.setLayout(new FlowLayout(FlowLayout.CENTER, 0, (screenHeight / 2 - 125) / 2));
-            buttonPanel.setBackground(Color.DARK_GRAY.darker());
+            buttonPanel.setBackground(getColor("DARK_GRAY").darker());
             buttonPanels.add(buttonPanel);
             menuPanel.add(buttonPanel);
         }
@@ -392,7 +581,7 @@ public class GUIFrame extends JFrame {
                     instructionsMenu(new LanguageTranslation("Back to the Main Menu", "Zurück zum Hauptmenü"));
                 }
                 else if (button.getText().equals(playGame.extrapolate())) {
-                    playGame(true);
+                    gameLogic.submit(() -> { playGame(true); recordTurn(); });
                 }
                 else if (button.getText().equals(settingsMenu.extrapolate())) {
                     settingsMenu(new LanguageTranslation("Back to the Main Menu", "Zurück zum Hauptmenü"));
@@ -404,7 +593,7 @@ public class GUIFrame extends JFrame {
                         throw new IllegalTranslationException(button.getText()); 
                     } 
                     catch (IllegalTranslationException ite) {
-                        ite.printStackTrace(MainLogic.getPrintStream()); 
+                        MainLogic.getGameLog().error("A button has no known translation", ite); 
                     }
                     
                 }
@@ -417,29 +606,30 @@ public class GUIFrame extends JFrame {
 
     /**
      * Configures UI to a normal game for the user to interact with. Also prints out command prompts. 
+     * Runs on the logic thread, so it is submitted to gameLogic by the event thread. 
      */
     public void playGame(boolean userInputRequest) {
         
-        if (MainLogic.getGameStart() || MainLogic.getGameRerun()) {
-            characterList = MainLogic.initializeGame(heroName);
+        if (session.getGameStart() || session.getGameRerun()) {
+            characterList = session.initializeGame(heroName);
         }
         
-        characterList = MainLogic.getCharacterList();
+        characterList = session.getCharacterList();
         hero = characterList.getFirst();
         fullGameGraphicsUpdate();
         
         if (userInputRequest){
-            if (MainLogic.getIsInCombat()) {
+            if (session.getIsInCombat()) {
                 fight(false);
             }
-            else if (MainLogic.getIsInTrade()) {
-                MainLogic.printMerchantInventory(false);
+            else if (session.getIsInTrade()) {
+                session.printMerchantInventory(false);
             }
-            else if (MainLogic.getIsSaveLoading()) {
+            else if (session.getIsSaveLoading()) {
                 saveFileReader.printSaveLoadingMenu();
             }
             else {
-                switch (MainLogic.getLanguage()) {
+                switch (session.getLanguage()) {
                     case "English": printToTerminal("\n\nWhat would you like to do? "); break;
                     case "German": printToTerminal("\n\nWas möchten Sie tun? "); break;
                 }
@@ -450,48 +640,19 @@ public class GUIFrame extends JFrame {
     /**
      * Displays a map of the dungeon in the center of the screen. 
      */
-    public void createMap() {
+    public void createMap(GameScreenSnapshot snapshot) {
         JPanel mapPanel = createFlowLayoutPanel(screenWidth / 2, screenHeight, FlowLayout.CENTER, 0, (screenHeight - 750) / 2, "BLACK");
         primaryPanel.add(mapPanel, BorderLayout.CENTER);
         
-        JPanel mapGrid = createGridLayoutPanel((int)(screenWidth / 2.4), (int)(screenHeight / 1.4), MainLogic.getDungeonSize(), MainLogic.getDungeonSize());
-        mapPanel.add(mapGrid);
-        
-        for (int i = 0; i < (MainLogic.getDungeonSize() * MainLogic.getDungeonSize()); i++) {
-            JPanel gridPanel = createBorderLayoutPanel((int)(screenWidth / 2.4) / MainLogic.getDungeonSize(), (int)(screenHeight / 1.4) / MainLogic.getDungeonSize(), "DARK_GRAY");
-            panelGrid.add(gridPanel);
-            mapGrid.add(gridPanel);
-        }
-        
-        for (JPanel panel : panelGrid) { 
-            JButton gridButton = createJButton("", "DARK_GRAY", "DARK_GRAY", true);
-            
-            int[] coordinates = calculateCordsFromLocationID(panelGrid.indexOf(panel));
-            gridButton.setToolTipText("X: " + coordinates[0] + ", Y: " + coordinates[1]);
-            
-            buttonGrid.add(gridButton);
-            panel.add(gridButton);
-            
-        }
-        
-        updateLocation(calculateHeroLocationID());
-    }
-
-    /** 
-     * Updates the location of the character to a different spot on the grid. 
-     * This is done by passing in the numerical ID of that spot within the grid. 
-     * 
-     * @param getCounter    Index number of the character's location on the map 
-    */
-    public void updateLocation(Integer getCounter) {
-        JButton selectedButton = buttonGrid.get(getCounter);
-        selectedButton.setBackground(Color.GREEN);
+        dungeonMap.setPreferredSize(new Dimension((int)(screenWidth / 2.4), (int)(screenHeight / 1.4)));
+        mapPanel.add(dungeonMap);
+        dungeonMap.updateHero(snapshot.getDungeonSize(), snapshot.getHeroX(), snapshot.getHeroY());
     }
 
     /**
      * Creates status panels of the hero's info and adds them to the frame. 
      */
-    public void createStatusPanel() {
+    public void createStatusPanel(GameScreenSnapshot snapshot) {
         JPanel statusPanel = createGridLayoutPanel((int)(screenWidth / 4), (int)(screenHeight - (screenHeight * 1/8)), 8, 1, "BLUE");
         primaryPanel.add(statusPanel, BorderLayout.WEST);
         
@@ -517,9 +678,10 @@ public class GUIFrame extends JFrame {
             JPanel valuePanel = createGridLayoutPanel((screenWidth / 4) / 4, (screenHeight - (screenHeight * 1/8) / 8), 1, 1, "BLUE");
             bar.add(valuePanel, BorderLayout.EAST);
             
-            JLabel valueLabel = createJLabel(valueName, "Arial", 25, "BLACK", "WHITE");
+            JLabel valueLabel = createJLabel(snapshot.getStatusValue(statusPanelCounter), "Arial", 25, "BLACK", "WHITE");
             valueLabel.setVerticalAlignment((int)JPanel.CENTER_ALIGNMENT);
             valuePanel.add(valueLabel);
+            statusValueLabels[statusPanelCounter] = valueLabel;
             statusPanelCounter++;
         }
         
@@ -527,7 +689,7 @@ public class GUIFrame extends JFrame {
     }
 
     /**
-     * Populates the translation Array if first call. Otherwise, assigns info to valueName.
+     * Populates the translation Array if first call.
      */
     private void handleStatusPanelTranslations() {
         if (statusPanelCounter < 0) {
@@ -544,17 +706,6 @@ public class GUIFrame extends JFrame {
             };
             statusPanelCounter++;
         }
-        
-        switch (statusPanelCounter) {
-            case 0: valueName = String.valueOf(hero.getHealth()); break;
-            case 1: valueName = String.valueOf(hero.getMaxDamage()); break;
-            case 2: valueName = "(" + hero.getXCord() + ", " + hero.getYCord() + ")"; break;
-            case 3: valueName = String.valueOf(hero.getSmellCounter()); break;
-            case 4: valueName = String.valueOf(hero.getTurnCounterValue()); break; 
-            case 5: valueName = String.valueOf(hero.getGoldValue()); break;
-            case 6: valueName = String.valueOf(hero.getPotionMessage(hero.getHasHealthPotion())); break;
-            case 7: valueName = String.valueOf(hero.getPotionMessage(hero.getHasStrengthPotion())); break;
-        }
     }
 
     /**
@@ -564,18 +715,17 @@ public class GUIFrame extends JFrame {
         JPanel terminalPanel = createBorderLayoutPanel(screenWidth / 4, screenHeight, "BLACK");
         primaryPanel.add(terminalPanel, BorderLayout.EAST);
         
-        outputTerminal = createJTextArea(terminalOutput, "Arial", 24, false, "BLACK", "BLUE");
+        synchronized (terminalLog) {
+            outputTerminal = createJTextArea(terminalLog.getText(), "Arial", 24, false, "BLACK", "BLUE");
+            terminalLog.markShown();
+        }
         
         // TODO: call factory function on this 
-        JScrollPane scrollPane = new JScrollPane(outputTerminal); 
-        scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
-        scrollPane.setPreferredSize(new Dimension(screenWidth / 4, screenHeight - (screenHeight * 3/10)));
-        terminalPanel.add(scrollPane, BorderLayout.NORTH);
-        
-        SwingUtilities.invokeLater(() -> {
-            JScrollBar scrollBar = scrollPane.getVerticalScrollBar();
-            scrollBar.setValue(scrollBar.getMaximum());
-        });
+        outputScrollPane = new JScrollPane(outputTerminal); 
+        outputScrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
+        outputScrollPane.setPreferredSize(new Dimension(screenWidth / 4, screenHeight - (screenHeight * 3/10)));
+        terminalPanel.add(outputScrollPane, BorderLayout.NORTH);
+        scrollTerminalToBottom();
         
         inputTerminal = createJTextField(terminalInput, "Arial", 24, "BLACK", "BLUE");
         inputTerminal.setPreferredSize(new Dimension(screenWidth / 4, screenHeight - (screenHeight * 26/30)));
@@ -592,45 +742,98 @@ public class GUIFrame extends JFrame {
                 if (e.getKeyCode() == KeyEvent.VK_ENTER) {
                     
                     // Formats user input to contain no uppercase, whitespace, or punctuation characters
-                    userInput = inputTerminal.getText().toLowerCase().trim().replaceAll("\\p{Punct}", "");
-                    
-                    if (MainLogic.getGameOver() && !MainLogic.getIsSaveLoading()) {
-                        if (hero.hasEscaped()) { 
-                            pushEscapeMessage(); 
-                        } 
-                        else if (hero.isDead()) {
-                            pushDeathMessage();
-                        }
-                        else logAndNotifyIllegalState("Error: The game is over, but the hero is neither dead nor free from dungeon.");
-                    }
-                    
-                    try {
-                        
-                        if (MainLogic.getIsInCombat()) {
-                            combatCommandInterpreter(userInput);
-                        }
-                        else generalCommandInterpreter(userInput);
-                        
-                    } 
-                    catch (Exception ex) {
-                        ex.printStackTrace(MainLogic.getPrintStream());
-                    }
-                    
-                    playGame(false);
-                    inputTerminal.requestFocusInWindow();
+                    String input = inputTerminal.getText().toLowerCase().trim().replaceAll("\\p{Punct}", "");
+                    inputTerminal.setText(terminalInput);
+                    gameLogic.submit(() -> handleTerminalInput(input));
                 }
             }
         });
     }
 
+    /**
+     * Handles a line that the user entered into the input terminal. Runs on the logic thread, 
+     * so the window keeps painting while the command is handled. 
+     * 
+     * @param input     The formatted input of the user
+     */
+    private void handleTerminalInput(String input) {
+        userInput = input;
+        
+        if (session.getGameOver() && !session.getIsSaveLoading() && !isUndoCommand(userInput)) {
+            if (hero.hasEscaped()) { 
+                pushEscapeMessage(); 
+            } 
+            else if (hero.isDead()) {
+                pushDeathMessage();
+            }
+            else logAndNotifyIllegalState("Error: The game is over, but the hero is neither dead nor free from dungeon.");
+        }
+        
+        boolean inCombat = session.getIsInCombat();
+        dialogNanos = 0;
+        long startTime = System.nanoTime();
+        try {
+            
+            if (inCombat) {
+                combatCommandInterpreter(userInput);
+            }
+            else generalCommandInterpreter(userInput);
+            
+        } 
+        catch (Exception ex) {
+            MainLogic.getGameLog().error("A command could not be handled", ex);
+        }
+        
+        // The time the user took to answer a popup (e.g. to confirm an exit) is not time the game took
+        MainLogic.getGameMetrics().recordCommand(inCombat, System.nanoTime() - startTime - dialogNanos);
+        
+        playGame(false);
+        recordTurn();
+    }
+
+    /**
+     * Hands the characters that changed in the turn that was just played to the turn journal and the game history. 
+     */
+    private void recordTurn() {
+        CharacterStore store = session.getCharacterList();
+        boolean replaced = store.wasReplaced();
+        int[] changedIds = store.takeChangedIds();
+        
+        turnJournal.recordTurn(changedIds, replaced);
+        gameHistory.recordTurn(changedIds, replaced);
+    }
+
+    /**
+     * Appends the text that was printed since the last update to the output terminal, 
+     * instead of replacing all of the terminal's text. The oldest lines of the terminal 
+     * are removed once it holds more lines than the terminal log keeps. 
+     */
+    private void updateTerminal() {
+        try {
+            if (terminalLog.showIn(outputTerminal)) scrollTerminalToBottom();
+        } 
+        catch (BadLocationException e) { 
+            MainLogic.getGameLog().error("Old lines could not be removed from the terminal", e); 
+        }
+    }
+
+    /**
+     * Scrolls the output terminal down to its newest text once the text is laid out. 
+     */
+    private void scrollTerminalToBottom() {
+        JScrollPane scrollPane = outputScrollPane;
+        SwingUtilities.invokeLater(() -> {
+            JScrollBar scrollBar = scrollPane.getVerticalScrollBar();
+            scrollBar.setValue(scrollBar.getMaximum());
+        });
+    }
+
     /**
      * Evaluates the user's input when the hero is not in combat.
      * 
      * @param userInput     The user's input for what the hero or game should do
      */
     public void generalCommandInterpreter(String userInput)  {
-        String[] validDirectionsEN = {"north", "south", "east", "west", "go north", "go south", "go east", "go west"};
-        String[] validDirectionsDE = {"nord", "süd", "sued", "ost", "west", "geh nord", "geh süd", "geh sued", "geh ost", "geh west"};
         
         if (userInput.equals("exit") || userInput.equals("verlassen") || userInput.equals("beenden")) {
             pushCloseMessage();
@@ -641,61 +844,28 @@ public class GUIFrame extends JFrame {
         else if (userInput.equals("help") || userInput.contains("hilf") || userInput.contains("helf")) {
             handleHelpCommand();
         }
-        else if (MainLogic.getIsSaveLoading()) {
+        else if (session.getIsSaveLoading()) {
             loadFromSave(userInput);
         }
-        else if (!MainLogic.getIsSaveLoading()) {
-
-            // If the user had not entered the above inputs and is not loading a save, the following inputs will be checked.
-            if (userInput.contains("save") || userInput.contains("speich")) {
-                handleSaveAndLoadCommands("save");
-            }
-            else if (userInput.contains("load") || userInput.contains("lad")) {
-                handleSaveAndLoadCommands("load");
-            }
-            else {
-
-                // If the user is not trying to save or load from a save, the following inputs will be checked.
-                if (MainLogic.getIsInTrade()) {
-
-                    if ((userInput.contains("leave")) || userInput.contains("verlassen")) {
-                        MainLogic.setIsInTrade(false);
-                        playGame(true);
-                    }
-                    else trade(userInput);
-
-                }
-                else {
-
-                    // If the user is not in a trade, the following inputs will be checked.
-                    if (userInput.contains("health") || userInput.contains("heil")) {
-                        MainLogic.drinkHealthPotion();
-                    }
-                    else if (userInput.contains("strength") || userInput.contains("kraft")) {
-                        MainLogic.drinkStrengthPotion();
-                    }
-                    else if ((Arrays.stream(validDirectionsEN).anyMatch(userInput::contains)) ||
-                    (Arrays.stream(validDirectionsDE).anyMatch(userInput::contains))) {
-                        MainLogic.move(userInput);
-                    }
-                    else {
-                        invalidInputMessage();
-                        playGame(false);
-                    }
-
-                }
-            }
+        else if (isUndoCommand(userInput)) {
+            handleUndoCommand(userInput);
         }
-        else logAndNotifyIllegalState("User must either be loading a save or playing the game.");
-        
-        if (MainLogic.getCharacterDeath()) {
-            
-            MainLogic.setIsInCombat(false);
-            if (!MainLogic.isGameOverAndPushMessageIfSo()) playGame(true);
-            characterList = MainLogic.getCharacterList();
-
+        else if (userInput.contains("export")) {
+            handleSaveAndLoadCommands("export");
+        }
+        else if (userInput.contains("save") || userInput.contains("speich")) {
+            handleSaveAndLoadCommands("save");
+        }
+        else if (userInput.contains("load") || userInput.contains("lad")) {
+            handleSaveAndLoadCommands("load");
+        }
+        else {
+            // Trading, drinking potions, and moving are handled by the game session
+            session.runCommand(userInput);
         }
-        else playGame(true);
+        
+        characterList = session.getCharacterList();
+        if (!session.getGameOver()) playGame(true);
         
     }
 
@@ -710,30 +880,35 @@ public class GUIFrame extends JFrame {
         
         if ((fileNameIndex >= 1) && (fileNameIndex <= largestSaveFileIndex)) {
             
-            // Clears both the front and back end lists 
-            characterList.clear();
-            MainLogic.getCharacterList().clear();
-            
-            // Stores the new character list derived from save file
-            characterList = saveFileReader.loadFromSave(fileNameIndex);
-            MainLogic.setCharacterList(characterList);
+            // Stores the new character list derived from save file, which replaces the old characters in the session
+            try { 
+                characterList = saveFileReader.loadFromSave(fileNameIndex); 
+            }
+            catch (IOException ioe) {
+                MainLogic.getGameLog().error("The save file could not be loaded", ioe);
+                printToTerminal(new LanguageTranslation("\n\nThat save file could not be loaded: ", 
+                        "\n\nDiese Speicherdatei konnte nicht geladen werden: ").extrapolate() + ioe.getMessage());
+                return;
+            }
+            session.setCharacterList(characterList);
+            session.setCharacterInSameRoomIndex(saveFileReader.getCharacterInSameRoomValue());
             
             clearTerminalsAndUpdate();
-            MainLogic.setGameRerun(false);
-            MainLogic.setGameOver(false);
-            MainLogic.setCharacterDeath(false);
-            MainLogic.setIsInCombat(false);
-            MainLogic.setIsInTrade(false);
+            session.setGameRerun(false);
+            session.setGameOver(false);
+            session.setCharacterDeath(false);
+            session.setIsInCombat(false);
+            session.setIsInTrade(false);
             
             // Sets the dungeon size in front and back end values
             Integer dungeonSize = saveFileReader.getDungeonSizeValue();
-            MainLogic.setDungeonSize(dungeonSize);
+            session.setDungeonSize(dungeonSize);
             hero.setDungeonSize(dungeonSize); 
             hero.setTurnCounterValue(characterList.get(0).getTurnCounterValue());
             if (characterList.get(0).getName().equalsIgnoreCase("admin")) setIsAdmin(true);
             
-            MainLogic.setIsSaveLoading(false);
-            switch (MainLogic.getLanguage()) {
+            session.setIsSaveLoading(false);
+            switch (session.getLanguage()) {
                 case "English": pushMessage("Successfully loaded from " + saveFileReader.getSaveFileString()); break;
                 case "German": pushMessage("Erfolgreich geladen aus " + saveFileReader.getSaveFileString()); break;
             }
@@ -748,8 +923,8 @@ public class GUIFrame extends JFrame {
      */
     private void handleHelpCommand() {
         
-        if (MainLogic.getIsInTrade()) {
-            switch (MainLogic.getLanguage()) {
+        if (session.getIsInTrade()) {
+            switch (session.getLanguage()) {
                 case "English": 
                     printToTerminal("When trading, you have the following commands available to you: *health* potion, *strength* potion, *leave* trade, *kill* merchant"); 
                 break;
@@ -758,19 +933,21 @@ public class GUIFrame extends JFrame {
                 break;
             }
         }
-        else if (MainLogic.getIsSaveLoading()) {
-            switch (MainLogic.getLanguage()) {
+        else if (session.getIsSaveLoading()) {
+            switch (session.getLanguage()) {
                 case "English": printToTerminal("When loading from a save, you must enter a number that corresponds to the save file you wish to load from."); break;
                 case "German": printToTerminal("Wenn Sie eine Speicherdatei laden möchten, drücken Sie bitte die passende Nummer des Speicherdateinamens."); break;
             }
         }
         else {
-            switch (MainLogic.getLanguage()) {
+            switch (session.getLanguage()) {
                 case "English": 
-                printToTerminal("\n\nGenerally, you have the following commands available to you: go north, go south, go east, go west, save, load save, drink health potion, drink strength potion");
+                printToTerminal("\n\nGenerally, you have the following commands available to you: go north, go south, go east, go west, save, export save, load save, drink health potion, drink strength potion");
+                if (session.getIsCasualMode()) printToTerminal(", undo (or undo followed by a number of turns)");
                 break;
                 case "German": 
-                    printToTerminal("Normalerweise können Sie die folgenden Befehle nutzen: geh *nord*, geh *süd/sued*, geh *ost*, geh *west*, *Heiltrank* trinken, *Krafttrank* trinken, *speichern*, *laden*"); 
+                    printToTerminal("Normalerweise können Sie die folgenden Befehle nutzen: geh *nord*, geh *süd/sued*, geh *ost*, geh *west*, *Heiltrank* trinken, *Krafttrank* trinken, *speichern*, *exportieren*, *laden*"); 
+                    if (session.getIsCasualMode()) printToTerminal(", *rückgängig* (oder rückgängig gefolgt von einer Anzahl von Zügen)");
                 break;
             }
         }
@@ -785,23 +962,25 @@ public class GUIFrame extends JFrame {
     private void handleSaveAndLoadCommands(String command) { // TODO: break up this method to handle either help or save/load commands
         switch (command) {
             case "save":
-                if (MainLogic.getIsInTrade()) {
+            case "export":
+                if (session.getIsInTrade()) {
                     printToTerminal(new LanguageTranslation("You cannot save while trading", "Sie können während des Handels keine Speicherdatei erstellen").extrapolate());
                 }
-                else if (MainLogic.getIsInCombat()) {
+                else if (session.getIsInCombat()) {
                     printToTerminal(new LanguageTranslation("You cannot save while in combat", "Sie können eine Speicherdatei nicht erstellen, während Sie im Kampf sind.").extrapolate());
                 }
+                else if (command.equals("export")) saveFileMaker.createTextExport(); 
                 else saveFileMaker.createSave(); 
             break;
             case "load":
-                if (MainLogic.getIsInTrade()) {
+                if (session.getIsInTrade()) {
                     printToTerminal(new LanguageTranslation("You cannot load a save while trading", "Sie können während des Handels keine gespeicherte Datei laden").extrapolate());
                 }
-                else if (MainLogic.getIsInCombat()) {
+                else if (session.getIsInCombat()) {
                     printToTerminal(new LanguageTranslation("You cannot load a save while in combat", "Sie können eine gespeicherte Datei nicht laden, während Sie im Kampf sind.").extrapolate());
                 }
                 else {
-                    MainLogic.setIsSaveLoading(true);
+                    session.setIsSaveLoading(true);
                     playGame(false);
                 }
             break;
@@ -814,25 +993,13 @@ public class GUIFrame extends JFrame {
      * @param userInput     The user's input for what the hero should do
      */
     public void combatCommandInterpreter(String userInput) {
-        boolean successfulRetreat = false;
         
-        if (userInput.equals("fight") || userInput.contains("kampf")) {
-            hero.hitCharacter();
-            hero.turnHealthDeduction();
-        }
-        else if (userInput.equals("retreat") || userInput.contains("zieh")) {
-            successfulRetreat = MainLogic.retreat(0);
-            hero.turnHealthDeduction();
-        }
-        else if (userInput.contains("health") || userInput.contains("heil")) {
-            MainLogic.drinkHealthPotion();
-        }
-        else if (userInput.contains("strength") || userInput.contains("kraft")) {
-            MainLogic.drinkStrengthPotion();
-        }
-        else if (userInput.equals("help") || userInput.contains("hilf") || userInput.contains("helf")) {
+        if (userInput.equals("help") || userInput.contains("hilf") || userInput.contains("helf")) {
             handleHelpCommand();
         }
+        else if (userInput.contains("export")) {
+            handleSaveAndLoadCommands("export");
+        }
         else if (userInput.contains("save") || userInput.contains("speich")) {
             handleSaveAndLoadCommands("save");
         }
@@ -842,21 +1009,66 @@ public class GUIFrame extends JFrame {
         else if (Arrays.stream(adminCommands).anyMatch(userInput::contains)) {
             handleAdminCheck(userInput);
         }
+        else if (isUndoCommand(userInput)) {
+            handleUndoCommand(userInput);
+        }
         else {
-            invalidInputMessage();
-            playGame(false);
+            // Fighting, retreating, and drinking potions are handled by the game session
+            session.runCommand(userInput);
         }
         
-        if (MainLogic.getCharacterDeath() || successfulRetreat) {
-            MainLogic.setIsInCombat(false);
-            if (!MainLogic.isGameOverAndPushMessageIfSo()) playGame(true); // No cleanup function needed 
-            characterList = MainLogic.getCharacterList();
-        }
-        else {
-            MainLogic.setIsInCombat(true);
+        characterList = session.getCharacterList();
+        if (session.getIsInCombat()) {
             fight(false);
         }
+        else if (!session.getGameOver()) playGame(true);
+
+    }
 
+    /**
+     * Checks if the user's input asks to undo turns, such as "undo" or "undo 3". 
+     * 
+     * @param userInput     The user's input
+     * @return              true if the input is an undo command, and false otherwise
+     */
+    private boolean isUndoCommand(String userInput) {
+        return userInput.startsWith("undo") || userInput.startsWith("rückgängig") || userInput.startsWith("rueckgaengig");
+    }
+
+    /**
+     * Puts the game back to the state it had a number of turns ago, which is one turn unless a number 
+     * follows the command. Turns can only be undone in casual mode or by an admin. 
+     * 
+     * @param userInput     The undo command the user inputted
+     */
+    private void handleUndoCommand(String userInput) {
+        if (!session.getIsCasualMode() && !isAdmin) {
+            printToTerminal(new LanguageTranslation("\nTurns can only be undone in casual mode, which can be turned on in the settings", 
+                    "\nZüge können nur im lockeren Modus rückgängig gemacht werden, der in den Einstellungen eingeschaltet werden kann").extrapolate());
+            return;
+        }
+        
+        int turnCount = 1;
+        String[] words = userInput.split(" +");
+        if (words.length > 1) {
+            try { turnCount = Integer.parseInt(words[words.length - 1]); } catch (NumberFormatException nfe) { turnCount = 0; }
+        }
+        
+        int undoableTurns = gameHistory.getUndoableTurns();
+        if (!gameHistory.undo(turnCount)) {
+            switch (session.getLanguage()) {
+                case "English": printToTerminal("\nThat many turns cannot be undone. Turns that can be undone: " + undoableTurns); break;
+                case "German": printToTerminal("\nSo viele Züge können nicht rückgängig gemacht werden. Züge, die rückgängig gemacht werden können: " + undoableTurns); break;
+            }
+            return;
+        }
+        
+        characterList = session.getCharacterList();
+        hero = characterList.getFirst();
+        switch (session.getLanguage()) {
+            case "English": printToTerminal("\n\nUndid " + turnCount + ((turnCount == 1) ? " turn." : " turns.")); break;
+            case "German": printToTerminal("\n\n" + turnCount + ((turnCount == 1) ? " Zug wurde" : " Züge wurden") + " rückgängig gemacht."); break;
+        }
     }
 
     /**
@@ -866,7 +1078,7 @@ public class GUIFrame extends JFrame {
      */
     private void handleAdminCheck(String userInput) {
         if (!isAdmin) {
-            switch (MainLogic.getLanguage()) {
+            switch (session.getLanguage()) {
                 case "English": printToTerminal("\nThis command is not available to non-admin users"); break;
                 case "German": printToTerminal("\nDieser Befehl ist für Nicht-Admin-Benutzer nicht verfügbar"); break;
             }
@@ -881,11 +1093,11 @@ public class GUIFrame extends JFrame {
         switch (command) {
             case "perish":
                 hero.setHealth(0);
-                MainLogic.isGameOverAndPushMessageIfSo(); // No clean up needed
+                session.isGameOverAndPushMessageIfSo(); // No clean up needed
                 break;
             case "escape":
-                hero.setXYCords(MainLogic.getDungeonSize() - 1, MainLogic.getDungeonSize() - 1); 
-                MainLogic.isGameOverAndPushMessageIfSo(); // No clean up needed
+                hero.setXYCords(session.getDungeonSize() - 1, session.getDungeonSize() - 1); 
+                session.isGameOverAndPushMessageIfSo(); // No clean up needed
                 break;
             case "list":
                 for (Character character: characterList) {
@@ -894,13 +1106,16 @@ public class GUIFrame extends JFrame {
                 System.out.println();
                 break;
             case "size":
-                System.out.println("Size: " + MainLogic.getDungeonSize());
+                System.out.println("Size: " + session.getDungeonSize());
+                break;
+            case "seed":
+                System.out.println("Seed: " + session.getSeed());
                 break;
             case "status":
-                System.out.println("Combat: " + MainLogic.getIsInCombat() + ", Trade: " + MainLogic.getIsInTrade() + ", Loading Save: " + MainLogic.getIsSaveLoading());
+                System.out.println("Combat: " + session.getIsInCombat() + ", Trade: " + session.getIsInTrade() + ", Loading Save: " + session.getIsSaveLoading());
                 break;
             case "break lang": 
-                MainLogic.setLanguage("non-valid-language-setting");
+                session.setLanguage("non-valid-language-setting");
                 break;
             case "money":
                 hero.setGoldValue(hero.getGoldValue() + 100);
@@ -908,109 +1123,16 @@ public class GUIFrame extends JFrame {
         }
     }
 
-    /**
-     * Prints a message to the terminal indicating that the most recent command input was invalid.
-     */
-    private void invalidInputMessage() {
-        switch (MainLogic.getLanguage()) {
-            case "English": printToTerminal("\n\nThat's not a valid input!"); break;
-            case "German": printToTerminal("\n\nDas ist keine gültige Eingabe!"); break;
-        }
-    }
-
     /**
      * Prints a message to the terminal indicating that the most recent save file input was invalid.
      */
     private void invalidSaveMessage() {
-        switch (MainLogic.getLanguage()) {
+        switch (session.getLanguage()) {
             case "English": pushMessage("\n\nThat's not a valid save file!"); break;
             case "German": pushMessage("\n\nDas ist keine gültige Speicherdatei!"); break;
         }
     }
 
-    /**
-     * Preforms various trades with a merchant when the hero is in a room with one. 
-     * 
-     * @param tradeInput    The user's input for a specific trade 
-     */
-    public void trade(String tradeInput) {
-        Character merchant = characterList.get(hero.getCharacterInSameRoomIndex());
-        fullGameGraphicsUpdate(); 
-        
-        if (tradeInput.contains("health") || tradeInput.contains("heil")) {
-            
-            if (!characterList.get(hero.getCharacterInSameRoomIndex()).getHasHealthPotion()) {
-                switch (MainLogic.getLanguage()) {
-                    case "English": printToTerminal("\n\n" + merchant.getName() + " does not have a health potion for sale"); break;
-                    case "German": printToTerminal("\n\n" + merchant.getName() + " verkauft keinen Heiltrank"); break;
-                }
-            }
-            if (hero.getHasHealthPotion()) {
-                switch (MainLogic.getLanguage()) {
-                    case "English": printToTerminal("\n\nYou already have a health potion in your inventory"); break;
-                    case "German": printToTerminal("\n\nSie haben schon einen Heiltrank im Inventar"); break;
-                }
-            }
-            if (hero.getGoldValue() < MainLogic.getPotionPrice()) {
-                switch (MainLogic.getLanguage()) {
-                    case "English": printToTerminal("\n\n" + hero.getGoldValue() + " gold is not enough to purchase a health potion");  break;
-                    case "German": printToTerminal("\n\n" + hero.getGoldValue() + " Geld ist nicht genug, um einen Heiltrank zu kaufen");  break;
-                }
-            }
-
-            merchant.setHasHealthPotion(false);
-            hero.setHasHealthPotion(true);
-            hero.setGoldValue(hero.getGoldValue() - MainLogic.getPotionPrice());
-            
-            switch (MainLogic.getLanguage()) {
-                case "English": printToTerminal("\n\nYou bought a health potion and have " + hero.getGoldValue() + " gold remaining"); break;
-                case "German": printToTerminal("\n\nSie haben einen Heiltrank gekauft und haben noch " + hero.getGoldValue() + " Geld übrig"); break;
-            }
-
-        }
-        else if (tradeInput.contains("strength") || tradeInput.contains("kraft")) {
-            
-            if (!characterList.get(hero.getCharacterInSameRoomIndex()).getHasStrengthPotion()) {
-                switch (MainLogic.getLanguage()) {
-                    case "English": printToTerminal("\n\n" + merchant.getName() + " does not have a strength potion for sale"); break;
-                    case "German": printToTerminal("\n\n" + merchant.getName() + " verkauft keinen Krafttrank"); break;
-                }
-            }
-            if (hero.getHasStrengthPotion()) {
-                switch (MainLogic.getLanguage()) {
-                    case "English": printToTerminal("\n\nYou already have a strength potion in your inventory"); break;
-                    case "German": printToTerminal("\n\nSie haben schon einen Krafttrank im Inventar"); break;
-                }
-            }
-            if (hero.getGoldValue() < MainLogic.getPotionPrice()) {
-                switch (MainLogic.getLanguage()) {
-                    case "English": printToTerminal("\n\n" + hero.getGoldValue() + " gold is not enough to purchase a strength potion");  break;
-                    case "German": printToTerminal("\n\n" + hero.getGoldValue() + " Geld ist nicht genug, um einen Krafttrank zu kaufen");  break;
-                }
-            }
-
-            merchant.setHasStrengthPotion(false);
-            hero.setHasStrengthPotion(true);
-            hero.setGoldValue(hero.getGoldValue() - MainLogic.getPotionPrice());
-            
-            switch (MainLogic.getLanguage()) {
-                case "English": printToTerminal("\n\nYou bought a strength potion and have " + hero.getGoldValue() + " gold remaining"); break;
-                case "German": printToTerminal("\n\nSie haben einen Krafttrank gekauft und haben noch " + hero.getGoldValue() + " Geld übrig"); break;
-            }
-
-        } 
-        else if (tradeInput.contains("kill") || tradeInput.contains("toet") || tradeInput.contains("töt")) {
-            
-            // If the user decides to kill the merchant, the merchant will then forever be considered a monster 
-            characterList.get(hero.getCharacterInSameRoomIndex()).setTypeValue(2);
-            MainLogic.setIsInTrade(false);
-            MainLogic.setIsInCombat(true);
-            fight(true);
-
-        }
-        else invalidInputMessage();
-    }
-
     /**
      * Configures UI to combat display and prints out fight info. 
      * 
@@ -1018,28 +1140,8 @@ public class GUIFrame extends JFrame {
      *                      fought this monster
      */
     public void fight(boolean firstFight) {
-        Character monster = MainLogic.getCharacterList().get(hero.getCharacterInSameRoomIndex());
         fullGameGraphicsUpdate();
-
-        if (firstFight) {
-            switch (MainLogic.getLanguage()) {
-                case "English": 
-                    printToTerminal("\n\n~ Fight with " + monster.getName() + " ~\n" +
-                            hero.getName() + " at " + hero.getXCord() + ", " + hero.getYCord() + " with " +
-                            hero.getHealth() + " health versus " + monster.getName() + " at " + monster.getXCord() +
-                            ", " + monster.getYCord() + " with " + monster.getHealth() + " health");
-                    printToTerminal("\n\nWhat would you like to do? ");
-                break;
-                case "German": 
-                    printToTerminal("\n\n~ Kampf mit " + monster.getName() + " ~\n" + hero.getName() +
-                            " an " + hero.getXCord() + ", " + hero.getYCord() + " mit " + hero.getHealth() +
-                            " Gesundheitspunkte gegen " + monster.getName() + " an " + monster.getXCord() + ", " +
-                            monster.getYCord() + " mit " + monster.getHealth() + " Gesundheitspunkte");
-                    printToTerminal("\n\nWas möchten Sie tun?"); 
-                break;
-            }
-        }
-
+        if (firstFight) session.printFightInfo();
     }
 
     /**
@@ -1057,7 +1159,7 @@ public class GUIFrame extends JFrame {
         gameTitlePanel.add(titleLabel);
         
         String settingsText = "", instructionsText = "";
-        switch (MainLogic.getLanguage()) {
+        switch (session.getLanguage()) {
             case "English": settingsText = "Settings"; instructionsText = "Instructions"; break;
             case "German": settingsText = "Einstellungen"; instructionsText = "Anweisungen"; break;
         }
@@ -1069,7 +1171,7 @@ public class GUIFrame extends JFrame {
         JButton instructionsButton = createJButton(instructionsText, "Arial", 35, "BLUE", "WHITE", false);
         instructionsButtonPanel.add(instructionsButton);
         
-        instructionsButton.addActionListener(e -> instructionsMenu(new LanguageTranslation("Back to the Game", "Zurück zum Spiel")));
+        instructionsButton.addActionListener(e -> showAfterLogic(() -> instructionsMenu(new LanguageTranslation("Back to the Game", "Zurück zum Spiel"))));
         
         // Settings Panel and Button
         JPanel settingsButtonPanel = createGridLayoutPanel(screenWidth / 4 , screenHeight / 8, 1, 1, "BLACK");
@@ -1078,7 +1180,17 @@ public class GUIFrame extends JFrame {
         JButton settingsButton = createJButton(settingsText, "Arial", 35, "BLUE", "WHITE", false);
         settingsButtonPanel.add(settingsButton);
         
-        settingsButton.addActionListener(e -> settingsMenu(new LanguageTranslation("Back to the Game", "Zurück zum Spiel")));
+        settingsButton.addActionListener(e -> showAfterLogic(() -> settingsMenu(new LanguageTranslation("Back to the Game", "Zurück zum Spiel"))));
+    }
+
+    /**
+     * Shows a menu on the event thread once the commands that wait for the logic thread are done, 
+     * so the game screen of an earlier command cannot replace the menu. 
+     * 
+     * @param menu     Shows the menu
+     */
+    private void showAfterLogic(Runnable menu) {
+        gameLogic.submit(() -> SwingUtilities.invokeLater(menu));
     }
 
     /**
@@ -1114,7 +1226,7 @@ public class GUIFrame extends JFrame {
             
             try {
                 if (translation.equals("Back to the Game") || translation.equals("Zurück zum Spiel")) {
-                    playGame(false);
+                    gameLogic.submit(() -> playGame(false));
                 }
                 else if (translation.equals("Back to the Main Menu") || translation.equals("Zurück zum Hauptmenü")) {
                     mainMenu();
@@ -1122,7 +1234,7 @@ public class GUIFrame extends JFrame {
                 else throw new IllegalTranslationException(translation);
             }
             catch (Exception ex) {
-                ex.printStackTrace(MainLogic.getPrintStream());
+                MainLogic.getGameLog().error("A menu button could not be handled", ex);
             }
             
         });
@@ -1152,40 +1264,58 @@ public class GUIFrame extends JFrame {
         JPanel loadSaveOptionPanel = createBorderLayoutPanel((screenWidth / 4), (screenHeight - (screenHeight * 1/8)) / 4);
         settingsPanel.add(loadSaveOptionPanel, BorderLayout.SOUTH);
         
+        JPanel themeOptionPanel = createBorderLayoutPanel((screenWidth / 4), (screenHeight - (screenHeight * 1/8)) / 4);
+        settingsPanel.add(themeOptionPanel, BorderLayout.SOUTH);
+        
+        JPanel casualModeOptionPanel = createBorderLayoutPanel((screenWidth / 4), (screenHeight - (screenHeight * 1/8)) / 4);
+        settingsPanel.add(casualModeOptionPanel, BorderLayout.SOUTH);
+        
         // Various button functionality
-        String retreatButtonText = "", languageButtonText = "", cacheButtonText = "", loadSaveButtonText = "";
-        switch (MainLogic.getLanguage()) {
+        String retreatButtonText = "", languageButtonText = "", cacheButtonText = "", loadSaveButtonText = "", themeButtonText = "", casualModeButtonText = "";
+        switch (session.getLanguage()) {
             case "English": 
                 retreatButtonText = "Toggle Retreat Option"; 
                 languageButtonText = "Toggle Language Option"; 
                 cacheButtonText = "Clear Cache";
                 loadSaveButtonText = "Load From Save";
+                themeButtonText = "Toggle Theme";
+                casualModeButtonText = "Toggle Casual Mode";
             break;
             case "German": 
                 retreatButtonText = "Zurückziehen umschalten"; 
                 languageButtonText = "Sprache umschalten"; 
                 cacheButtonText = "Cache leeren";
                 loadSaveButtonText = "Aus Speicherdatei Laden";
+                themeButtonText = "Design umschalten";
+                casualModeButtonText = "Lockeren Modus umschalten";
             break;
         }
         
         // Button creation for settings menu 
         JButton retreatButton = createJButton(retreatButtonText, "DARK_GRAY", "WHITE", true);
         retreatOptionPanel.add(retreatButton, BorderLayout.CENTER);
-        retreatButton.addActionListener(e -> { MainLogic.toggleRetreat(); settingsMenu(langObject); });
+        retreatButton.addActionListener(e -> { gameLogic.submit(session::toggleRetreat); showAfterLogic(() -> settingsMenu(langObject)); });
         
         JButton languageButton = createJButton(languageButtonText, "DARK_GRAY", "WHITE", true);
         languageOptionPanel.add(languageButton, BorderLayout.CENTER);
-        languageButton.addActionListener(e -> { MainLogic.toggleLanguage(); settingsMenu(langObject); });
+        languageButton.addActionListener(e -> { gameLogic.submit(session::toggleLanguage); showAfterLogic(() -> settingsMenu(langObject)); });
         
         JButton cacheButton = createJButton(cacheButtonText, "DARK_GRAY", "WHITE", true);
         cacheOptionPanel.add(cacheButton, BorderLayout.CENTER);
-        cacheButton.addActionListener(e -> { MainLogic.clearErrorLogCache(); settingsMenu(langObject); });
+        cacheButton.addActionListener(e -> { gameLogic.submit(MainLogic::clearErrorLogCache); showAfterLogic(() -> settingsMenu(langObject)); });
         
         JButton loadSaveButton = createJButton(loadSaveButtonText, "DARK_GRAY", "WHITE", true);
         loadSaveOptionPanel.add(loadSaveButton, BorderLayout.CENTER);
         loadSaveButton.addActionListener(e -> { saveLoadingMenu(langObject); });
         
+        JButton themeButton = createJButton(themeButtonText, "DARK_GRAY", "WHITE", true);
+        themeOptionPanel.add(themeButton, BorderLayout.CENTER);
+        themeButton.addActionListener(e -> { toggleTheme(); settingsMenu(langObject); });
+        
+        JButton casualModeButton = createJButton(casualModeButtonText, "DARK_GRAY", "WHITE", true);
+        casualModeOptionPanel.add(casualModeButton, BorderLayout.CENTER);
+        casualModeButton.addActionListener(e -> { gameLogic.submit(session::toggleCasualMode); showAfterLogic(() -> settingsMenu(langObject)); });
+        
         // Return button functionality 
         JPanel settingsReturnPanel = createGridLayoutPanel((screenWidth), (screenHeight - (screenHeight * 7/8)), 1, 1, "BLACK");
         primaryPanel.add(settingsReturnPanel, BorderLayout.SOUTH);
@@ -1197,7 +1327,7 @@ public class GUIFrame extends JFrame {
             
             try {
                 if (translation.equals("Back to the Game") || translation.equals("Zurück zum Spiel")) {
-                    playGame(false);
+                    gameLogic.submit(() -> playGame(false));
                 }
                 else if (translation.equals("Back to the Main Menu") || translation.equals("Zurück zum Hauptmenü")) {
                     mainMenu();
@@ -1205,7 +1335,7 @@ public class GUIFrame extends JFrame {
                 else throw new IllegalTranslationException(translation);
             }
             catch (Exception ex) {
-                ex.printStackTrace(MainLogic.getPrintStream());
+                MainLogic.getGameLog().error("A menu button could not be handled", ex);
             }
             
         });
@@ -1217,8 +1347,23 @@ public class GUIFrame extends JFrame {
      * @param langObject     The name translation of the method to return to when done
      */
     private void saveLoadingMenu(LanguageTranslation langObject) {
+        gameLogic.submit(() -> {
+            clearTerminals(); 
+            saveFileReader.printSaveLoadingMenu();
+            
+            boolean gameOver = !session.getGameStart() && session.isGameOverAndPushMessageIfSo();
+            SwingUtilities.invokeLater(() -> showSaveLoadingMenu(langObject, gameOver));
+        });
+    }
+
+    /**
+     * Shows the save loading menu with the saves listed by the logic thread. Runs on the event thread. 
+     * 
+     * @param langObject     Holds the translations of the return button's text
+     * @param gameOver       Whether the game is over, so the return button quits the game
+     */
+    private void showSaveLoadingMenu(LanguageTranslation langObject, boolean gameOver) {
         clearPrimaryAndUpdate();
-        clearTerminals(); 
         
         // Main panels for saveLoadingMenu method
         JPanel loadSaveMainPanel = createBorderLayoutPanel((screenWidth), (screenHeight - (screenHeight * 1/8)), "BLACK");
@@ -1243,8 +1388,7 @@ public class GUIFrame extends JFrame {
         JPanel textsPanel = createBorderLayoutPanel((screenWidth - (screenWidth * 1/4)), (screenHeight - (screenHeight * 1/8)), "BLACK");
         textAndSpacersPanel.add(textsPanel, BorderLayout.CENTER);
         
-        saveFileReader.printSaveLoadingMenu();
-        JTextArea saveMenuArea = createJTextArea(terminalOutput, "Arial", 28, false, "BLACK", "BLUE");
+        JTextArea saveMenuArea = createJTextArea(terminalLog.getText(), "Arial", 28, false, "BLACK", "BLUE");
         textsPanel.add(saveMenuArea, BorderLayout.CENTER);
         
         JScrollPane scrollPane = createScrollPane(saveMenuArea, (screenWidth - (screenWidth * 1/4)), (screenHeight - (screenHeight * 4/9)), false);
@@ -1265,8 +1409,8 @@ public class GUIFrame extends JFrame {
             @Override
             public void keyPressed(KeyEvent e) {
                 if (e.getKeyCode() == KeyEvent.VK_ENTER) {
-                    userInput = userInputField.getText().toLowerCase().trim().replaceAll("\\p{Punct}", "");
-                    loadFromSave(userInput);
+                    String input = userInputField.getText().toLowerCase().trim().replaceAll("\\p{Punct}", "");
+                    gameLogic.submit(() -> { userInput = input; loadFromSave(input); });
                     saveLoadingMenu(langObject);
                 }
             }
@@ -1278,18 +1422,17 @@ public class GUIFrame extends JFrame {
         primaryPanel.add(loadSaveReturnPanel, BorderLayout.SOUTH);
         
         String buttonTextTranslation;
-        if (!MainLogic.getGameStart()) if (MainLogic.isGameOverAndPushMessageIfSo()) { 
+        if (gameOver) { 
             buttonTextTranslation = new LanguageTranslation("Quit Game", "Spiel verlassen").extrapolate(); 
         }
-        
-        buttonTextTranslation = new LanguageTranslation("Back to Settings", "Zurück zur Einstellungen").extrapolate();
+        else buttonTextTranslation = new LanguageTranslation("Back to Settings", "Zurück zur Einstellungen").extrapolate();
         
         JButton returnButton = createJButton(buttonTextTranslation, "BLUE", "WHITE", true);
         loadSaveReturnPanel.add(returnButton);
         returnButton.addActionListener(e -> { 
             
-            if (!MainLogic.getGameStart()) if (MainLogic.isGameOverAndPushMessageIfSo()) pushCloseMessage();
-            settingsMenu(langObject); 
+            gameLogic.submit(() -> { if (!session.getGameStart()) if (session.isGameOverAndPushMessageIfSo()) pushCloseMessage(); });
+            showAfterLogic(() -> settingsMenu(langObject)); 
             
         });
     }
@@ -1556,21 +1699,13 @@ public class GUIFrame extends JFrame {
     }
 
     /**
-     * Intakes a String name of a color and returns a color object.
+     * Intakes a String name of a color and returns its color object in the current theme. 
+     * The colors of a theme are resolved when it is loaded, so this is a single map lookup. 
      * 
      * @param colorName         The name of the color that should returned
-     * @return desiredColor     The color object with the name of the colorName input 
-     * @reference               https://stackoverflow.com/questions/3772098/how-does-java-awt-color-getcolorstring-colorName-work
+     * @return desiredColor     The color object with the name of the colorName input, or null if there is none
      */
     public Color getColor(String colorName) {
-        Color desiredColor;
-        try {
-            Field tempField = Color.class.getField(colorName);
-            desiredColor = (Color)tempField.get(null);
-        } 
-        catch (Exception e) {
-            desiredColor = null;
-        }
-        return desiredColor;
+        return theme.getColor(colorName);
     }
 }
@@ -0,0 +1,511 @@
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.GridLayout;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.stream.Stream;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollBar;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
+import javax.swing.SwingUtilities;
+import javax.swing.text.BadLocationException;
+
+/**
+ * Measures the hot paths of the game without a game window: moving and checking rooms, smelling
+ * monsters, making dungeons of different sizes, fighting, translating, writing and loading saves,
+ * parsing text exports, painting the map, and updating the game screen after a move. Every benchmark
+ * runs in JVMs of its own, so the JIT compiles it the same way no matter which benchmarks ran before it.
+ * In each JVM it is warmed up for a few seconds, since on a machine with one processor the JIT shares it
+ * with the benchmark and takes seconds to compile the methods of the save benchmarks, and then until its
+ * rounds stop getting faster. It is then timed over several rounds, of which the median is taken. The
+ * median of the JVMs is reported in nanoseconds per operation, together with the fastest and slowest JVM.
+ *
+ * The results can be recorded as a baseline file, which is checked in, and a later run can be compared
+ * with the baseline, so a change that makes a hot path slower shows up in review. The baseline keeps the
+ * spread of every benchmark, which is the difference of its slowest and fastest JVM relative to its median.
+ * A benchmark is reported as a regression if both its median and its fastest JVM are slower than those of
+ * its baseline by more than the threshold plus its spread, of which at most MAX_SPREAD_ALLOWANCE_PERCENT
+ * is allowed. A busy moment of the machine slows some JVMs but never speeds one up, so the fastest JVM
+ * is rarely slowed by it, while a slower hot path slows every JVM. A benchmark whose JVMs differ widely
+ * is given some room, but a change of twice the time is always reported. The run then exits with status
+ * 1. Baselines are only comparable on the machine they were recorded on, and are best recorded while
+ * nothing else runs on it.
+ *
+ * Usage: java -Djava.awt.headless=true GameBenchmark [run|record|compare] [baselineFile] [thresholdPercent]
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class GameBenchmark {
+
+    public static final String DEFAULT_BASELINE_FILE = "Benchmarks/baseline.txt";    // The baseline file that is checked in
+    public static final int DEFAULT_THRESHOLD_PERCENT = 25;                          // How much slower than its baseline a benchmark may be
+    public static final int MAX_SPREAD_ALLOWANCE_PERCENT = 25;                       // The most of the spread of a baseline that is added to the threshold
+
+    private static final long SEED = 42;                          // The seed of every session, so every run measures the same dungeons
+    private static final long WARMUP_NANOS = 3_000_000_000L;      // The time each benchmark runs before its warmup rounds
+    private static final long MAX_WARMUP_NANOS = 10_000_000_000L; // The longest time each benchmark runs before it is timed
+    private static final int STEADY_ROUNDS = 3;                   // The number of warmup rounds in a row that are not faster, after which the warmup ends
+    private static final double FASTER_ROUND = 0.95;              // The share of the fastest time below which a warmup round counts as faster
+    private static final long ROUND_NANOS = 200_000_000L;         // The time of one timed round
+    private static final int ROUNDS = 7;                          // The number of timed rounds, of which the median is reported
+    private static final int FORKS = 5;                           // The number of JVMs each benchmark runs in, of which the median is reported
+    private static final String[] DIRECTIONS = {"north", "south", "east", "west"};
+    private static final String[] BENCHMARK_NAMES = {"move.canMoveAndOccupancy", "move.smellCounter", "generate.dungeon10", "generate.dungeon100",
+            "generate.dungeon1000", "combat.fightRound", "translate.extrapolate", "save.encode", "save.writeAtomically", "save.load", "save.parseText",
+            "ui.mapRebuild", "ui.screenUpdate"};
+
+    private static long checksum = 0;    // The results of every operation, so the JIT cannot drop the work that made them
+    private static int nextIndex = 0;    // The number of the next operation of the benchmark of this JVM
+
+    /**
+     * One operation of a benchmark.
+     */
+    private interface Operation {
+
+        /**
+         * Runs the operation once.
+         *
+         * @param index            The number of the operation, which the operation can use to vary its input
+         * @return                 A result of the operation, which is added to the checksum
+         * @throws IOException     If the operation reads or writes a file and fails
+         */
+        long run(int index) throws IOException;
+    }
+
+    /**
+     * The times of one benchmark over its JVMs, in nanoseconds per operation.
+     */
+    private static class Result {
+
+        private final double median;     // The median time of the JVMs
+        private final double fastest;    // The time of the fastest JVM
+        private final double slowest;    // The time of the slowest JVM
+
+        private Result(double median, double fastest, double slowest) {
+            this.median = median;
+            this.fastest = fastest;
+            this.slowest = slowest;
+        }
+
+        /**
+         * Returns the difference of the slowest and the fastest JVM, in percent of the median.
+         */
+        private double getSpreadPercent() {
+            return 100.0 * (slowest - fastest) / median;
+        }
+
+        /**
+         * Returns how much slower than this baseline a benchmark may be, in percent.
+         */
+        private double getAllowedPercent(int thresholdPercent) {
+            return thresholdPercent + Math.min(getSpreadPercent(), MAX_SPREAD_ALLOWANCE_PERCENT);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        String mode = (args.length > 0) ? args[0] : "run";
+        Path baselineFile = Paths.get((args.length > 1) ? args[1] : DEFAULT_BASELINE_FILE);
+        int thresholdPercent = (args.length > 2) ? Integer.parseInt(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        // A forked JVM measures one benchmark and prints its time for the JVM that started it
+        if (mode.equals("fork")) {
+            Path folder = Files.createTempDirectory("Dungeon Doomer Benchmark");
+            try {
+                Operation operation = createBenchmarks(folder).get(args[1]);
+                if (operation == null) throw new IllegalArgumentException("There is no benchmark " + args[1]);
+
+                // The game screen is only touched by the event thread, so the UI benchmarks run on it as well
+                System.out.println(args[1].startsWith("ui.") ? measureOnEventThread(operation) : measure(operation));
+            }
+            finally {
+                deleteFolder(folder);
+            }
+            if (checksum == 42) System.out.println();    // Keeps the JIT from dropping the operations
+            return;
+        }
+
+        if (!mode.equals("run") && !mode.equals("record") && !mode.equals("compare")) {
+            throw new IllegalArgumentException("The mode must be run, record, or compare, not " + mode);
+        }
+        Map<String, Result> baseline = mode.equals("compare") ? readBaseline(baselineFile) : Map.of();
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        int regressions = 0;
+
+        // The JVMs of the benchmarks take turns, so a busy moment of the machine slows one JVM of several benchmarks
+        // instead of every JVM of one benchmark
+        double[][] forks = new double[BENCHMARK_NAMES.length][FORKS];
+        for (int fork = 0; fork < FORKS; fork++) {
+            for (int i = 0; i < BENCHMARK_NAMES.length; i++) {
+                forks[i][fork] = runFork(BENCHMARK_NAMES[i]);
+            }
+        }
+
+        for (int i = 0; i < BENCHMARK_NAMES.length; i++) {
+            String name = BENCHMARK_NAMES[i];
+            Arrays.sort(forks[i]);
+            Result result = new Result(forks[i][FORKS / 2], forks[i][0], forks[i][FORKS - 1]);
+            results.put(name, result);
+
+            String line = String.format(Locale.ROOT, "%-28s %14.1f ns/op  spread %5.1f%%", name, result.median, result.getSpreadPercent());
+            Result baselineResult = baseline.get(name);
+            if (baselineResult != null) {
+                double change = 100.0 * (result.median - baselineResult.median) / baselineResult.median;
+                double fastestChange = 100.0 * (result.fastest - baselineResult.fastest) / baselineResult.fastest;
+                double allowedPercent = baselineResult.getAllowedPercent(thresholdPercent);
+                boolean regressed = change > allowedPercent && fastestChange > allowedPercent;
+                if (regressed) regressions++;
+                line += String.format(Locale.ROOT, "   baseline %14.1f ns/op  %+7.1f%% (fastest %+7.1f%%, allowed %+.1f%%)%s", baselineResult.median,
+                        change, fastestChange, allowedPercent, regressed ? "  REGRESSION" : "");
+            }
+            else if (mode.equals("compare")) line += "   no baseline";
+            System.out.println(line);
+        }
+
+        if (mode.equals("record")) {
+            writeBaseline(baselineFile, results);
+            System.out.println("\nThe baseline was written to " + baselineFile.toAbsolutePath());
+        }
+        if (regressions > 0) {
+            System.out.println("\n" + regressions + " benchmark(s) are more than " + thresholdPercent + "% plus their spread (at most " 
+                    + MAX_SPREAD_ALLOWANCE_PERCENT + "%) slower than the baseline");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Measures one benchmark in a new JVM, started with the same Java and class path as this one.
+     *
+     * @param name             The name of the benchmark
+     * @return                 The time of one operation, in nanoseconds
+     * @throws IOException     If the JVM cannot be started or does not print a time
+     */
+    private static double runFork(String name) throws IOException {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Process fork = new ProcessBuilder(java, "-Djava.awt.headless=true", "-cp", System.getProperty("java.class.path"), "GameBenchmark", "fork", name)
+                .redirectError(ProcessBuilder.Redirect.INHERIT).start();
+
+        String output = new String(fork.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        try {
+            if (fork.waitFor() != 0 || output.isEmpty()) throw new IOException("The benchmark " + name + " failed");
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("The benchmark " + name + " was interrupted", e);
+        }
+        String[] lines = output.split("\\R");
+        return Double.parseDouble(lines[lines.length - 1]);
+    }
+
+    /**
+     * Creates every benchmark. The names are the ones of BENCHMARK_NAMES.
+     *
+     * @param folder           The folder that the save benchmarks write their files to
+     * @return benchmarks      The operation of every benchmark, by name
+     * @throws IOException     If the save benchmarks cannot write their first file
+     */
+    private static Map<String, Operation> createBenchmarks(Path folder) throws IOException {
+        Map<String, Operation> benchmarks = new LinkedHashMap<>();
+
+        // Moving and smelling are measured in a dungeon of 100 rooms per side, on every room in turn
+        GameSession session = createSession(100);
+        Character hero = session.getHero();
+        int dungeonSize = session.getDungeonSize(), rooms = dungeonSize * dungeonSize;
+
+        benchmarks.put("move.canMoveAndOccupancy", index -> {
+            int room = index % rooms;
+            hero.setXYCords(room % dungeonSize, room / dungeonSize);
+            long result = hero.canMove(DIRECTIONS[index & 3]) ? 1 : 0;
+            return result + (hero.isAnotherCharacterInSameRoom() ? 2 : 0);
+        });
+        benchmarks.put("move.smellCounter", index -> {
+            int room = index % rooms;
+            hero.setXYCords(room % dungeonSize, room / dungeonSize);
+            return hero.getSmellCounter();
+        });
+
+        for (int size : new int[] {10, 100, 1000}) {
+            benchmarks.put("generate.dungeon" + size, index -> createSession(size).getCharacterList().size());
+        }
+
+        GameSession combatSession = createSession(10);
+        benchmarks.put("combat.fightRound", index -> fightRound(combatSession));
+
+        // The labels of the status panels are translated together, so an operation takes long enough to be timed apart from the loop around it
+        LanguageTranslation[] translations = {new LanguageTranslation("Health", "Gesundheitspunkte"), new LanguageTranslation("Max Damage", "Max. Schadenspunkte"),
+                new LanguageTranslation("Coordinates", "Koordinaten"), new LanguageTranslation("Nearby Monsters", "Monsters in der Nähe"),
+                new LanguageTranslation("Turn Number", "Zugnummer"), new LanguageTranslation("Gold Amount", "Geld Menge"),
+                new LanguageTranslation("Health Potion", "Heiltrank"), new LanguageTranslation("Strength Potion", "Krafttrank")};
+        benchmarks.put("translate.extrapolate", index -> {
+            long length = 0;
+            for (int i = 0; i < translations.length; i++) {
+                length += translations[i].extrapolate(((index + i) & 1) == 0 ? "English" : "German").length();
+            }
+            return length;
+        });
+
+        // The saves are written and loaded with a dungeon of 100 rooms per side, which holds about 1,800 characters
+        Path saveFile = folder.resolve("Benchmark" + BinarySaveFile.EXTENSION);
+        SaveWriter.writeAtomically(saveFile, BinarySaveFile.encode(session));
+        GameSession loadSession = new GameSession(SEED);
+
+        benchmarks.put("save.encode", index -> BinarySaveFile.encode(session).remaining());
+        benchmarks.put("save.writeAtomically", index -> {
+            ByteBuffer contents = BinarySaveFile.encode(session);
+            SaveWriter.writeAtomically(folder.resolve("Written" + BinarySaveFile.EXTENSION), contents);
+            return contents.remaining();
+        });
+        benchmarks.put("save.load", index -> BinarySaveFile.load(saveFile, loadSession) + loadSession.getCharacterList().size());
+
+        // The text export of the same dungeon is parsed as when it is loaded like a save
+        Path textFile = folder.resolve("Benchmark.txt");
+        ByteBuffer textContents = BinarySaveFile.encode(session);
+        SaveWriter.writeAtomically(textFile, output -> BinarySaveFile.writeText(textContents, output), SaveCompression.NONE);
+        GameSession textSession = new GameSession(SEED);
+        benchmarks.put("save.parseText", index -> TextSaveLoader.load(textFile, textSession) + textSession.getCharacterList().size());
+
+        // The map is painted into an image as large as the map of the game window, as after a rebuild of the game screen
+        DungeonMapPanel dungeonMap = new DungeonMapPanel(Theme.getDefault());
+        dungeonMap.setSize(600, 600);
+        BufferedImage image = new BufferedImage(600, 600, BufferedImage.TYPE_INT_RGB);
+        benchmarks.put("ui.mapRebuild", index -> {
+            dungeonMap.updateHero(dungeonSize, index % dungeonSize, (index / dungeonSize) % dungeonSize);
+            Graphics2D graphics = image.createGraphics();
+            dungeonMap.paint(graphics);
+            graphics.dispose();
+            return image.getRGB(index % 600, 300);
+        });
+
+        // The game screen is updated as after a move in a game window of 1920 by 1080 pixels: the status panels show the
+        // new room, a line is printed to a full terminal, the map shows the hero in the new room, and the screen is painted
+        JLabel[] statusValueLabels = new JLabel[GameScreenSnapshot.STATUS_COUNT];
+        JPanel statusPanel = new JPanel(new GridLayout(GameScreenSnapshot.STATUS_COUNT, 2));
+        statusPanel.setPreferredSize(new Dimension(480, 945));
+        for (int i = 0; i < statusValueLabels.length; i++) {
+            statusPanel.add(createLabel("Status " + i));
+            statusValueLabels[i] = createLabel("");
+            statusPanel.add(statusValueLabels[i]);
+        }
+
+        TerminalLog terminalLog = new TerminalLog(TerminalLog.DEFAULT_MAX_LINES);
+        JTextArea outputTerminal = new JTextArea();
+        outputTerminal.setFont(new Font("Arial", Font.PLAIN, 24));
+        outputTerminal.setEditable(false);
+        outputTerminal.setLineWrap(true);
+        outputTerminal.setWrapStyleWord(true);
+        JScrollPane outputScrollPane = new JScrollPane(outputTerminal);
+        outputScrollPane.setPreferredSize(new Dimension(480, 756));
+
+        DungeonMapPanel screenMap = new DungeonMapPanel(Theme.getDefault());
+        screenMap.setPreferredSize(new Dimension(800, 771));
+
+        JPanel screen = new JPanel(new BorderLayout());
+        screen.add(statusPanel, BorderLayout.WEST);
+        screen.add(outputScrollPane, BorderLayout.EAST);
+        screen.add(screenMap, BorderLayout.CENTER);
+        screen.setSize(1920, 1080);
+        BufferedImage screenImage = new BufferedImage(1920, 1080, BufferedImage.TYPE_INT_RGB);
+
+        benchmarks.put("ui.screenUpdate", index -> {
+            int room = index % rooms;
+            hero.setXYCords(room % dungeonSize, room / dungeonSize);
+            terminalLog.append("\n\nYou moved to room " + room + ".\n\nWhat would you like to do? ");
+
+            GameScreenSnapshot snapshot = GameScreenSnapshot.capture(session);
+            snapshot.showIn(statusValueLabels);
+            try {
+                terminalLog.showIn(outputTerminal);
+            }
+            catch (BadLocationException e) {
+                throw new IllegalStateException("Old lines could not be removed from the terminal", e);
+            }
+            screenMap.updateHero(snapshot.getDungeonSize(), snapshot.getHeroX(), snapshot.getHeroY());
+
+            screen.validate();
+            JScrollBar scrollBar = outputScrollPane.getVerticalScrollBar();
+            scrollBar.setValue(scrollBar.getMaximum());
+            Graphics2D graphics = screenImage.createGraphics();
+            screen.paint(graphics);
+            graphics.dispose();
+            return screenImage.getRGB(index % 1920, 540);
+        });
+
+        return benchmarks;
+    }
+
+    /**
+     * Creates a session whose dungeon was made with the benchmark seed.
+     */
+    private static GameSession createSession(int dungeonSize) {
+        GameSession session = new GameSession(SEED);
+        session.setChosenDungeonSize(dungeonSize);
+        session.initializeGame("Benchmark Hero");
+        return session;
+    }
+
+    /**
+     * Creates a label with the font of the status panels of the game screen.
+     */
+    private static JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setFont(new Font("Arial", Font.PLAIN, 25));
+        return label;
+    }
+
+    /**
+     * Fights one round against the first monster of a session. The hero is moved to the monster, and both
+     * are healed before the round, so every round is fought the same way.
+     */
+    private static long fightRound(GameSession session) {
+        CharacterStore store = session.getCharacterList();
+        Character hero = session.getHero();
+        Character monster = new Character(session, store.getId(store.size() - 1));
+
+        hero.setHealth(100);
+        monster.setHealth(1000);
+        hero.setXYCords(monster.getXCord(), monster.getYCord());
+        hero.isAnotherCharacterInSameRoom();
+        session.setCharacterDeath(false);
+        session.setGameOver(false);
+        session.setIsInCombat(true);
+        return session.runCommand("fight").length() + monster.getHealth();
+    }
+
+    /**
+     * Runs an operation until its rounds stop getting faster, and then times it in rounds.
+     *
+     * @param operation     The operation of the benchmark
+     * @return              The median time of one operation over the rounds, in nanoseconds
+     */
+    private static double measure(Operation operation) throws IOException {
+        // The first part of the warmup finds how many operations fill a round
+        long warmupStart = System.nanoTime(), warmupOperations = 0;
+        while (System.nanoTime() - warmupStart < WARMUP_NANOS) {
+            checksum += operation.run(nextIndex++);
+            warmupOperations++;
+        }
+        long operationsPerRound = Math.max(1, warmupOperations * ROUND_NANOS / (System.nanoTime() - warmupStart));
+
+        // The warmup goes on in rounds until several rounds in a row were not faster than the fastest one
+        double fastest = runRound(operation, operationsPerRound);
+        int steadyRounds = 0;
+        while (steadyRounds < STEADY_ROUNDS && System.nanoTime() - warmupStart < MAX_WARMUP_NANOS) {
+            double time = runRound(operation, operationsPerRound);
+            steadyRounds = (time < fastest * FASTER_ROUND) ? 0 : steadyRounds + 1;
+            fastest = Math.min(fastest, time);
+        }
+
+        double[] nanosPerOperation = new double[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            nanosPerOperation[round] = runRound(operation, operationsPerRound);
+        }
+        Arrays.sort(nanosPerOperation);
+        return nanosPerOperation[ROUNDS / 2];
+    }
+
+    /**
+     * Runs one round of an operation.
+     *
+     * @param operation              The operation of the benchmark
+     * @param operationsPerRound     The number of operations of the round
+     * @return                       The time of one operation in the round, in nanoseconds
+     */
+    private static double runRound(Operation operation, long operationsPerRound) throws IOException {
+        long start = System.nanoTime();
+        for (long i = 0; i < operationsPerRound; i++) checksum += operation.run(nextIndex++);
+        return (double) (System.nanoTime() - start) / operationsPerRound;
+    }
+
+    /**
+     * Runs measure() on the event thread and waits for its time.
+     *
+     * @param operation        The operation of the benchmark
+     * @return                 The median time of one operation over the rounds, in nanoseconds
+     * @throws IOException     If the operation fails or the wait is interrupted
+     */
+    private static double measureOnEventThread(Operation operation) throws IOException {
+        FutureTask<Double> task = new FutureTask<>(() -> measure(operation));
+        SwingUtilities.invokeLater(task);
+        try {
+            return task.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("The benchmark was interrupted", e);
+        }
+        catch (ExecutionException e) {
+            throw new IOException("The benchmark failed", e.getCause());
+        }
+    }
+
+    /**
+     * Reads a baseline file of "name median fastest slowest" lines, in nanoseconds per operation. Lines that
+     * start with "#" are comments. A line of only a name and a time has no spread, so the time is used for all three.
+     *
+     * @param file             The baseline file
+     * @return baseline        The times of every benchmark of the baseline, by name
+     * @throws IOException     If the file cannot be read
+     */
+    private static Map<String, Result> readBaseline(Path file) throws IOException {
+        Map<String, Result> baseline = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            String[] parts = line.split("\\s+");
+            double median = Double.parseDouble(parts[1]);
+            if (parts.length < 4) baseline.put(parts[0], new Result(median, median, median));
+            else baseline.put(parts[0], new Result(median, Double.parseDouble(parts[2]), Double.parseDouble(parts[3])));
+        }
+        return baseline;
+    }
+
+    /**
+     * Writes the results of a run as a baseline file, with the machine it was recorded on as a comment.
+     *
+     * @param file             The baseline file
+     * @param results          The times of every benchmark, by name
+     * @throws IOException     If the file cannot be written
+     */
+    private static void writeBaseline(Path file, Map<String, Result> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# Dungeon Doomer benchmark baseline, in nanoseconds per operation (median, fastest, and slowest of " + FORKS
+                + " JVMs, median of " + ROUNDS + " rounds each)");
+        lines.add("# Recorded " + LocalDate.now() + " with Java " + System.getProperty("java.version") + " on " + System.getProperty("os.name")
+                + " " + System.getProperty("os.arch") + " with " + Runtime.getRuntime().availableProcessors() + " processor(s)");
+        lines.add("# Compare with: java -Djava.awt.headless=true GameBenchmark compare " + DEFAULT_BASELINE_FILE);
+        for (Map.Entry<String, Result> result : results.entrySet()) {
+            Result times = result.getValue();
+            lines.add(String.format(Locale.ROOT, "%-28s %-14.1f %-14.1f %.1f", result.getKey(), times.median, times.fastest, times.slowest));
+        }
+
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    private static void deleteFolder(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(folder);
+    }
+}
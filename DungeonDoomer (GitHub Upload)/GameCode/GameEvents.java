@@ -0,0 +1,391 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * The JDK Flight Recorder events of the game, which show the turns, combats, spawning, saves, loads,
+ * and screen updates of a recording under "Dungeon Doomer" in JDK Mission Control. A slow turn can
+ * then be traced to the move, room event, or screen rebuild that took the time.
+ *
+ * Every event is started and finished in the method it measures. Its start method returns null while
+ * no recording is running, which a listener of the FlightRecorder keeps track of, so outside of a
+ * recording an event costs one read of a field and no object is made. finish() only checks
+ * shouldCommit(), and the fields are filled in by a method of their own, so finish() is small enough
+ * to be inlined.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class GameEvents {
+
+    private static final String CATEGORY = "Dungeon Doomer";    // The category that the events are listed under
+
+    private static volatile boolean recording = false;    // Whether a recording is running, which the events are only made for
+
+    static {
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recordingStateChanged(Recording changedRecording) {
+                updateRecording();
+            }
+        });
+        updateRecording();
+    }
+
+    /**
+     * Checks if any recording is running. The FlightRecorder is not asked for its recordings until it
+     * was started (e.g. by JDK Mission Control or jcmd), since asking would start it.
+     */
+    private static void updateRecording() {
+        recording = FlightRecorder.isInitialized() && FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .anyMatch(running -> running.getState() == RecordingState.RUNNING);
+    }
+
+    /**
+     * Makes and begins an event while a recording is running. Every start method below works the same
+     * way, and the event class is only loaded once an event is made, since loading the first event class
+     * costs the JVM about a quarter of a second.
+     *
+     * @return      The event, or null if no recording is running
+     */
+    public static Move startMove() {
+        if (!recording) return null;
+
+        Move event = new Move();
+        event.begin();
+        return event;
+    }
+
+    public static RoomEvent startRoomEvent() {
+        if (!recording) return null;
+
+        RoomEvent event = new RoomEvent();
+        event.begin();
+        return event;
+    }
+
+    public static Hit startHit() {
+        if (!recording) return null;
+
+        Hit event = new Hit();
+        event.begin();
+        return event;
+    }
+
+    public static Retreat startRetreat() {
+        if (!recording) return null;
+
+        Retreat event = new Retreat();
+        event.begin();
+        return event;
+    }
+
+    public static SpawnGeneration startSpawnGeneration() {
+        if (!recording) return null;
+
+        SpawnGeneration event = new SpawnGeneration();
+        event.begin();
+        return event;
+    }
+
+    public static Save startSave() {
+        if (!recording) return null;
+
+        Save event = new Save();
+        event.begin();
+        return event;
+    }
+
+    public static SaveWrite startSaveWrite() {
+        if (!recording) return null;
+
+        SaveWrite event = new SaveWrite();
+        event.begin();
+        return event;
+    }
+
+    public static Load startLoad() {
+        if (!recording) return null;
+
+        Load event = new Load();
+        event.begin();
+        return event;
+    }
+
+    public static ScreenUpdate startScreenUpdate() {
+        if (!recording) return null;
+
+        ScreenUpdate event = new ScreenUpdate();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Fills in the fields that every event of a game session has.
+     */
+    private static void describe(GameSessionEvent event, GameSession session) {
+        event.dungeonSize = session.getDungeonSize();
+        event.characters = session.getCharacterList().size();
+        event.turn = session.getTurnCounter();
+    }
+
+    /**
+     * The fields that every event of a game session has.
+     */
+    private abstract static class GameSessionEvent extends Event {
+
+        @Label("Dungeon Size")
+        protected int dungeonSize;
+
+        @Label("Characters")
+        @Description("The number of characters in the dungeon, including the hero")
+        protected int characters;
+
+        @Label("Turn")
+        protected int turn;
+    }
+
+    @Name("dungeondoomer.Move")
+    @Label("Move")
+    @Category(CATEGORY)
+    @Description("A move of the hero, including the event in the room that the hero moved into")
+    public static class Move extends GameSessionEvent {
+
+        @Label("Direction")
+        private String direction;
+
+        @Label("Moved")
+        @Description("Whether the hero could move in the direction")
+        private boolean moved;
+
+        public void finish(GameSession session, String direction, boolean moved) {
+            if (shouldCommit()) record(session, direction, moved);
+        }
+
+        private void record(GameSession session, String direction, boolean moved) {
+            describe(this, session);
+            this.direction = direction;
+            this.moved = moved;
+            commit();
+        }
+    }
+
+    @Name("dungeondoomer.RoomEvent")
+    @Label("Room Event")
+    @Category(CATEGORY)
+    @Description("The event of a room that the hero moved into with another character")
+    public static class RoomEvent extends GameSessionEvent {
+
+        @Label("Character")
+        @Description("The kind of the character in the room")
+        private String characterKind;
+
+        public void finish(GameSession session, int characterKind) {
+            if (shouldCommit()) record(session, characterKind);
+        }
+
+        private void record(GameSession session, int characterKind) {
+            describe(this, session);
+            this.characterKind = CharacterStore.getKindName(characterKind);
+            commit();
+        }
+    }
+
+    @Name("dungeondoomer.Hit")
+    @Label("Hit")
+    @Category(CATEGORY)
+    @Description("One round of a fight, where the hero hits the monster and the monster hits back")
+    public static class Hit extends GameSessionEvent {
+
+        @Label("Monster")
+        private String monsterKind;
+
+        @Label("Monster Health")
+        @Description("The health of the monster after the round")
+        private int monsterHealth;
+
+        @Label("Hero Health")
+        @Description("The health of the hero after the round")
+        private int heroHealth;
+
+        public void finish(GameSession session, int monsterKind, int monsterHealth, int heroHealth) {
+            if (shouldCommit()) record(session, monsterKind, monsterHealth, heroHealth);
+        }
+
+        private void record(GameSession session, int monsterKind, int monsterHealth, int heroHealth) {
+            describe(this, session);
+            this.monsterKind = CharacterStore.getKindName(monsterKind);
+            this.monsterHealth = monsterHealth;
+            this.heroHealth = heroHealth;
+            commit();
+        }
+    }
+
+    @Name("dungeondoomer.Retreat")
+    @Label("Retreat")
+    @Category(CATEGORY)
+    @Description("A retreat of the hero or a monster from a fight")
+    public static class Retreat extends GameSessionEvent {
+
+        @Label("By Hero")
+        @Description("Whether the hero retreated, rather than the monster")
+        private boolean byHero;
+
+        @Label("Succeeded")
+        private boolean succeeded;
+
+        public void finish(GameSession session, boolean byHero, boolean succeeded) {
+            if (shouldCommit()) record(session, byHero, succeeded);
+        }
+
+        private void record(GameSession session, boolean byHero, boolean succeeded) {
+            describe(this, session);
+            this.byHero = byHero;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+
+    @Name("dungeondoomer.SpawnGeneration")
+    @Label("Spawn Generation")
+    @Category(CATEGORY)
+    @Description("The creation of the merchants and monsters of a new dungeon")
+    public static class SpawnGeneration extends GameSessionEvent {
+
+        @Label("Merchants")
+        private int merchants;
+
+        public void finish(GameSession session, int merchants) {
+            if (shouldCommit()) record(session, merchants);
+        }
+
+        private void record(GameSession session, int merchants) {
+            describe(this, session);
+            this.merchants = merchants;
+            commit();
+        }
+    }
+
+    @Name("dungeondoomer.Save")
+    @Label("Save")
+    @Category(CATEGORY)
+    @Description("The capture of a save or text export on the logic thread, before the save writer writes it")
+    public static class Save extends GameSessionEvent {
+
+        @Label("File")
+        private String file;
+
+        @Label("Size")
+        @Description("The size of the content captured from the game, which is the binary save for a text export as well")
+        @DataAmount(DataAmount.BYTES)
+        private long bytes;
+
+        @Label("Compression Level")
+        private int compressionLevel;
+
+        public void finish(GameSession session, String file, long bytes, int compressionLevel) {
+            if (shouldCommit()) record(session, file, bytes, compressionLevel);
+        }
+
+        private void record(GameSession session, String file, long bytes, int compressionLevel) {
+            describe(this, session);
+            this.file = file;
+            this.bytes = bytes;
+            this.compressionLevel = compressionLevel;
+            commit();
+        }
+    }
+
+    @Name("dungeondoomer.SaveWrite")
+    @Label("Save Write")
+    @Category(CATEGORY)
+    @Description("The write of a save file on the save writer thread, including compression and forcing it to the disk")
+    public static class SaveWrite extends Event {
+
+        @Label("File")
+        private String file;
+
+        @Label("Size")
+        @Description("The size of the save before compression")
+        @DataAmount(DataAmount.BYTES)
+        private long bytes;
+
+        @Label("Compression Level")
+        private int compressionLevel;
+
+        public void finish(String file, long bytes, int compressionLevel) {
+            if (shouldCommit()) record(file, bytes, compressionLevel);
+        }
+
+        private void record(String file, long bytes, int compressionLevel) {
+            this.file = file;
+            this.bytes = bytes;
+            this.compressionLevel = compressionLevel;
+            commit();
+        }
+    }
+
+    @Name("dungeondoomer.Load")
+    @Label("Load")
+    @Category(CATEGORY)
+    @Description("The load of a save file into the game session")
+    public static class Load extends GameSessionEvent {
+
+        @Label("File")
+        private String file;
+
+        @Label("File Size")
+        @DataAmount(DataAmount.BYTES)
+        private long bytes;
+
+        public void finish(GameSession session, Path file) {
+            if (shouldCommit()) record(session, file);
+        }
+
+        private void record(GameSession session, Path file) {
+            describe(this, session);
+            this.file = file.getFileName().toString();
+            try {
+                this.bytes = Files.size(file);
+            }
+            catch (IOException e) {
+                this.bytes = -1;    // The size is left out of the event if the file is gone
+            }
+            commit();
+        }
+    }
+
+    @Name("dungeondoomer.ScreenUpdate")
+    @Label("Screen Update")
+    @Category(CATEGORY)
+    @Description("An update of the game screen on the event thread")
+    public static class ScreenUpdate extends Event {
+
+        @Label("Rebuilt")
+        @Description("Whether the game screen was built again, rather than only the parts that changed")
+        private boolean rebuilt;
+
+        @Label("Dungeon Size")
+        private int dungeonSize;
+
+        public void finish(boolean rebuilt, int dungeonSize) {
+            if (shouldCommit()) record(rebuilt, dungeonSize);
+        }
+
+        private void record(boolean rebuilt, int dungeonSize) {
+            this.rebuilt = rebuilt;
+            this.dungeonSize = dungeonSize;
+            commit();
+        }
+    }
+}
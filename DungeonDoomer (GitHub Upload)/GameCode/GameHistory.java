@@ -0,0 +1,146 @@
+import java.util.ArrayDeque;
+
+/**
+ * Keeps the state of the last turns of a game session in memory, so turns can be undone in casual mode
+ * or while testing. The characters of a turn are kept as CharacterRecords, which share every unchanged
+ * leaf with the turn before, so a turn costs the characters that changed in it. Only the given number
+ * of turns is kept, and the oldest turn is dropped when a new one is recorded.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class GameHistory {
+
+    public static final int DEFAULT_DEPTH = 20;    // The number of turns that can be undone, unless another number is given
+
+    private final GameSession session;                              // The game session whose turns are kept
+    private final int depth;                                        // The number of turns that can be undone
+    private final ArrayDeque<TurnState> turns = new ArrayDeque<>(); // The kept turns, with the newest last
+    private boolean restored = false;                               // Whether the last change of the characters was made by undo()
+
+    /**
+     * Creates the history of a game session and starts recording the changes of its characters.
+     *
+     * @param session     The game session whose turns are kept
+     * @param depth       The number of turns that can be undone, or 0 to keep none
+     */
+    public GameHistory(GameSession session, int depth) {
+        if (depth < 0) throw new IllegalArgumentException("The history depth cannot be negative: " + depth);
+
+        this.session = session;
+        this.depth = depth;
+        if (depth > 0) session.getCharacterList().setRecordingChanges(true);
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the number of turns that can be undone now.
+     *
+     * @return      The number of kept turns before the newest one
+     */
+    public int getUndoableTurns() {
+        return Math.max(0, turns.size() - 1);
+    }
+
+    /**
+     * Keeps the state of the turn that was just played. Runs on the logic thread after every command.
+     *
+     * @param changedIds     The characters that changed in the turn, taken from the CharacterStore
+     * @param replaced       Whether the list of characters was replaced in the turn
+     */
+    public void recordTurn(int[] changedIds, boolean replaced) {
+        CharacterStore store = session.getCharacterList();
+        if (depth == 0 || store.isEmpty()) return;
+
+        // The characters that undo() put back already match the newest turn
+        if (restored) {
+            restored = false;
+            return;
+        }
+
+        TurnState previous = turns.peekLast();
+        if (previous != null && changedIds.length == 0 && !replaced && previous.matchesSession(session, store)) return;
+
+        // A new game or a loaded save starts the history over, since its turns cannot be undone into the last game
+        if (replaced) {
+            turns.clear();
+            previous = null;
+        }
+
+        CharacterRecords characters = (previous == null) ? CharacterRecords.of(store) : previous.characters.with(store, changedIds);
+        turns.addLast(new TurnState(session, characters));
+        if (turns.size() > depth + 1) turns.removeFirst();
+    }
+
+    /**
+     * Puts the game session back to the state it had a number of turns ago. Only the characters whose
+     * records differ from the newest turn are made again, and the undone turns are dropped.
+     *
+     * @param turnCount     The number of turns to undo
+     * @return              true if the turns were undone, and false if not enough turns are kept
+     */
+    public boolean undo(int turnCount) {
+        if (turnCount < 1 || turnCount > getUndoableTurns()) return false;
+
+        TurnState newest = turns.peekLast();
+        for (int i = 0; i < turnCount; i++) turns.removeLast();
+        TurnState target = turns.peekLast();
+
+        CharacterStore store = session.getCharacterList();
+        int[] ids = new int[target.characters.size()];
+        for (int i = 0; i < Math.min(ids.length, store.size()); i++) ids[i] = store.getId(i);
+        target.characters.forEachDifference(newest.characters, position -> ids[position] = target.characters.createCharacter(position, store));
+        store.replaceContents(ids);
+        session.setCharacterList(store);
+
+        target.restoreSession(session);
+        restored = true;
+        return true;
+    }
+
+    /**
+     * The state of a game session after a turn.
+     */
+    private static class TurnState {
+
+        private final CharacterRecords characters;    // The records of the characters, in list order
+        private final int dungeonSize;                // The size of the dungeon
+        private final int turnCounter;                // The turn number of the game
+        private final int potionTurnCounter;          // The number of turns that the strength potion was active
+        private final int characterInSameRoom;        // The list position of the character in the hero's room, or -1 if there is none
+        private final boolean inCombat;               // Whether the hero was in combat
+        private final boolean inTrade;                // Whether the hero was in a trade
+        private final boolean gameOver;               // Whether the game was over
+
+        private TurnState(GameSession session, CharacterRecords characters) {
+            this.characters = characters;
+            this.dungeonSize = session.getDungeonSize();
+            this.turnCounter = session.getTurnCounter();
+            this.potionTurnCounter = session.getPotionTurnCounter();
+            this.characterInSameRoom = session.getCharacterInSameRoomIndex();
+            this.inCombat = session.getIsInCombat();
+            this.inTrade = session.getIsInTrade();
+            this.gameOver = session.getGameOver();
+        }
+
+        private boolean matchesSession(GameSession session, CharacterStore store) {
+            return characters.size() == store.size() && dungeonSize == session.getDungeonSize() && turnCounter == session.getTurnCounter()
+                    && potionTurnCounter == session.getPotionTurnCounter() && characterInSameRoom == session.getCharacterInSameRoomIndex()
+                    && inCombat == session.getIsInCombat() && inTrade == session.getIsInTrade() && gameOver == session.getGameOver();
+        }
+
+        private void restoreSession(GameSession session) {
+            session.setDungeonSize(dungeonSize);
+            session.setTurnCounter(turnCounter);
+            session.setPotionTurnCounter(potionTurnCounter);
+            session.setCharacterInSameRoomIndex(characterInSameRoom);
+            session.setIsInCombat(inCombat);
+            session.setIsInTrade(inTrade);
+            session.setGameOver(gameOver);
+            session.setCharacterDeath(false);
+        }
+    }
+}
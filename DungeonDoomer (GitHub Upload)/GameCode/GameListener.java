@@ -0,0 +1,82 @@
+/**
+ * Receives the output and notifications of a game session. Every method does nothing by default,
+ * so a session without a window (e.g. a simulation) can run with an empty listener.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public interface GameListener {
+
+    /**
+     * "Prints" a string to the terminal of the listener.
+     *
+     * @param thingToPrint     The string to "print" or add to the output terminal
+     */
+    default void printToTerminal(String thingToPrint) {
+    }
+
+    /**
+     * Shows a message that the user has to acknowledge.
+     *
+     * @param message     A string message to be shown to the user
+     */
+    default void pushMessage(String message) {
+    }
+
+    /**
+     * Informs the listener that the hero has perished in the dungeon.
+     */
+    default void pushDeathMessage() {
+    }
+
+    /**
+     * Informs the listener that the hero has escaped the dungeon.
+     */
+    default void pushEscapeMessage() {
+    }
+
+    /**
+     * Informs the listener that the game state changed in a way that should be redrawn.
+     */
+    default void fullGameGraphicsUpdate() {
+    }
+
+    /**
+     * Informs the listener that the dungeon was reset after the hero escaped and kept exploring.
+     */
+    default void gameRerun() {
+    }
+
+    /**
+     * Informs the listener that the hero moved into another room.
+     */
+    default void heroMoved() {
+    }
+
+    /**
+     * Informs the listener that the hero started a fight with a monster.
+     */
+    default void combatStarted() {
+    }
+
+    /**
+     * Informs the listener that an illegal state was reached. By default, the state is only logged.
+     *
+     * @param exceptionMessage     The reason why the state is illegal
+     */
+    default void logAndNotifyIllegalState(String exceptionMessage) {
+        logError("An illegal state was reached", new IllegalStateException(exceptionMessage));
+    }
+
+    /**
+     * Informs the listener of an error that the session went on after. By default, the error is printed
+     * to the console, since a session without a window has no game log.
+     *
+     * @param message       What the session was doing when the error happened
+     * @param throwable     The error
+     */
+    default void logError(String message, Throwable throwable) {
+        System.err.println(message);
+        throwable.printStackTrace();
+    }
+}
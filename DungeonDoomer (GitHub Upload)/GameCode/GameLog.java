@@ -0,0 +1,429 @@
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes the log of the game to the GameLogs folder on a thread of its own. A thread that logs only
+ * puts the entry into a ring buffer, which is claimed with a compare-and-set and never waits for a
+ * lock or the disk, and the writer thread formats and writes the entries in the order they were put
+ * in. If the buffer is full, the entry is dropped and counted, and the count is written later.
+ *
+ * Every line holds the time, level, thread, and message of an entry as "key=value" fields. A stack
+ * trace is written in full the first time it is seen in a log file and is given a number, and the same
+ * trace is only referred to by its number after that, with the number of times it was seen. Every log
+ * file holds the full text of the traces it refers to, so it can be read without the files before it.
+ *
+ * A log file is closed once it reaches the size limit and a new one is started. Only the newest log
+ * files are kept, so the folder stays small without being cleared by hand.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class GameLog {
+
+    /**
+     * The levels of the entries, from the least to the most important.
+     */
+    public enum Level { DEBUG, INFO, WARNING, ERROR }
+
+    public static final String LOG_FOLDER = "GameLogs";            // The folder that the log files are written to
+    public static final String FILE_PREFIX = "Game Log ";          // The start of the name of every log file
+    public static final int DEFAULT_MAX_FILE_BYTES = 1 << 20;      // The size from which a new log file is started
+    public static final int DEFAULT_MAX_FILES = 10;                // The number of log files that are kept
+
+    private static final int BUFFER_ENTRIES = 1 << 12;                  // The number of entries the ring buffer holds, a power of two
+    private static final int MAX_REMEMBERED_TRACES = 256;               // The number of stack traces whose number is remembered
+    private static final long IDLE_WAIT_NANOS = 50_000_000L;            // The longest time the writer sleeps while the buffer is empty
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("MM-dd-yyyy HH-mm-ss");
+
+    private final Path folder;              // The folder that the log files are written to
+    private final int maxFileBytes;         // The size from which a new log file is started
+    private final int maxFiles;             // The number of log files that are kept
+    private volatile Level minimumLevel = Level.INFO;    // The least important level that is written
+
+    private final AtomicReferenceArray<Entry> buffer = new AtomicReferenceArray<>(BUFFER_ENTRIES);    // The entries that wait to be written
+    private final AtomicLong tail = new AtomicLong();       // The number of entries that were put into the buffer
+    private volatile long head = 0;                         // The number of entries that were taken by the writer, only changed by the writer
+    private final AtomicLong droppedEntries = new AtomicLong();    // The number of entries that were dropped because the buffer was full
+
+    private volatile Thread writerThread;         // Writes the entries, once the log was started
+    private volatile boolean writerWaiting;       // Whether the writer sleeps until an entry is put in
+    private volatile boolean closed = false;      // Whether the log was closed
+
+    // Only used by the writer thread
+    private final Map<String, TraceCount> traces = new LinkedHashMap<>(16, 0.75f, true);    // The stack traces that were written, with the least recently seen first
+    private int nextTraceNumber = 1;          // The number given to the next new stack trace
+    private OutputStream output;              // The stream of the current log file
+    private volatile Path currentFile;        // The current log file
+    private long currentFileBytes = 0;        // The number of bytes written to the current log file
+    private long reportedDrops = 0;           // The number of dropped entries that were written to the log
+    private volatile long bytesWritten = 0;   // The number of bytes written to every log file since the log was started, only changed by the writer
+
+    /**
+     * Creates a log of a folder. Until the log is started, entries are written to System.err by the thread that logs them.
+     *
+     * @param folder           The folder that the log files are written to
+     * @param maxFileBytes     The size from which a new log file is started
+     * @param maxFiles         The number of log files that are kept
+     */
+    public GameLog(Path folder, int maxFileBytes, int maxFiles) {
+        if (maxFileBytes < 1 || maxFiles < 1) throw new IllegalArgumentException("A log needs room for at least one file");
+
+        this.folder = folder;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+    }
+
+    public void setMinimumLevel(Level minimumLevel) {
+        this.minimumLevel = minimumLevel;
+    }
+
+    public Path getCurrentFile() {
+        return currentFile;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public long getDroppedEntries() {
+        return droppedEntries.get();
+    }
+
+    /**
+     * Opens a new log file, deletes the oldest log files, and starts the writer thread. Calling it again does nothing.
+     *
+     * @throws IOException     If the log folder or the first log file cannot be made
+     */
+    public synchronized void start() throws IOException {
+        if (writerThread != null) return;
+
+        Files.createDirectories(folder);
+        openNewFile();
+
+        Thread thread = new Thread(this::writeEntries, "Dungeon Doomer Log Writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "Dungeon Doomer Log Closer"));
+    }
+
+    public void debug(String message) {
+        log(Level.DEBUG, message, null);
+    }
+
+    public void info(String message) {
+        log(Level.INFO, message, null);
+    }
+
+    public void warning(String message) {
+        log(Level.WARNING, message, null);
+    }
+
+    public void warning(String message, Throwable throwable) {
+        log(Level.WARNING, message, throwable);
+    }
+
+    public void error(String message, Throwable throwable) {
+        log(Level.ERROR, message, throwable);
+    }
+
+    /**
+     * Puts an entry into the ring buffer for the writer thread. Never waits for the writer, and drops
+     * the entry if the buffer is full.
+     *
+     * @param level         The level of the entry
+     * @param message       The message of the entry
+     * @param throwable     The exception whose stack trace is written with the entry, or null if there is none
+     */
+    public void log(Level level, String message, Throwable throwable) {
+        if (level.compareTo(minimumLevel) < 0) return;
+
+        Entry entry = new Entry(System.currentTimeMillis(), level, Thread.currentThread().getName(), message, throwable);
+        if (writerThread == null || closed) {
+            System.err.print(format(entry, null));
+            if (throwable != null) throwable.printStackTrace();
+            return;
+        }
+
+        while (true) {
+            long position = tail.get();
+            if (position - head >= BUFFER_ENTRIES) {
+                droppedEntries.incrementAndGet();
+                return;
+            }
+            if (tail.compareAndSet(position, position + 1)) {
+                buffer.set((int) position & (BUFFER_ENTRIES - 1), entry);
+                break;
+            }
+        }
+        if (writerWaiting) LockSupport.unpark(writerThread);
+    }
+
+    /**
+     * Writes the entries that are left and closes the log file. Entries that are logged afterward go to System.err.
+     */
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            thread = writerThread;
+        }
+        if (thread == null) return;
+
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Deletes the log files other than the current one, such as when the user clears the cache.
+     *
+     * @return      true if every old log file was deleted, and false otherwise
+     */
+    public boolean deleteOldFiles() {
+        boolean deleted = true;
+        for (Path file : listLogFiles()) {
+            if (file.equals(currentFile)) continue;
+            try {
+                Files.deleteIfExists(file);
+            }
+            catch (IOException e) {
+                deleted = false;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Runs on the writer thread and writes the entries in the order they were put in. The log file is
+     * flushed whenever the buffer is empty, so a crash loses at most the entries of the last moment.
+     */
+    private void writeEntries() {
+        while (true) {
+            long position = head;
+            Entry entry = buffer.get((int) position & (BUFFER_ENTRIES - 1));
+
+            if (entry == null) {
+                // An entry that was claimed but not put in yet is waited for, and otherwise the buffer is empty
+                if (tail.get() > position) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                flush();
+                if (closed) break;
+
+                writerWaiting = true;
+                if (tail.get() == position && !closed) LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+                writerWaiting = false;
+                continue;
+            }
+
+            buffer.set((int) position & (BUFFER_ENTRIES - 1), null);
+            head = position + 1;
+            writeDroppedCount();
+            write(entry);
+        }
+
+        writeDroppedCount();
+        try {
+            output.close();
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes an entry, with its stack trace the first time the trace is seen in the current log file.
+     */
+    private void write(Entry entry) {
+        if (entry.throwable == null) {
+            append(format(entry, null));
+            return;
+        }
+
+        StringWriter traceText = new StringWriter();
+        entry.throwable.printStackTrace(new PrintWriter(traceText));
+        String trace = traceText.toString();
+
+        // The trace was written to this file before, so only its number is written, unless the entry starts a new file
+        TraceCount count = traces.get(trace);
+        if (count != null) {
+            String line = format(entry, "trace=" + count.number + " repeated=" + (count.times + 1));
+            if (fits(line)) {
+                count.times++;
+                append(line);
+                return;
+            }
+        }
+
+        // The trace is remembered once it is written, since starting a new file forgets the traces of the old one
+        count = new TraceCount(nextTraceNumber++);
+        append(format(entry, "trace=" + count.number) + trace);
+        traces.put(trace, count);
+        if (traces.size() > MAX_REMEMBERED_TRACES) traces.remove(traces.keySet().iterator().next());
+    }
+
+    private void writeDroppedCount() {
+        long dropped = droppedEntries.get() - reportedDrops;
+        reportedDrops += dropped;
+        if (dropped > 0) append(format(new Entry(System.currentTimeMillis(), Level.WARNING, Thread.currentThread().getName(),
+                dropped + " entries were dropped because the log buffer was full", null), null));
+    }
+
+    /**
+     * Writes text to the current log file, and starts a new file first if the text does not fit.
+     */
+    private void append(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        try {
+            if (currentFileBytes > 0 && currentFileBytes + bytes.length > maxFileBytes) {
+                output.close();
+                openNewFile();
+            }
+            output.write(bytes);
+            currentFileBytes += bytes.length;
+            bytesWritten += bytes.length;
+        }
+        catch (IOException e) {
+            System.err.print(text);
+        }
+    }
+
+    private boolean fits(String text) {
+        return currentFileBytes == 0 || currentFileBytes + text.getBytes(StandardCharsets.UTF_8).length <= maxFileBytes;
+    }
+
+    private void flush() {
+        try {
+            output.flush();
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Opens a new log file named after the current time, and deletes the oldest log files beyond the number that is kept.
+     */
+    private void openNewFile() throws IOException {
+        String time = LocalDateTime.now().format(FILE_TIME_FORMAT);
+        Path file = folder.resolve(FILE_PREFIX + time + ".log");
+        for (int copy = 2; Files.exists(file); copy++) file = folder.resolve(FILE_PREFIX + time + " (" + copy + ").log");
+
+        output = new BufferedOutputStream(Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE), 1 << 16);
+        currentFile = file;
+        currentFileBytes = 0;
+        traces.clear();    // The first sighting of a trace in the new file writes it in full again
+
+        List<Path> files = listLogFiles();
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            try {
+                Files.deleteIfExists(files.get(i));
+            }
+            catch (IOException e) {
+                // A log file that another game still writes is left, and deleted by a later game
+            }
+        }
+    }
+
+    /**
+     * Lists the log files of the folder, including the error logs of older versions of the game, with the oldest first.
+     *
+     * @return      The log files
+     */
+    private List<Path> listLogFiles() {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder, "*.log")) {
+            for (Path file : stream) files.add(file);
+        }
+        catch (IOException e) {
+            return files;
+        }
+
+        Map<Path, Long> lastModified = new LinkedHashMap<>();
+        for (Path file : files) {
+            try {
+                lastModified.put(file, Files.getLastModifiedTime(file).toMillis());
+            }
+            catch (IOException e) {
+                lastModified.put(file, 0L);
+            }
+        }
+        files.sort(Comparator.comparing((Path file) -> lastModified.get(file)).thenComparing(Path::toString));
+        return files;
+    }
+
+    /**
+     * Formats the line of an entry.
+     */
+    private static String format(Entry entry, String traceNote) {
+        StringBuilder line = new StringBuilder(128);
+        line.append("time=").append(TIME_FORMAT.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.time), ZoneId.systemDefault())));
+        line.append(" level=").append(entry.level);
+        line.append(" thread=\"").append(entry.thread).append('"');
+        line.append(" message=\"").append((entry.message == null) ? "" : entry.message.replace("\"", "'").replace("\n", " ").trim()).append('"');
+        if (entry.throwable != null) line.append(" exception=").append(entry.throwable.getClass().getName());
+        if (traceNote != null) line.append(' ').append(traceNote);
+        return line.append(System.lineSeparator()).toString();
+    }
+
+    /**
+     * An entry that waits in the ring buffer.
+     */
+    private static class Entry {
+
+        private final long time;               // The time the entry was logged, in milliseconds since 1970
+        private final Level level;             // The level of the entry
+        private final String thread;           // The name of the thread that logged the entry
+        private final String message;          // The message of the entry
+        private final Throwable throwable;     // The exception of the entry, or null if there is none
+
+        private Entry(long time, Level level, String thread, String message, Throwable throwable) {
+            this.time = time;
+            this.level = level;
+            this.thread = thread;
+            this.message = message;
+            this.throwable = throwable;
+        }
+    }
+
+    /**
+     * The number of a stack trace and the number of times it was seen.
+     */
+    private static class TraceCount {
+
+        private final int number;     // The number that the trace is referred to by
+        private int times = 1;        // The number of times the trace was seen
+
+        private TraceCount(int number) {
+            this.number = number;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the rules of the game on one thread of its own, so the window keeps painting while a command
+ * is handled (e.g. while a large dungeon is made or a save file is written). Commands are taken from
+ * a queue in the order they were submitted, and a command that fails is logged without stopping the
+ * commands after it.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class GameLogicExecutor {
+
+    private volatile Thread logicThread;        // The thread that runs the commands
+    private final ThreadPoolExecutor executor;  // Holds the queue of commands and runs them one at a time
+    private final GameLog gameLog;              // The log that failed commands are written to
+
+    /**
+     * Creates the executor. Its thread is a daemon, so it does not keep the game running once the window is closed.
+     *
+     * @param gameLog     The log that failed commands are written to
+     */
+    public GameLogicExecutor(GameLog gameLog) {
+        this.gameLog = gameLog;
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            logicThread = new Thread(runnable, "Dungeon Doomer Logic");
+            logicThread.setDaemon(true);
+            return logicThread;
+        });
+    }
+
+    /**
+     * Adds a command to the end of the queue.
+     *
+     * @param command     The command to run on the logic thread
+     */
+    public void submit(Runnable command) {
+        executor.execute(() -> {
+            try {
+                command.run();
+            }
+            catch (Exception e) {
+                gameLog.error("A command failed on the logic thread", e);
+            }
+        });
+    }
+
+    /**
+     * Checks if the calling thread is the logic thread.
+     *
+     * @return      true if the caller runs on the logic thread, and false otherwise
+     */
+    public boolean isLogicThread() {
+        return Thread.currentThread() == logicThread;
+    }
+
+    /**
+     * Returns the number of commands that wait in the queue.
+     *
+     * @return      The number of waiting commands
+     */
+    public int getQueuedCommandCount() {
+        return executor.getQueue().size();
+    }
+}
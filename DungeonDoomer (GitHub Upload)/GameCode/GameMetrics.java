@@ -0,0 +1,210 @@
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counts the work that a game session spends its time on, and shows the counts and latencies over JMX
+ * so they can be watched while the game is played. The counters are LongAdders and the latencies are
+ * LatencyHistograms, which the logic thread, the event thread, and the save writer add to without
+ * locking, so the metrics are cheap enough to be always on.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class GameMetrics implements GameMetricsMXBean {
+
+    public static final String OBJECT_NAME = "DungeonDoomer:type=GameMetrics";    // The name that the metrics are registered with
+
+    private final GameLog gameLog;    // The log whose written bytes and dropped entries are shown
+
+    private final LongAdder generalCommands = new LongAdder();          // The commands handled outside of combat
+    private final LongAdder combatCommands = new LongAdder();           // The commands handled in combat
+    private final LatencyHistogram commandLatency = new LatencyHistogram();    // The time to handle a command, until the screen update is requested, without the time popups were open
+    private final LongAdder moves = new LongAdder();                    // The moves of the hero into another room
+    private final LongAdder combats = new LongAdder();                  // The combats that were started
+    private final LongAdder saves = new LongAdder();                    // The save files and exports that were written
+    private final LongAdder failedSaves = new LongAdder();              // The save files and exports that could not be written
+    private final LongAdder savedBytes = new LongAdder();               // The bytes handed to the save writer, before compression
+    private final LatencyHistogram saveLatency = new LatencyHistogram();       // The time from the save command until the file was written
+    private final LongAdder loads = new LongAdder();                    // The save files that were loaded
+    private final LatencyHistogram loadLatency = new LatencyHistogram();       // The time to load a save file into the session
+    private final LongAdder screenUpdateRequests = new LongAdder();     // The calls of fullGameGraphicsUpdate
+    private final LatencyHistogram screenUpdateLatency = new LatencyHistogram();     // The time to update a shown game screen on the event thread
+    private final LatencyHistogram screenRebuildLatency = new LatencyHistogram();    // The time to build the game screen again on the event thread
+
+    private volatile long logBytesAtReset = 0;      // The bytes the log had written when the metrics were last reset
+    private volatile long droppedAtReset = 0;       // The entries the log had dropped when the metrics were last reset
+
+    /**
+     * Creates the metrics of a game.
+     *
+     * @param gameLog     The log of the game
+     */
+    public GameMetrics(GameLog gameLog) {
+        this.gameLog = gameLog;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server, which JMX consoles connect to.
+     *
+     * @throws JMException     If the metrics cannot be registered
+     */
+    public void register() throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+    }
+
+    /**
+     * Counts a command that was handled by the general or the combat command interpreter.
+     *
+     * @param inCombat     Whether the command was handled by the combat command interpreter
+     * @param nanos        The time it took to handle the command
+     */
+    public void recordCommand(boolean inCombat, long nanos) {
+        if (inCombat) combatCommands.increment();
+        else generalCommands.increment();
+        commandLatency.record(nanos);
+    }
+
+    public void recordMove() {
+        moves.increment();
+    }
+
+    public void recordCombat() {
+        combats.increment();
+    }
+
+    /**
+     * Counts a save file or export that was written.
+     *
+     * @param nanos     The time from the save command until the file was written
+     * @param bytes     The size of the content of the save, before compression
+     */
+    public void recordSave(long nanos, long bytes) {
+        saves.increment();
+        savedBytes.add(bytes);
+        saveLatency.record(nanos);
+    }
+
+    public void recordFailedSave() {
+        failedSaves.increment();
+    }
+
+    public void recordLoad(long nanos) {
+        loads.increment();
+        loadLatency.record(nanos);
+    }
+
+    public void recordScreenUpdateRequest() {
+        screenUpdateRequests.increment();
+    }
+
+    /**
+     * Counts an update of the game screen on the event thread.
+     *
+     * @param rebuilt     Whether the game screen was built again, rather than only the parts that changed
+     * @param nanos       The time the update took
+     */
+    public void recordScreenUpdate(boolean rebuilt, long nanos) {
+        if (rebuilt) screenRebuildLatency.record(nanos);
+        else screenUpdateLatency.record(nanos);
+    }
+
+    // Getters for GameMetrics class
+    @Override
+    public long getCommands() {
+        return generalCommands.sum() + combatCommands.sum();
+    }
+
+    @Override
+    public long getGeneralCommands() {
+        return generalCommands.sum();
+    }
+
+    @Override
+    public long getCombatCommands() {
+        return combatCommands.sum();
+    }
+
+    @Override
+    public LatencyHistogram.Summary getCommandLatency() {
+        return commandLatency.getSummary();
+    }
+
+    @Override
+    public long getMoves() {
+        return moves.sum();
+    }
+
+    @Override
+    public long getCombats() {
+        return combats.sum();
+    }
+
+    @Override
+    public long getSaves() {
+        return saves.sum();
+    }
+
+    @Override
+    public long getFailedSaves() {
+        return failedSaves.sum();
+    }
+
+    @Override
+    public long getSavedBytes() {
+        return savedBytes.sum();
+    }
+
+    @Override
+    public LatencyHistogram.Summary getSaveLatency() {
+        return saveLatency.getSummary();
+    }
+
+    @Override
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    @Override
+    public LatencyHistogram.Summary getLoadLatency() {
+        return loadLatency.getSummary();
+    }
+
+    @Override
+    public long getScreenUpdateRequests() {
+        return screenUpdateRequests.sum();
+    }
+
+    @Override
+    public LatencyHistogram.Summary getScreenUpdateLatency() {
+        return screenUpdateLatency.getSummary();
+    }
+
+    @Override
+    public LatencyHistogram.Summary getScreenRebuildLatency() {
+        return screenRebuildLatency.getSummary();
+    }
+
+    @Override
+    public long getLogBytesWritten() {
+        return gameLog.getBytesWritten() - logBytesAtReset;
+    }
+
+    @Override
+    public long getLogEntriesDropped() {
+        return gameLog.getDroppedEntries() - droppedAtReset;
+    }
+
+    @Override
+    public void reset() {
+        for (LongAdder counter : new LongAdder[] {generalCommands, combatCommands, moves, combats, saves, failedSaves, savedBytes, loads, screenUpdateRequests}) {
+            counter.reset();
+        }
+        for (LatencyHistogram histogram : new LatencyHistogram[] {commandLatency, saveLatency, loadLatency, screenUpdateLatency, screenRebuildLatency}) {
+            histogram.reset();
+        }
+        logBytesAtReset = gameLog.getBytesWritten();
+        droppedAtReset = gameLog.getDroppedEntries();
+    }
+}
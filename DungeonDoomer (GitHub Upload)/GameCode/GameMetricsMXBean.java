@@ -0,0 +1,49 @@
+/**
+ * The attributes and operations of the GameMetrics that a JMX console such as JConsole or VisualVM
+ * shows under "DungeonDoomer:type=GameMetrics". Every latency is shown as one attribute with its
+ * count, mean, percentiles, and maximum in microseconds.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public interface GameMetricsMXBean {
+
+    long getCommands();
+
+    long getGeneralCommands();
+
+    long getCombatCommands();
+
+    LatencyHistogram.Summary getCommandLatency();
+
+    long getMoves();
+
+    long getCombats();
+
+    long getSaves();
+
+    long getFailedSaves();
+
+    long getSavedBytes();
+
+    LatencyHistogram.Summary getSaveLatency();
+
+    long getLoads();
+
+    LatencyHistogram.Summary getLoadLatency();
+
+    long getScreenUpdateRequests();
+
+    LatencyHistogram.Summary getScreenUpdateLatency();
+
+    LatencyHistogram.Summary getScreenRebuildLatency();
+
+    long getLogBytesWritten();
+
+    long getLogEntriesDropped();
+
+    /**
+     * Sets every counter and latency back to zero, such as before a play session is measured.
+     */
+    void reset();
+}
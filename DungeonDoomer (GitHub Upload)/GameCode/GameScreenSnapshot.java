@@ -0,0 +1,102 @@
+import javax.swing.JLabel;
+
+/**
+ * Holds what the game screen shows of a game at one moment. A snapshot is made on the logic thread
+ * and handed to the event thread, which paints it without reading the game session while the rules
+ * keep running.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class GameScreenSnapshot {
+
+    public static final int STATUS_COUNT = 8;    // The number of status panels, which show the hero's attributes
+
+    private final String[] statusValues;    // The values shown in the status panels, in the order of the panels
+    private final int dungeonSize;          // The size of the dungeon
+    private final int heroX, heroY;         // The coordinates of the hero's room
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param statusValues     The values shown in the status panels, in the order of the panels
+     * @param dungeonSize      The size of the dungeon
+     * @param heroX            The X coordinate of the hero's room
+     * @param heroY            The Y coordinate of the hero's room
+     */
+    public GameScreenSnapshot(String[] statusValues, int dungeonSize, int heroX, int heroY) {
+        this.statusValues = statusValues;
+        this.dungeonSize = dungeonSize;
+        this.heroX = heroX;
+        this.heroY = heroY;
+    }
+
+    /**
+     * Copies what the game screen shows of a game. Runs on the logic thread.
+     *
+     * @param session      The game session to copy
+     * @return snapshot    The state of the game to be shown
+     */
+    public static GameScreenSnapshot capture(GameSession session) {
+        Character hero = session.getHero();
+        String[] statusValues = new String[STATUS_COUNT];
+
+        for (int i = 0; i < statusValues.length; i++) {
+            statusValues[i] = getStatusValue(hero, i);
+        }
+        return new GameScreenSnapshot(statusValues, session.getDungeonSize(), hero.getXCord(), hero.getYCord());
+    }
+
+    /**
+     * Returns the value of one of the hero's attributes as it is shown in the status panels.
+     *
+     * @param hero      The hero whose attributes are shown
+     * @param index     The index of the status panel
+     * @return          The value shown in the status panel
+     */
+    private static String getStatusValue(Character hero, int index) {
+        switch (index) {
+            case 0: return String.valueOf(hero.getHealth());
+            case 1: return String.valueOf(hero.getMaxDamage());
+            case 2: return "(" + hero.getXCord() + ", " + hero.getYCord() + ")";
+            case 3: return String.valueOf(hero.getSmellCounter());
+            case 4: return String.valueOf(hero.getTurnCounterValue());
+            case 5: return String.valueOf(hero.getGoldValue());
+            case 6: return String.valueOf(hero.getPotionMessage(hero.getHasHealthPotion()));
+            case 7: return String.valueOf(hero.getPotionMessage(hero.getHasStrengthPotion()));
+            default: return "";
+        }
+    }
+
+    /**
+     * Updates the labels of the status panels whose values changed. Runs on the event thread.
+     *
+     * @param valueLabels     The labels that show the values, in the order of the panels
+     */
+    public void showIn(JLabel[] valueLabels) {
+        for (int i = 0; i < valueLabels.length; i++) {
+            if (!statusValues[i].equals(valueLabels[i].getText())) valueLabels[i].setText(statusValues[i]);
+        }
+    }
+
+    // Getters for GameScreenSnapshot class
+    public String getStatusValue(int index) {
+        return statusValues[index];
+    }
+
+    public int getStatusValueCount() {
+        return statusValues.length;
+    }
+
+    public int getDungeonSize() {
+        return dungeonSize;
+    }
+
+    public int getHeroX() {
+        return heroX;
+    }
+
+    public int getHeroY() {
+        return heroY;
+    }
+}
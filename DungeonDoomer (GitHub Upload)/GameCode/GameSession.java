@@ -0,0 +1,1159 @@
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Holds the state and the rules of one game. A session does not depend on the game window,
+ * so any number of independent dungeons can be played in the same process. Output is sent
+ * to the session's GameListener and is also returned by runCommand().
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public final class GameSession {
+
+    public static final int MIN_CHOSEN_DUNGEON_SIZE = 5;        // The smallest dungeon size that can be chosen
+    public static final int MAX_CHOSEN_DUNGEON_SIZE = 10_000;   // The largest dungeon size that can be chosen
+    public static final int LARGE_DUNGEON_SIZE = 10;            // Dungeons larger than this are played in large-dungeon mode
+    private static final int MAX_ROLL_BOUND = 10;               // The largest bound of a roll that depends on the size of the dungeon
+    private static final int CHARACTERS_PER_MERCHANT = 100;     // The number of characters spawned per merchant in a large dungeon
+
+    private int dungeonSize;              // Stores the numerical size of the dungeon
+    private int chosenDungeonSize = 0;    // The size of every new dungeon, or 0 if the size is picked at random
+    private int merchantCounter = 0;      // Keeps track of the number of merchants created
+    private int skeletonCounter = 0;      // Keeps track of the number of skeletons created
+    private int goblinCounter = 0;        // Keeps track of the number of goblins created
+    private int mimicCounter = 0;         // Keeps track of the number of mimics created
+    private int golemCounter = 0;         // Keeps track of the number of golems created
+    private int potionPrice = 50;         // The price of a potion that a hero can buy from a merchant
+    private int chestReward = 15;         // The reward given to the hero when finding a non-hostile mimic
+    private int potionTurnCounter = 0;    // Keeps track of how many turns the hero has a strength boost activated
+    private int turnCounter = 0;          // Tracks the turn number of the game
+    private long characterInSameRoom = CharacterStore.NO_HANDLE;    // Holds the handle of the character in the same room as the hero
+
+    private boolean canRetreat = true;        // Keeps track of the ability of characters to retreat from a fight
+    private boolean casualMode = false;       // Keeps track if turns can be undone
+    private boolean gameStart = true;         // Keeps track if the game has been started
+    private boolean gameOver = false;         // Keeps track if the game has ended due to hero death or escape
+    private boolean gameRerun = false;        // Keeps track if the game has been rerun or not (only true by escape)
+    private boolean isInCombat = false;       // Keeps track if the hero is in combat with a monster
+    private boolean isInTrade = false;        // Keeps track if the hero is in a trade with a merchant
+    private boolean characterDeath = false;   // Keeps track of when a character has died in the dungeon
+    private boolean isSaveLoading = false;    // Checks to see if the user is attempting to load from a save
+    private volatile String language = "English";      // Stores the string name of the game's language, which the event thread reads too. English is the default.
+
+    private long seed;                                         // The seed of the session's random number generator
+    private SplittableRandom random;                           // Makes every random decision of this session
+    private GameListener listener = new GameListener() {};    // Receives the output and notifications of this session
+    private StringBuilder commandOutput = new StringBuilder(); // Holds the output of the command that is being run
+    private Character tempCharacter;                           // Temporary Character object that serves to create characters and add them to list
+    private Character hero;                                    // Character object that serves as the hero object in the list of characters
+
+    private final CharacterStore characterList = new CharacterStore(this);    // The collection of characters in the dungeon
+
+    /**
+     * Creates a game session with a randomly chosen seed. 
+     */
+    public GameSession() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates a game session that makes every random decision with a generator of the given seed. 
+     * Sessions with the same seed that are given the same commands will play the same game, 
+     * from the layout of the dungeon to the outcome of every fight. 
+     * 
+     * @param seed      The seed of the session's random number generator
+     */
+    public GameSession(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    // Getters and Setters for GameSession class
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Goes on with a generator of the given seed, such as the seed of a loaded save. The generator
+     * starts over from the seed, so a save that is loaded twice plays on the same way.
+     *
+     * @param seed      The seed of the session's random number generator
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    public GameListener getListener() {
+        return listener;
+    }
+
+    public void setListener(GameListener listener) {
+        this.listener = listener;
+    }
+
+    public CharacterStore getCharacterList() {
+        return characterList;
+    }
+
+    public void setCharacterList(List<Character> list) {
+        characterList.replaceContents(list);
+        hero = characterList.isEmpty() ? null : characterList.getFirst();
+    }
+
+    /**
+     * Adds a character to the dungeon. 
+     * 
+     * @param character     The character to add
+     */
+    public void addCharacter(Character character) {
+        characterList.add(character);
+    }
+
+    /**
+     * Removes a character from the dungeon. 
+     * 
+     * @param character     The character to remove
+     */
+    public void removeCharacter(Character character) {
+        characterList.remove(character);
+    }
+
+    public Character getHero() {
+        return hero;
+    }
+
+    public int getDungeonSize() {
+        return dungeonSize;
+    }
+
+    public void setDungeonSize(int size) {
+        dungeonSize = size;
+    }
+
+    public int getChosenDungeonSize() {
+        return chosenDungeonSize;
+    }
+
+    /**
+     * Chooses the size of every new dungeon of this session. Sizes above ten play in large-dungeon mode. 
+     * 
+     * @param size      The size of the dungeon, or 0 to pick a random size from six to nine
+     */
+    public void setChosenDungeonSize(int size) {
+        if (size != 0 && (size < MIN_CHOSEN_DUNGEON_SIZE || size > MAX_CHOSEN_DUNGEON_SIZE)) {
+            throw new IllegalArgumentException("The size of the dungeon must be from " + MIN_CHOSEN_DUNGEON_SIZE + " to " + MAX_CHOSEN_DUNGEON_SIZE);
+        }
+        chosenDungeonSize = size;
+    }
+
+    public boolean isLargeDungeon() {
+        return dungeonSize > LARGE_DUNGEON_SIZE;
+    }
+
+    public int getTurnCounter() {
+        return turnCounter;
+    }
+
+    public void setTurnCounter(int turnCounter) {
+        this.turnCounter = turnCounter;
+    }
+
+    public Character getCharacterInSameRoom() {
+        return characterList.resolve(characterInSameRoom);
+    }
+
+    public void setCharacterInSameRoom(Character character) {
+        characterInSameRoom = (character == null) ? CharacterStore.NO_HANDLE : character.getHandle();
+    }
+
+    public int getCharacterInSameRoomIndex() {
+        return characterList.indexOfHandle(characterInSameRoom);
+    }
+
+    public void setCharacterInSameRoomIndex(int index) {
+        setCharacterInSameRoom((index < 0 || index >= characterList.size()) ? null : characterList.get(index));
+    }
+
+    public int getPotionTurnCounter() {
+        return potionTurnCounter;
+    }
+
+    public void setPotionTurnCounter(int turnCount) {
+        potionTurnCounter = turnCount;
+    }
+
+    public int getPotionPrice() {
+        return potionPrice;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String newLanguageSetting) {
+
+        if (!newLanguageSetting.equalsIgnoreCase("English") && !newLanguageSetting.equalsIgnoreCase("German")) {
+            try {
+                throw new IllegalLanguageException(newLanguageSetting);
+            }
+            catch (IllegalLanguageException e) {
+                listener.logError("An unknown language was chosen", e);
+            }
+            language = "English";
+            return;
+        }
+        language = newLanguageSetting;
+
+    }
+
+    public boolean getCharacterDeath() {
+        return characterDeath;
+    }
+
+    public void setCharacterDeath(boolean death) {
+        characterDeath = death;
+    }
+
+    public boolean getGameStart() {
+        return gameStart;
+    }
+
+    public void setGameStart(boolean start) {
+        gameStart = start;
+    }
+
+    public boolean getGameOver() {
+        return gameOver;
+    }
+
+    public void setGameOver(boolean overBoolean) {
+        gameOver = overBoolean;
+    }
+
+    public boolean getCanRetreat() {
+        return canRetreat;
+    }
+
+    public void setCanRetreat(boolean retreatBoolean) {
+        canRetreat = retreatBoolean;
+    }
+
+    public boolean getIsCasualMode() {
+        return casualMode;
+    }
+
+    public boolean getIsSaveLoading() {
+        return isSaveLoading;
+    }
+
+    public void setIsSaveLoading(boolean saveLoading) {
+        isSaveLoading = saveLoading;
+    }
+
+    public boolean getGameRerun() {
+        return gameRerun;
+    }
+
+    public void setGameRerun(boolean rerunBoolean) {
+        gameRerun = rerunBoolean;
+        gameRerunResetter();
+    }
+
+    public boolean getIsInCombat() {
+
+        // If there is no character in the same room, the hero is not in combat
+        if (hero.getCharacterInSameRoomIndex() == -1) {
+            isInCombat = false;
+        }
+        return isInCombat;
+
+    }
+
+    public void setIsInCombat(boolean combatBoolean) {
+        isInCombat = combatBoolean;
+    }
+
+    public boolean getIsInTrade() {
+
+        // If there is no character in the same room, the hero is not in a trade
+        if (hero.getCharacterInSameRoomIndex() == -1) {
+            isInTrade = false;
+        }
+        return isInTrade;
+
+    }
+
+    public void setIsInTrade(boolean tradeBoolean) {
+        isInTrade = tradeBoolean;
+    }
+
+    /**
+     * Sends text to the listener and keeps it as part of the current command's output.
+     *
+     * @param thingToPrint     The string to "print" or add to the output terminal
+     */
+    public void printToTerminal(String thingToPrint) {
+        commandOutput.append(thingToPrint);
+        listener.printToTerminal(thingToPrint);
+    }
+
+    /**
+     * Returns the text of a translation in the language of this session.
+     *
+     * @param translation    The translation to extrapolate
+     * @return               The translated text
+     */
+    public String translate(LanguageTranslation translation) {
+        return translation.extrapolate(language);
+    }
+
+    /**
+     * Initializes the game by making the characters and placing them in the dungeon.
+     *
+     * @param heroName          The name of the hero as the user had inputted it
+     * @return characterList    The list characters in the dungeon
+     */
+    public List<Character> initializeGame(String heroName) {
+        printToTerminal(translate(new LanguageTranslation("Welcome to the Dungeon!", "Willkommen im Kerker!")));
+        makeHero(heroName);
+        makeCharacters();
+        setGameStart(false);
+        return characterList;
+    }
+
+    /**
+     * Creates the hero and initializes a random size for the dungeon, unless a size was chosen.
+     *
+     * @param heroName  The name of the hero as the user had inputted it
+     */
+    private void makeHero(String heroName) {
+        int randomNum;
+
+        if (chosenDungeonSize > 0) {
+            randomNum = chosenDungeonSize;
+        }
+        else while (true) {
+            randomNum = random.nextInt(10);
+            if (randomNum > 5) break;
+        }
+
+        if (getGameStart()) {
+            tempCharacter = new Character(this, heroName, 100, 0, 25, 0, 0, 0, false, false);
+            hero = tempCharacter;
+            addCharacter(tempCharacter);
+        }
+
+        dungeonSize = randomNum;
+        hero.setDungeonSize(dungeonSize);
+    }
+
+    /**
+     * Generates a random number between 0 and the bound.
+     *
+     * @param bound         The exclusive upper bound of the random number
+     * @return randomNum    A random number to be returned
+     */
+    public int getRandomNumber(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Generates a random number between 0 and the size of the dungeon, but never above ten. 
+     * Keeps the odds of monster types, gold, and retreats the same in a large dungeon. 
+     *
+     * @return randomNum    A random number to be returned
+     */
+    private int getSizedRandomNumber() {
+        return random.nextInt(Math.min(dungeonSize, MAX_ROLL_BOUND));
+    }
+
+    /**
+     * Splits off a new random number generator from the session's generator. The new generator 
+     * is independent of the session's, but is still derived from the session's seed. 
+     * 
+     * @return random    The new random number generator
+     */
+    public SplittableRandom splitRandom() {
+        return random.split();
+    }
+
+    /**
+     * When the hero escapes and wants to keep exploring, the following resets certain values and states to allow this.
+     */
+    public void gameRerunResetter() {
+        if (getGameRerun()) {
+            characterList.subList(1, characterList.size()).clear();
+
+            merchantCounter = 0;
+            skeletonCounter = 0;
+            goblinCounter = 0;
+            mimicCounter = 0;
+            golemCounter = 0;
+            hero.setXCord(0);
+            hero.setYCord(0);
+            hero.setCharacterInSameRoom(null);
+            hero.setTurnCounterValue(0);
+            setCharacterDeath(false);
+            setIsInCombat(false);
+            setIsInTrade(false);
+            setIsSaveLoading(false);
+            setPotionTurnCounter(0);
+            setGameOver(false);
+            listener.gameRerun();
+            hero.setDungeonSize(dungeonSize);
+            setGameRerun(false);
+        }
+    }
+
+    /**
+     * Creates the merchant character(s) and calls the makeMonsters() method afterward. Every character
+     * gets its own room, which is never the catacomb's entrance or exit.
+     */
+    private void makeCharacters() {
+        GameEvents.SpawnGeneration spawnEvent = GameEvents.startSpawnGeneration();
+        int spawnCount = (int) Math.ceil((dungeonSize * (double) dungeonSize) / 5.5);
+
+        // Creates one merchant if the dungeonSize is equal to five, six, or seven, two merchants if the dungeonSize
+        // is equal to eight, nine, or ten, and one for every hundred characters in a large dungeon
+        int merchantCount = (dungeonSize <= 7) ? 1 : Math.max(2, spawnCount / CHARACTERS_PER_MERCHANT);
+        int characterCount = merchantCount + spawnCount - 1;
+
+        // Makes room for every character up front, so a large dungeon does not regrow the list and index while spawning
+        characterList.ensureCapacity(characterCount + 1);
+        int[] rooms = SpawnSampler.sampleRooms(dungeonSize, characterCount, random);
+
+        // Moves random rooms to the front for the merchants, so they are spread over the whole dungeon
+        for (int i = 0; i < merchantCount; i++) {
+            int j = i + random.nextInt(rooms.length - i);
+            int room = rooms[i]; rooms[i] = rooms[j]; rooms[j] = room;
+        }
+
+        for (int i = 0; i < characterCount; i++) {
+            int xCord = rooms[i] % dungeonSize, yCord = rooms[i] / dungeonSize;
+
+            if (i < merchantCount) {
+                merchantCounter++;
+                tempCharacter = new Character(this, CharacterStore.KIND_MERCHANT, merchantCounter, 25, 1, 10, xCord, yCord, 10, true, true);
+                addCharacter(tempCharacter);
+            }
+            else {
+                // Once the merchant(s) is/are created, the rest of the monsters will be spawned in one by one
+                makeMonsters(xCord, yCord);
+            }
+        }
+        if (spawnEvent != null) spawnEvent.finish(this, merchantCount);
+    }
+
+    /**
+     * Creates a random number of monsters at random places in the dungeon.
+     *
+     * @param xCord     A random X coordinate for a monster to spawn at
+     * @param yCord     A random Y coordinate for a monster to spawn at
+     */
+    private void makeMonsters(int xCord, int yCord) {
+        switch (getSizedRandomNumber()) {
+            case 0, 1, 2, 3:
+                goblinCounter++;
+                tempCharacter = new Character(this, CharacterStore.KIND_GOBLIN, goblinCounter, 15, 2, 5, xCord, yCord, 5, false, false);
+                break;
+            case 4, 5, 6:
+                skeletonCounter++;
+                tempCharacter = new Character(this, CharacterStore.KIND_SKELETON, skeletonCounter, 30, 2, 10, xCord, yCord, 8, false, false);
+                break;
+            case 7, 8:
+                mimicCounter++;
+                tempCharacter = new Character(this, CharacterStore.KIND_MIMIC, mimicCounter, 40, 3, 15, xCord, yCord, 13, false, false);
+                break;
+            case 9:
+                golemCounter++;
+                tempCharacter = new Character(this, CharacterStore.KIND_GOLEM, golemCounter, 50, 2, 20, xCord, yCord, 0, false, false);
+                break;
+        }
+        addCharacter(tempCharacter);
+    }
+
+    /**
+     * Toggles the retreat boolean and informs the listener of the new setting.
+     */
+    public void toggleRetreat() {
+        canRetreat = !canRetreat;
+        String retreatSetting = "";
+
+        switch (language) {
+            case "English":
+                if (canRetreat) { retreatSetting = "Yes"; } else { retreatSetting = "No"; }
+                listener.pushMessage("Characters can retreat: " + retreatSetting);
+            break;
+            case "German":
+                if (canRetreat) { retreatSetting = "Ja"; } else { retreatSetting = "Nein"; }
+                listener.pushMessage("Charaktere können sich zurückziehen: " + retreatSetting);
+            break;
+        }
+    }
+
+    /**
+     * Toggles casual mode, in which turns can be undone, and informs the listener of the new setting.
+     */
+    public void toggleCasualMode() {
+        casualMode = !casualMode;
+        String casualSetting = "";
+
+        switch (language) {
+            case "English":
+                if (casualMode) { casualSetting = "On"; } else { casualSetting = "Off"; }
+                listener.pushMessage("Casual mode (turns can be undone): " + casualSetting);
+            break;
+            case "German":
+                if (casualMode) { casualSetting = "An"; } else { casualSetting = "Aus"; }
+                listener.pushMessage("Lockerer Modus (Züge können rückgängig gemacht werden): " + casualSetting);
+            break;
+        }
+    }
+
+    /**
+     * Toggles the game language and informs the listener of the new setting.
+     */
+    public void toggleLanguage() {
+        switch (language) {
+            case "English": language = "German"; break;
+            case "German": language = "English"; break;
+        }
+
+        switch (language) {
+            case "English": listener.pushMessage("The game language is set to English."); break;
+            case "German": listener.pushMessage("Die Spielsprache wurde auf Deutsch gesetzt."); break;
+        }
+    }
+
+    /**
+     * Runs one gameplay command (moving, drinking potions, trading, and fighting) and returns
+     * everything that was printed while it ran. Commands that only concern a user interface,
+     * such as saving or asking for help, are handled by the listener's owner.
+     *
+     * @param command    The formatted input of the user
+     * @return           The output of the command
+     */
+    public String runCommand(String command) {
+        commandOutput.setLength(0);
+
+        if (gameOver) {
+            return "";
+        }
+        else if (getIsInCombat()) {
+            combatCommand(command);
+        }
+        else if (getIsInTrade()) {
+            tradeCommand(command);
+        }
+        else explorationCommand(command);
+
+        return commandOutput.toString();
+    }
+
+    /**
+     * Evaluates a command when the hero is neither in combat nor in a trade.
+     *
+     * @param command    The formatted input of the user
+     */
+    private void explorationCommand(String command) {
+        String[] validDirectionsEN = {"north", "south", "east", "west"};
+        String[] validDirectionsDE = {"nord", "süd", "sued", "ost"};
+
+        if (command.contains("health") || command.contains("heil")) {
+            drinkHealthPotion();
+        }
+        else if (command.contains("strength") || command.contains("kraft")) {
+            drinkStrengthPotion();
+        }
+        else if (containsAny(command, validDirectionsEN) || containsAny(command, validDirectionsDE)) {
+            move(command);
+        }
+        else invalidInputMessage();
+
+        if (getCharacterDeath()) {
+            setIsInCombat(false);
+            isGameOverAndPushMessageIfSo();
+        }
+    }
+
+    /**
+     * Evaluates a command when the hero is in combat.
+     *
+     * @param command    The formatted input of the user
+     */
+    private void combatCommand(String command) {
+        boolean successfulRetreat = false;
+
+        if (command.equals("fight") || command.contains("kampf")) {
+            hero.hitCharacter();
+            hero.turnHealthDeduction();
+        }
+        else if (command.equals("retreat") || command.contains("zieh")) {
+            successfulRetreat = retreat(0);
+            hero.turnHealthDeduction();
+        }
+        else if (command.contains("health") || command.contains("heil")) {
+            drinkHealthPotion();
+        }
+        else if (command.contains("strength") || command.contains("kraft")) {
+            drinkStrengthPotion();
+        }
+        else invalidInputMessage();
+
+        if (getCharacterDeath() || successfulRetreat) {
+            setIsInCombat(false);
+            isGameOverAndPushMessageIfSo(); // No cleanup function needed
+        }
+        else setIsInCombat(true);
+    }
+
+    /**
+     * Evaluates a command when the hero is in a trade with a merchant.
+     *
+     * @param command    The formatted input of the user
+     */
+    private void tradeCommand(String command) {
+        if (command.contains("leave") || command.contains("verlassen")) {
+            setIsInTrade(false);
+        }
+        else trade(command);
+    }
+
+    /**
+     * Checks if a command contains any of the given words.
+     *
+     * @param command    The formatted input of the user
+     * @param words      The words to look for
+     * @return           true if any word is found, and false otherwise
+     */
+    private boolean containsAny(String command, String[] words) {
+        for (String word : words) {
+            if (command.contains(word)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Prints a message to the terminal indicating that the most recent command input was invalid.
+     */
+    private void invalidInputMessage() {
+        printToTerminal(translate(new LanguageTranslation("\n\nThat's not a valid input!", "\n\nDas ist keine gültige Eingabe!")));
+    }
+
+    /**
+     * Checks to see if the game has ended when a character has died.
+     *
+     * @return gameOver     If true, the game ends. Otherwise, the dead character is removed
+     */
+    public boolean isGameOverAndPushMessageIfSo() {
+        hero = characterList.get(0);
+
+        if (hero.isDead()) {
+            gameOver = true;
+            listener.pushDeathMessage();
+        }
+        else if (hero.hasEscaped()) {
+            gameOver = true;
+            listener.pushEscapeMessage();
+        }
+
+        // TODO: delegate this to a new method and call it in the spots where clean up is needed
+        if (!gameOver) {
+
+            // Checks to see if any of the monsters have died and removes them from the game if so. The store walks
+            // its health array, so no character views are made for the monsters that are alive
+            for (int i = characterList.findDead(1); i != -1; i = characterList.findDead(i)) {
+                Character character = characterList.get(i);
+
+                // Informs hero that a character has perished and adds their gold to the hero's "inventory"
+                switch (language) {
+                    case "English":
+                        printToTerminal("\n" + character.getName() + " has perished!");
+                        hero.setGoldValue(hero.getGoldValue() + character.getGoldValue());
+                        printToTerminal("\nYou gained " + character.getGoldValue() + " gold from this fight");
+                        break;
+                    case "German":
+                        printToTerminal("\n" + character.getName() + " ist gestorben!");
+                        hero.setGoldValue(hero.getGoldValue() + character.getGoldValue());
+                        printToTerminal("\nSie haben in diesem Kampf " + character.getGoldValue() + " Geld erhalten");
+                        break;
+                }
+
+                removeCharacter(character);
+                setCharacterDeath(false);
+                hero.setCharacterInSameRoom(null);
+
+            }
+
+        }
+
+        return gameOver;
+    }
+
+    /**
+     * Increases the turn counter when called. If the user drank a strength potion, it's effects
+     * will be removed after five turns.
+     */
+    public void incrementTurnCounter() {
+
+        hero.setTurnCounterValue(hero.getTurnCounterValue() + 1);
+        hero = characterList.get(0);
+
+        if (hero.getMaxDamage() == 50) {
+            potionTurnCounter += 1;
+
+            if (potionTurnCounter > 5) {
+                hero.setMaxDamage(25);
+
+                switch (language) {
+                    case "English": printToTerminal("\n\nThe strength potion ran out! Your max damage is now " + hero.getMaxDamage()); break;
+                    case "German": printToTerminal("\n\nDer Krafttrank ist aufgebraucht! Ihre maximaler Schaden Kapabilität beträgt jetzt " + hero.getMaxDamage()); break;
+                }
+
+                potionTurnCounter = 0;
+
+            }
+
+        }
+
+    }
+
+    /**
+     * Allows hero to drink a health potion if one was previously bought.
+     */
+    public void drinkHealthPotion() {
+        hero = characterList.get(0);
+
+        if (hero.getHasHealthPotion()) {
+
+            hero.setHealth(hero.getHealth() + 25);
+            hero.setHasHealthPotion(false);
+
+            switch (language) {
+                case "English": printToTerminal("\n\nYou consumed a health potion. Your health is now " + hero.getHealth()); break;
+                case "German": printToTerminal("\n\nSie haben ein Heiltrank getrunken. Ihre Gesundheit beträgt jetzt " + hero.getHealth()); break;
+            }
+
+        }
+        else {
+            switch (language) {
+                case "English": printToTerminal("\n\nYou don't have a potion to consume"); break;
+                case "German": printToTerminal("\n\nSie haben kein Trank zu trinken");  break;
+            }
+        }
+
+    }
+
+    /**
+     * Allows hero to drink a strength potion if one was previously bought.
+     */
+    public void drinkStrengthPotion() {
+        hero = characterList.getFirst();
+
+        if (hero.getHasStrengthPotion()) {
+
+            hero.setMaxDamage(50);
+            hero.setHasStrengthPotion(false);
+
+            switch (language) {
+                case "English": printToTerminal("\n\nYou consumed a strength potion! Your max damage is now " + hero.getMaxDamage()); break;
+                case "German": printToTerminal("\n\nSie haben ein Heiltrank getrunken. Ihre Schaden Kapabilität beträgt jetzt " + hero.getMaxDamage()); break;
+            }
+
+        }
+        else {
+            switch (language) {
+                case "English": printToTerminal("\n\nYou don't have a potion to consume"); break;
+                case "German": printToTerminal("\n\nSie haben kein Trank zu trinken");  break;
+            }
+        }
+
+    }
+
+    /**
+     * Checks to see if the hero can move in a direction, and if an event will occur when
+     * the hero moves to a particular spot on the map.
+     *
+     * @param direction     The inputted direction that the hero wishes to move in
+     */
+    public void move(String direction) {
+        GameEvents.Move moveEvent = GameEvents.startMove();
+        int turnBeforeMove = getTurnCounter();
+
+        moveHero(direction);
+        if (moveEvent != null) moveEvent.finish(this, direction, getTurnCounter() != turnBeforeMove);
+    }
+
+    /**
+     * Moves the hero in a direction if the hero can move there, and starts the event of the room the hero moved into.
+     *
+     * @param direction     The inputted direction that the hero wishes to move in
+     */
+    private void moveHero(String direction) {
+        hero = characterList.getFirst();
+
+        // The hero is checked before moving, otherwise stepping onto the exit would count as an invalid move
+        if (!hero.hasEscaped() && !hero.isDead() && hero.canMove(direction)) {
+
+            hero.turnHealthDeduction();
+            incrementTurnCounter();
+            listener.heroMoved();
+
+            if (hero.hasEscaped() || hero.isDead()) {
+                characterDeath = true;
+                return;
+            }
+
+            // If alone in a room, the hero also has a random chance to find gold there
+            if (!hero.isAnotherCharacterInSameRoom()) {
+
+                if (getSizedRandomNumber() >= 5) {
+
+                    int randomGoldReward = 0;
+                    while (randomGoldReward == 0) {
+                        randomGoldReward = getSizedRandomNumber();
+                    }
+
+                    switch (language) {
+                        case "English": printToTerminal("\n\nYou found " + randomGoldReward + " gold at " + hero.getXCord() + ", " + hero.getYCord() + " "); break;
+                        case "German": printToTerminal("\n\nSie haben " + randomGoldReward + " Geld an " + hero.getXCord() + ", " + hero.getYCord() + " gefunden "); break;
+                    }
+                    hero.setGoldValue(hero.getGoldValue() + randomGoldReward);
+
+                }
+
+            }
+            else event();
+
+        }
+        else {
+            switch (language) {
+                case "English": printToTerminal("\n\nYou can't move that way!"); break;
+                case "German": printToTerminal("\n\nSie können sich nicht in diese Richtung bewegen!"); break;
+            }
+        }
+
+    }
+
+    /**
+     * Handles various events that may occur while user moves through the dungeon.
+     */
+    public void event() {
+        GameEvents.RoomEvent roomEvent = GameEvents.startRoomEvent();
+        Character character = getCharacterInSameRoom();
+        hero = characterList.getFirst();
+        int characterKind = characterList.getKind(character.getId());
+
+        switch (character.getTypeValue()) {
+            case 1:
+                setIsInTrade(true);
+                printMerchantInventory(true);
+            break;
+            case 2:
+
+                /*
+                 * If the hero has less than 75 health or if monsters cannot retreat, combat will
+                 * be initiated. Otherwise, there is a 50% chance of monster retreat
+                 */
+                if (hero.getHealth() < 75 || !getCanRetreat() || getSizedRandomNumber() % 2 == 0) {
+                    initializeCombat();
+                }
+                else {
+                    retreat(2);
+
+                    // If the monster died while retreating, it will be removed.
+                    if (character.isDead()) {
+                        setCharacterDeath(true);
+                        isGameOverAndPushMessageIfSo(); // TODO: Clean up IS needed here
+                    }
+                    else {
+                        switch (language) {
+                            case "English": printToTerminal("\n" + character.getName() + " ran away from the fight!"); break;
+                            case "German": printToTerminal("\n" + character.getName() + " hat sich aus dem Kampf zurückgezogen!"); break;
+                        }
+                    }
+
+                    hero.setCharacterInSameRoom(null);
+                    setIsInCombat(false);
+
+                }
+
+            break;
+            case 3:
+
+                // If the hero is in the same room as a mimic, there is a 50% chance that it will yield gold without a fight
+                if (getRandomNumber(10) % 2 == 0) {
+                    switch (language) {
+                        case "English": printToTerminal("\n\nAt " + hero.getXCord() + ", " + hero.getYCord() + " you find a treasure chest and inside you find " + chestReward + " gold"); break;
+                        case "German": printToTerminal("\n\nAn " + hero.getXCord() + ", " + hero.getYCord() + " gibt es eine Schatzkiste. Drinnen haben Sie " + chestReward + " Geld gefunden"); break;
+                    }
+                    removeCharacter(character);
+                }
+                else {
+
+                    switch (language) {
+                        case "English": printToTerminal("\n\nAt " + hero.getXCord() + ", " + hero.getYCord() + " you find a treasure chest and it attacks you!"); break;
+                        case "German": printToTerminal("\n\nAn " + hero.getXCord() + ", " + hero.getYCord() + " gibt es eine Schatzkiste und sie greift Ihnen an!"); break;
+                    }
+
+                    character.setTypeValue(2);
+                    initializeCombat();
+
+                }
+
+            break;
+        }
+        if (roomEvent != null) roomEvent.finish(this, characterKind);
+    }
+
+    /**
+     * When this method is called, the game's combat state can be initialized.
+     */
+    private void initializeCombat() {
+        listener.combatStarted();
+        setIsInCombat(true);
+        listener.fullGameGraphicsUpdate();
+        printFightInfo();
+    }
+
+    /**
+     * Prints out the info of the fight that the hero is starting.
+     */
+    public void printFightInfo() {
+        Character monster = getCharacterInSameRoom();
+
+        switch (language) {
+            case "English":
+                printToTerminal("\n\n~ Fight with " + monster.getName() + " ~\n" +
+                        hero.getName() + " at " + hero.getXCord() + ", " + hero.getYCord() + " with " +
+                        hero.getHealth() + " health versus " + monster.getName() + " at " + monster.getXCord() +
+                        ", " + monster.getYCord() + " with " + monster.getHealth() + " health");
+                printToTerminal("\n\nWhat would you like to do? ");
+            break;
+            case "German":
+                printToTerminal("\n\n~ Kampf mit " + monster.getName() + " ~\n" + hero.getName() +
+                        " an " + hero.getXCord() + ", " + hero.getYCord() + " mit " + hero.getHealth() +
+                        " Gesundheitspunkte gegen " + monster.getName() + " an " + monster.getXCord() + ", " +
+                        monster.getYCord() + " mit " + monster.getHealth() + " Gesundheitspunkte");
+                printToTerminal("\n\nWas möchten Sie tun?");
+            break;
+        }
+    }
+
+    /**
+     * Configures UI to trade display and prints out merchant info.
+     *
+     * @param firstTrade    Indicates whether this is the first time the hero traded
+     */
+    public void printMerchantInventory(boolean firstTrade) {
+        Character merchant = getCharacterInSameRoom();
+        listener.fullGameGraphicsUpdate();
+
+        if (firstTrade) {
+            switch (language) {
+                case "English":
+                    printToTerminal("\n\n~ Trade Menu ~");
+
+                    if (merchant.getHasHealthPotion()) {
+                        printToTerminal("\n" + merchant.getName() + " is selling a health potion for " + potionPrice + " gold");
+                    }
+                    else printToTerminal("\n" + merchant.getName() + " does not have a health potion for sale\n");
+
+                    if (merchant.getHasStrengthPotion()) {
+                        printToTerminal("\n" + merchant.getName() + " is selling a strength potion for " + potionPrice + " gold");
+                    }
+                    else printToTerminal("\n" + merchant.getName() + " does not have a strength potion for sale");
+
+                    printToTerminal("\nWhat would you like to buy? ");
+
+                break;
+                case "German":
+                    printToTerminal("\n\n~ Handelsmenü ~");
+
+                    if (merchant.getHasHealthPotion()) {
+                        printToTerminal("\n" + merchant.getName() + " verkauft einen Heiltrank für " + potionPrice + " Geld");
+                    }
+                    else printToTerminal("\n" + merchant.getName() + " verkauft keine Heiltränke\n");
+
+                    if (merchant.getHasStrengthPotion()) {
+                        printToTerminal("\n" + merchant.getName() + " verkauft einen Krafttrank für " + potionPrice + " Geld");
+                    }
+                    else printToTerminal("\n" + merchant.getName() + " verkauft keine Krafttränke");
+
+                    printToTerminal("\nWas möchten Sie kaufen?");
+                break;
+            }
+        }
+    }
+
+    /**
+     * Preforms various trades with a merchant when the hero is in a room with one.
+     *
+     * @param tradeInput    The user's input for a specific trade
+     */
+    public void trade(String tradeInput) {
+        Character merchant = getCharacterInSameRoom();
+        listener.fullGameGraphicsUpdate();
+
+        if (tradeInput.contains("health") || tradeInput.contains("heil")) {
+
+            if (!merchant.getHasHealthPotion()) {
+                switch (language) {
+                    case "English": printToTerminal("\n\n" + merchant.getName() + " does not have a health potion for sale"); break;
+                    case "German": printToTerminal("\n\n" + merchant.getName() + " verkauft keinen Heiltrank"); break;
+                }
+            }
+            if (hero.getHasHealthPotion()) {
+                switch (language) {
+                    case "English": printToTerminal("\n\nYou already have a health potion in your inventory"); break;
+                    case "German": printToTerminal("\n\nSie haben schon einen Heiltrank im Inventar"); break;
+                }
+            }
+            if (hero.getGoldValue() < potionPrice) {
+                switch (language) {
+                    case "English": printToTerminal("\n\n" + hero.getGoldValue() + " gold is not enough to purchase a health potion");  break;
+                    case "German": printToTerminal("\n\n" + hero.getGoldValue() + " Geld ist nicht genug, um einen Heiltrank zu kaufen");  break;
+                }
+            }
+
+            merchant.setHasHealthPotion(false);
+            hero.setHasHealthPotion(true);
+            hero.setGoldValue(hero.getGoldValue() - potionPrice);
+
+            switch (language) {
+                case "English": printToTerminal("\n\nYou bought a health potion and have " + hero.getGoldValue() + " gold remaining"); break;
+                case "German": printToTerminal("\n\nSie haben einen Heiltrank gekauft und haben noch " + hero.getGoldValue() + " Geld übrig"); break;
+            }
+
+        }
+        else if (tradeInput.contains("strength") || tradeInput.contains("kraft")) {
+
+            if (!merchant.getHasStrengthPotion()) {
+                switch (language) {
+                    case "English": printToTerminal("\n\n" + merchant.getName() + " does not have a strength potion for sale"); break;
+                    case "German": printToTerminal("\n\n" + merchant.getName() + " verkauft keinen Krafttrank"); break;
+                }
+            }
+            if (hero.getHasStrengthPotion()) {
+                switch (language) {
+                    case "English": printToTerminal("\n\nYou already have a strength potion in your inventory"); break;
+                    case "German": printToTerminal("\n\nSie haben schon einen Krafttrank im Inventar"); break;
+                }
+            }
+            if (hero.getGoldValue() < potionPrice) {
+                switch (language) {
+                    case "English": printToTerminal("\n\n" + hero.getGoldValue() + " gold is not enough to purchase a strength potion");  break;
+                    case "German": printToTerminal("\n\n" + hero.getGoldValue() + " Geld ist nicht genug, um einen Krafttrank zu kaufen");  break;
+                }
+            }
+
+            merchant.setHasStrengthPotion(false);
+            hero.setHasStrengthPotion(true);
+            hero.setGoldValue(hero.getGoldValue() - potionPrice);
+
+            switch (language) {
+                case "English": printToTerminal("\n\nYou bought a strength potion and have " + hero.getGoldValue() + " gold remaining"); break;
+                case "German": printToTerminal("\n\nSie haben einen Krafttrank gekauft und haben noch " + hero.getGoldValue() + " Geld übrig"); break;
+            }
+
+        }
+        else if (tradeInput.contains("kill") || tradeInput.contains("toet") || tradeInput.contains("töt")) {
+
+            // If the user decides to kill the merchant, the merchant will then forever be considered a monster
+            merchant.setTypeValue(2);
+            setIsInTrade(false);
+            initializeCombat();
+
+        }
+        else invalidInputMessage();
+    }
+
+    /**
+     * Handles the functionality for the hero or monster that wishes to retreat.
+     *
+     * @param  characterType         The character type (0 is hero, 2 is monster)
+     * @return successfulRetreat     Indicates whether a retreat was successful
+     */
+    public boolean retreat(int characterType) {
+        GameEvents.Retreat retreatEvent = GameEvents.startRetreat();
+
+        boolean successfulRetreat = retreatFromCombat(characterType);
+        if (retreatEvent != null) retreatEvent.finish(this, characterType == 0, successfulRetreat);
+        return successfulRetreat;
+    }
+
+    /**
+     * Lets the hero or the monster retreat from a battle, if retreats are allowed.
+     *
+     * @param  characterType         The character type (0 is hero, 2 is monster)
+     * @return successfulRetreat     Indicates whether a retreat was successful
+     */
+    private boolean retreatFromCombat(int characterType) {
+        Character monster = getCharacterInSameRoom();
+        hero = characterList.getFirst();
+        Boolean successfulRetreat = null;
+
+        // If getCanRetreat() returns false, the method will return with a false boolean
+        if (!getCanRetreat()) {
+            if (characterType == 0) {
+                printToTerminal(translate(new LanguageTranslation("\n\nYou can't retreat from this battle!", "\n\nSie können aus diesen Kampf nicht zurückziehen!")));
+                listener.fullGameGraphicsUpdate();
+            }
+            successfulRetreat = false;
+            return successfulRetreat;
+        }
+
+        if (characterType == 0) {
+
+            // While retreating, the hero will take a varied health deduction based on the monster's max damage
+            int damageToHero = getRandomNumber(monster.getMaxDamage());
+            int newHeroHealth = hero.getHealth() - damageToHero;
+            hero.setHealth(newHeroHealth);
+
+            switch (language) {
+                case "English": printToTerminal("\n\n" + monster.getName() + " hits you for " + damageToHero + " damage"); break;
+                case "German": printToTerminal("\n\n" + monster.getName() + " hat Sie für " + damageToHero + " Schadenspunkte geschlagen"); break;
+            }
+
+            // If the hero is dead, the game will end. Otherwise, the hero is informed of the successful retreat
+            if (hero.isDead()) {
+                characterDeath = true;
+                isGameOverAndPushMessageIfSo(); // No clean up needed
+                successfulRetreat = false;
+            }
+            else {
+                switch (language) {
+                    case "English": printToTerminal("\n\nYou retreated from battle with " + hero.getHealth() + " health remaining"); break;
+                    case "German": printToTerminal("\n\nSie haben sich aus diesem Kampf zurückgezogen mit " + hero.getHealth() + " Gesundheitspunkte übrig"); break;
+                }
+                setIsInCombat(false);
+                successfulRetreat = true;
+            }
+
+        }
+        else {
+
+            // Logic for a monster retreat from a battle
+            int damageToMonster = getRandomNumber(hero.getMaxDamage());
+            int newMonsterHealth = monster.getHealth() - damageToMonster;
+            monster.setHealth(newMonsterHealth);
+
+            switch (language) {
+                case "English":
+                    printToTerminal("\n\n" + monster.getName() + " is retreating from " + hero.getXCord() + ", " + hero.getYCord() + "!");
+                    printToTerminal("\nYou hit " + monster.getName() + " for " + damageToMonster + " damage");
+                break;
+                case "German":
+                    printToTerminal("\n\n" + monster.getName() + " zurückzieht aus " + hero.getXCord() + ", " + hero.getYCord() + "!");
+                    printToTerminal("\nSie haben " + monster.getName() + " für " + damageToMonster + " Schadenspunkte geschlagen");
+                break;
+            }
+
+            successfulRetreat = true;
+
+        }
+        return successfulRetreat;
+    }
+}
@@ -1,22 +1,14 @@
 /**
  * Custom exception thrown when an unsupported language is used in the code. 
- * When thrown, the user is informed, and the game language is set to English by default. 
+ * The exception only describes the language; whoever catches it informs the user, 
+ * and the game session sets its language to English by default. 
  * 
  * @author Blake Payne
  * @since  06.06.2024
  */
 public class IllegalLanguageException extends Exception {
 
-    /**
-     * This will be thrown if the current language setting is not supported.
-     */
-    public IllegalLanguageException() {
-        super("Current language setting is not supported: " + MainLogic.getLanguage());
-        String errorMessage = "An Illegal Language Exception has been thrown. " +
-        "The game's language will now default to English.";
-        MainLogic.setLanguage("English");
-        MainLogic.getGameWindow().pushMessage(errorMessage);
-    }
+    private static final long serialVersionUID = 1L;
 
     /**
      * This will be thrown if an attempt was made for the language variable to be changed to an invalid language. 
@@ -25,10 +17,6 @@ public class IllegalLanguageException extends Exception {
      */
     public IllegalLanguageException(String invalidLanguage) {
         super("The following language setting is not supported: " + invalidLanguage);
-        String errorMessage = "An Illegal Language Exception has been thrown. " +
-        "The game's language will now default to English.";
-        MainLogic.setLanguage("English");
-        MainLogic.getGameWindow().pushMessage(errorMessage);
     }
 
 }
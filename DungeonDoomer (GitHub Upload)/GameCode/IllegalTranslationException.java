@@ -16,7 +16,7 @@ public class IllegalTranslationException extends Exception {
             new SaveFileMaker().createSave();
         } 
         catch (Exception e) { 
-            e.printStackTrace(MainLogic.getPrintStream()); 
+            MainLogic.getGameLog().error("The game could not be saved before the translation error", e); 
             successfulSaveCreation = false;
         }
         
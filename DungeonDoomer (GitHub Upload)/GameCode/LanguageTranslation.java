@@ -24,15 +24,25 @@ public record LanguageTranslation(String english, String german) {
      * @return translationText    The translated text from the record object 
      */
     public String extrapolate() {
+        return extrapolate(MainLogic.getLanguage());
+    }
+
+    /**
+     * Returns translated text from record object depending on the given language. 
+     * 
+     * @param language            The language to translate to ("English" or "German")
+     * @return translationText    The translated text from the record object 
+     */
+    public String extrapolate(String language) {
         String translationText = "";
-        if (MainLogic.getLanguage().equals("English")) {
+        if (language.equals("English")) {
             translationText = english;
         }
-        else if (MainLogic.getLanguage().equals("German")) {
+        else if (language.equals("German")) {
             translationText = german;
         }
         else {
-            try { throw new IllegalLanguageException(); } catch (IllegalLanguageException e) { e.printStackTrace(MainLogic.getPrintStream()); }
+            try { throw new IllegalLanguageException(language); } catch (IllegalLanguageException e) { MainLogic.getGameLog().error("An unknown language was chosen", e); }
         }
         return translationText;
     }
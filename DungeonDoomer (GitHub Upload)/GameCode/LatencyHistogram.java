@@ -0,0 +1,134 @@
+import java.beans.ConstructorProperties;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the time that a kind of work takes, in bins that double in width from one microsecond up to
+ * about an hour. Every bin is a LongAdder, so threads that record at the same time add to cells of
+ * their own instead of competing for one counter, and recording costs a few nanoseconds. A summary
+ * reads the bins without stopping the threads that record, so it may miss a time that is being added.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class LatencyHistogram {
+
+    private static final int BIN_COUNT = 33;    // Bin i counts the times below 2^i microseconds, and the last bin every longer time
+
+    private final LongAdder[] bins = new LongAdder[BIN_COUNT];                     // The number of times in each bin
+    private final LongAdder total = new LongAdder();                               // The number of times recorded
+    private final LongAdder totalNanos = new LongAdder();                          // The sum of every time recorded, in nanoseconds
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);    // The longest time recorded, in nanoseconds
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BIN_COUNT; i++) bins[i] = new LongAdder();
+    }
+
+    /**
+     * Counts the time that one piece of work took.
+     *
+     * @param nanos     The time in nanoseconds, as measured with System.nanoTime()
+     */
+    public void record(long nanos) {
+        nanos = Math.max(nanos, 0);
+        bins[Math.min(64 - Long.numberOfLeadingZeros(nanos / 1000), BIN_COUNT - 1)].increment();
+        total.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Forgets every time that was recorded.
+     */
+    public void reset() {
+        for (LongAdder bin : bins) bin.reset();
+        total.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /**
+     * Sums up the times that were recorded.
+     *
+     * @return summary     The count, mean, percentiles, and maximum of the times
+     */
+    public Summary getSummary() {
+        long[] counts = new long[BIN_COUNT];
+        long count = 0;
+        for (int i = 0; i < BIN_COUNT; i++) {
+            counts[i] = bins[i].sum();
+            count += counts[i];
+        }
+
+        long maxMicros = maxNanos.get() / 1000;
+        long timesSummed = total.sum();
+        double meanMicros = (timesSummed == 0) ? 0 : totalNanos.sum() / 1000.0 / timesSummed;
+        return new Summary(count, meanMicros, getPercentile(counts, count, 50, maxMicros), getPercentile(counts, count, 90, maxMicros),
+                getPercentile(counts, count, 99, maxMicros), maxMicros);
+    }
+
+    /**
+     * Estimates a percentile as the upper edge of the bin that holds it, but never above the longest time.
+     */
+    private static long getPercentile(long[] counts, long count, double percent, long maxMicros) {
+        long target = (long) Math.ceil(count * percent / 100.0), seen = 0;
+        for (int i = 0; i < BIN_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= target && seen > 0) return Math.min((1L << i) - 1, maxMicros);
+        }
+        return maxMicros;
+    }
+
+    /**
+     * The summary of a histogram, which JMX shows as one attribute with a field per value.
+     */
+    public static class Summary {
+
+        private final long count;           // The number of times recorded
+        private final double meanMicros;    // The mean time in microseconds
+        private final long p50Micros;       // The median time in microseconds
+        private final long p90Micros;       // The 90th percentile in microseconds
+        private final long p99Micros;       // The 99th percentile in microseconds
+        private final long maxMicros;       // The longest time in microseconds
+
+        @ConstructorProperties({"count", "meanMicros", "p50Micros", "p90Micros", "p99Micros", "maxMicros"})
+        public Summary(long count, double meanMicros, long p50Micros, long p90Micros, long p99Micros, long maxMicros) {
+            this.count = count;
+            this.meanMicros = meanMicros;
+            this.p50Micros = p50Micros;
+            this.p90Micros = p90Micros;
+            this.p99Micros = p99Micros;
+            this.maxMicros = maxMicros;
+        }
+
+        // Getters for Summary class
+        public long getCount() {
+            return count;
+        }
+
+        public double getMeanMicros() {
+            return meanMicros;
+        }
+
+        public long getP50Micros() {
+            return p50Micros;
+        }
+
+        public long getP90Micros() {
+            return p90Micros;
+        }
+
+        public long getP99Micros() {
+            return p99Micros;
+        }
+
+        public long getMaxMicros() {
+            return maxMicros;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count %d, mean %.1f us, p50 %d us, p90 %d us, p99 %d us, max %d us", count, meanMicros, p50Micros, p90Micros, p99Micros, maxMicros);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+import java.util.Arrays;
+
+/**
+ * Finds the character in a room of the dungeon without walking the list of characters.
+ * Rooms are keyed by their packed (x, y) coordinates in an open-addressing hash table of
+ * primitive arrays, so looking up a room takes the same time in any dungeon. Every room
+ * holds at most one character, which is known by its id in the CharacterStore.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class OccupancyIndex {
+
+    private static final long EMPTY = Long.MIN_VALUE;    // Marks a free slot. Packed coordinates are never negative
+
+    private long[] keys;                // The packed coordinates of the room in each slot
+    private int[] occupants;            // The id of the character in the room of each slot
+    private int mask;                   // The number of slots minus one (the number of slots is a power of two)
+    private int size = 0;               // The number of occupied rooms
+
+    /**
+     * Creates an empty index.
+     */
+    public OccupancyIndex() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty index that can hold the given number of characters before it grows.
+     *
+     * @param expectedSize     The number of characters the index is expected to hold
+     */
+    public OccupancyIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 4 / 3 + 1) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Packs the coordinates of a room into one key.
+     *
+     * @param xCord     The X coordinate of the room
+     * @param yCord     The Y coordinate of the room
+     * @return          The packed key of the room
+     */
+    public static long packCoordinates(int xCord, int yCord) {
+        return ((long) xCord << 32) | (yCord & 0xFFFFFFFFL);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the id of the character in a room.
+     *
+     * @param xCord     The X coordinate of the room
+     * @param yCord     The Y coordinate of the room
+     * @return          The id of the character in the room, or -1 if the room is empty
+     */
+    public int get(int xCord, int yCord) {
+        int slot = findSlot(packCoordinates(xCord, yCord));
+        return (slot < 0) ? -1 : occupants[slot];
+    }
+
+    /**
+     * Checks if a character is in a room.
+     *
+     * @param xCord     The X coordinate of the room
+     * @param yCord     The Y coordinate of the room
+     * @return          true if the room is occupied, and false otherwise
+     */
+    public boolean isOccupied(int xCord, int yCord) {
+        return findSlot(packCoordinates(xCord, yCord)) >= 0;
+    }
+
+    /**
+     * Adds a character to a room. A room that is already occupied keeps its character.
+     *
+     * @param id        The id of the character to add
+     * @param xCord     The X coordinate of the room
+     * @param yCord     The Y coordinate of the room
+     * @return          true if the character was added, and false if the room was occupied
+     */
+    public boolean add(int id, int xCord, int yCord) {
+        if (!insert(packCoordinates(xCord, yCord), id)) return false;
+        if (size * 4 > keys.length * 3) grow();
+        return true;
+    }
+
+    /**
+     * Moves a character from one room to another. Nothing happens if the character was not the
+     * one in the old room.
+     *
+     * @param id            The id of the character that moved
+     * @param oldXCord      The X coordinate of the room the character left
+     * @param oldYCord      The Y coordinate of the room the character left
+     * @param xCord         The X coordinate of the room the character entered
+     * @param yCord         The Y coordinate of the room the character entered
+     */
+    public void move(int id, int oldXCord, int oldYCord, int xCord, int yCord) {
+        if (remove(id, oldXCord, oldYCord)) add(id, xCord, yCord);
+    }
+
+    /**
+     * Returns the number of bytes used by the arrays of the index.
+     *
+     * @return      The number of bytes
+     */
+    public long getBytes() {
+        return (long) keys.length * (Long.BYTES + Integer.BYTES);
+    }
+
+    /**
+     * Grows the index so that it can hold the given number of characters without growing again.
+     *
+     * @param expectedSize     The number of characters the index is expected to hold
+     */
+    public void ensureCapacity(int expectedSize) {
+        while ((long) expectedSize * 4 > (long) keys.length * 3) grow();
+    }
+
+    /**
+     * Removes every character from the index.
+     */
+    public void clear() {
+        allocate(16);
+    }
+
+    /**
+     * Removes a character from a room if it is the character in that room.
+     *
+     * @param id        The id of the character to remove
+     * @param xCord     The X coordinate of the room
+     * @param yCord     The Y coordinate of the room
+     * @return          true if the character was removed, and false otherwise
+     */
+    public boolean remove(int id, int xCord, int yCord) {
+        int slot = findSlot(packCoordinates(xCord, yCord));
+        if (slot < 0 || occupants[slot] != id) return false;
+
+        // Shifts the following entries back so that no probe sequence is broken by the free slot
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = homeSlot(keys[next]);
+            boolean canShift = (next > gap) ? (home <= gap || home > next) : (home <= gap && home > next);
+
+            if (canShift) {
+                keys[gap] = keys[next];
+                occupants[gap] = occupants[next];
+                gap = next;
+            }
+        }
+
+        keys[gap] = EMPTY;
+        occupants[gap] = -1;
+        size--;
+        return true;
+    }
+
+    /**
+     * Puts a character into the slot of a key unless the key is already in the table.
+     *
+     * @param key       The packed coordinates of the room
+     * @param id        The id of the character in the room
+     * @return          true if the character was put into the table, and false otherwise
+     */
+    private boolean insert(long key, int id) {
+        int slot = homeSlot(key);
+
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return false;
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        occupants[slot] = id;
+        size++;
+        return true;
+    }
+
+    private int findSlot(long key) {
+        for (int slot = homeSlot(key); keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) return slot;
+        }
+        return -1;
+    }
+
+    private int homeSlot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * Doubles the number of slots and puts every character back into the table.
+     */
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldOccupants = occupants;
+        allocate(keys.length * 2);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) insert(oldKeys[i], oldOccupants[i]);
+        }
+    }
+
+    /**
+     * Replaces the table with an empty one of the given capacity.
+     *
+     * @param capacity     The new number of slots (a power of two)
+     */
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        occupants = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+        size = 0;
+    }
+}
@@ -0,0 +1,222 @@
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Reads a folder of save files without a game window and writes a report of leaderboards and
+ * distributions across all of them (see SaveAnalysis). The saves are loaded on a fixed number of
+ * worker threads, and every worker loads its saves into a game session of its own, so the tool
+ * does not touch the game session of MainLogic. Only a few saves per worker are handed out at a
+ * time, and each summary is counted as soon as its save was read, so a folder of any size is
+ * read with the memory of a few saves.
+ *
+ * The summaries are kept in a parse cache in the folder, by file name, time, and size, so a second
+ * run only loads the saves that were added or changed since the first one.
+ *
+ * Usage: java SaveAnalyser [saveFolder] [reportFile] [threads]
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class SaveAnalyser {
+
+    public static final String CACHE_FILE_NAME = "Save Analysis.cache";    // The name of the parse cache in the save folder
+    private static final int CACHE_MAGIC = 0x44445341;                   // The first four bytes of a parse cache, "DDSA" in ASCII
+    private static final int CACHE_VERSION = 1;                          // The version of the parse cache format
+    private static final int SAVES_PER_WORKER = 4;                       // The number of saves handed out per worker before their summaries are taken
+    private static final int PROGRESS_INTERVAL = 1000;                   // The number of loaded saves between two progress lines
+
+    private final Path folder;                                                       // The folder with the save files
+    private final Path cacheFile;                                                    // The file that the summaries are kept in
+    private final int threads;                                                       // The number of worker threads
+    private final ThreadLocal<GameSession> workerSessions = ThreadLocal.withInitial(GameSession::new);    // The session that every worker loads its saves into
+
+    private Map<String, SaveSummary> cachedSummaries = new HashMap<>();    // The summaries of the parse cache, by file name
+    private int loadedSaves = 0;                                           // The number of saves that were loaded by this run
+
+    /**
+     * Creates an analyser of a save folder.
+     *
+     * @param folder      The folder with the save files
+     * @param threads     The number of worker threads
+     */
+    public SaveAnalyser(Path folder, int threads) {
+        if (threads < 1) throw new IllegalArgumentException("The save analyser needs at least one thread");
+
+        this.folder = folder;
+        this.cacheFile = folder.resolve(CACHE_FILE_NAME);
+        this.threads = threads;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path folder = Paths.get((args.length > 0) ? args[0] : "SaveFiles");
+        Path reportFile = Paths.get((args.length > 1) ? args[1] : "Save Report.txt");
+        int threads = (args.length > 2) ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        SaveAnalyser analyser = new SaveAnalyser(folder, threads);
+
+        long startTime = System.nanoTime();
+        SaveAnalysis analysis = analyser.run();
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+
+        String report = String.format("Dungeon Doomer save analysis of %s (threads: %d)%n", folder.toAbsolutePath(), threads)
+                + String.format("Read %d saves in %.2f s, %d of them loaded and %d taken from the parse cache%n%n",
+                        analysis.getSaves(), seconds, analyser.loadedSaves, analysis.getSaves() - analyser.loadedSaves)
+                + analysis.createReport();
+        Files.writeString(reportFile, report, StandardCharsets.UTF_8);
+        System.out.print(report);
+        System.out.println("\nThe report was written to " + reportFile.toAbsolutePath());
+    }
+
+    /**
+     * Sums up every save file of the folder, loading the saves that are not in the parse cache on the
+     * worker threads, and writes the parse cache again.
+     *
+     * @return analysis                 The analysis of every save file
+     * @throws IOException              If the folder cannot be listed
+     * @throws InterruptedException     If the thread is interrupted while it waits for a worker
+     */
+    public SaveAnalysis run() throws IOException, InterruptedException {
+        readCacheFile();
+
+        SaveAnalysis analysis = new SaveAnalysis();
+        List<SaveSummary> summaries = new ArrayList<>();
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        CompletionService<SaveSummary> results = new ExecutorCompletionService<>(workers);
+        int pending = 0;
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder, SaveCatalog::isSaveFile)) {
+            for (Path file : stream) {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                long lastModified = attributes.lastModifiedTime().toMillis(), fileSize = attributes.size();
+
+                SaveSummary cached = cachedSummaries.get(file.getFileName().toString());
+                if (cached != null && cached.isCurrent(lastModified, fileSize)) {
+                    count(cached, analysis, summaries);
+                    continue;
+                }
+
+                // The summaries that are done are taken before more saves are handed out
+                while (pending >= threads * SAVES_PER_WORKER) {
+                    count(take(results), analysis, summaries);
+                    pending--;
+                }
+                results.submit(() -> summarize(file, lastModified, fileSize));
+                pending++;
+            }
+
+            for (; pending > 0; pending--) count(take(results), analysis, summaries);
+        }
+        finally {
+            workers.shutdownNow();
+        }
+
+        writeCacheFile(summaries);
+        return analysis;
+    }
+
+    /**
+     * Counts a summary and keeps it for the parse cache. Runs on the thread that called run().
+     */
+    private void count(SaveSummary summary, SaveAnalysis analysis, List<SaveSummary> summaries) {
+        analysis.record(summary);
+        summaries.add(summary);
+    }
+
+    private SaveSummary take(CompletionService<SaveSummary> results) throws InterruptedException {
+        try {
+            SaveSummary summary = results.take().get();
+            if (++loadedSaves % PROGRESS_INTERVAL == 0) System.out.println("Loaded " + loadedSaves + " saves");
+            return summary;
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException("A save could not be summed up", e.getCause());
+        }
+    }
+
+    /**
+     * Loads a save file into the worker's game session and sums it up. Runs on a worker thread.
+     *
+     * @param file             The save file
+     * @param lastModified     The time the file was last changed, in milliseconds since 1970
+     * @param fileSize         The size of the file in bytes
+     * @return                 The summary, which marks the save unreadable if it could not be loaded
+     */
+    private SaveSummary summarize(Path file, long lastModified, long fileSize) {
+        GameSession session = workerSessions.get();
+        String fileName = file.getFileName().toString();
+
+        try {
+            int characterInSameRoom;
+            if (fileName.endsWith(BinarySaveFile.EXTENSION)) characterInSameRoom = BinarySaveFile.load(file, session);
+            else characterInSameRoom = TextSaveLoader.load(file, session);
+
+            return SaveSummary.of(fileName, session, characterInSameRoom, lastModified, fileSize);
+        }
+        catch (IOException | RuntimeException e) {
+            System.err.println("The save file " + fileName + " could not be read: " + e.getMessage());
+            return SaveSummary.unreadable(fileName, lastModified, fileSize);
+        }
+    }
+
+    /**
+     * Reads the summaries of the parse cache. A missing or unreadable cache leaves it empty, and every save is loaded again.
+     */
+    private void readCacheFile() {
+        cachedSummaries = new HashMap<>();
+        if (!Files.exists(cacheFile)) return;
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (input.readInt() != CACHE_MAGIC || input.readInt() != CACHE_VERSION) return;
+
+            int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                SaveSummary summary = SaveSummary.read(input);
+                cachedSummaries.put(summary.getFileName(), summary);
+            }
+        }
+        catch (IOException e) {
+            cachedSummaries.clear();
+            System.err.println("The parse cache could not be read, so every save is loaded again: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the summaries of this run to the parse cache, which drops the summaries of saves that are gone.
+     *
+     * @param summaries     The summaries
+     */
+    private void writeCacheFile(List<SaveSummary> summaries) {
+        ByteArrayOutputStream cacheBytes = new ByteArrayOutputStream();
+
+        try {
+            try (DataOutputStream output = new DataOutputStream(cacheBytes)) {
+                output.writeInt(CACHE_MAGIC);
+                output.writeInt(CACHE_VERSION);
+                output.writeInt(summaries.size());
+                for (SaveSummary summary : summaries) summary.write(output);
+            }
+            SaveWriter.writeAtomically(cacheFile, ByteBuffer.wrap(cacheBytes.toByteArray()));
+        }
+        catch (IOException e) {
+            System.err.println("The parse cache could not be written: " + e.getMessage());
+        }
+    }
+}
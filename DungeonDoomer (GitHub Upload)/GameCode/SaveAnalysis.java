@@ -0,0 +1,165 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToIntFunction;
+
+/**
+ * Collects the summaries of many save files into leaderboards and distributions. The summaries are
+ * counted one at a time as they come in, so only the leaders of every leaderboard are kept and not
+ * every summary.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class SaveAnalysis {
+
+    public static final int LEADERBOARD_SIZE = 10;    // The number of saves listed by every leaderboard
+
+    private long saves = 0;         // The number of save files that were counted
+    private long unreadable = 0;    // The number of save files that could not be read
+    private long escapes = 0;       // The number of saves where the hero escaped the dungeon
+    private long deaths = 0;        // The number of saves where the hero perished
+    private long playing = 0;       // The number of saves of games that were still being played
+    private long[] deathsByKiller = new long[CharacterStore.KIND_GOLEM + 1];    // The number of deaths in a room with each kind of character
+    private long exhaustionDeaths = 0;                                           // The number of deaths with no monster in the hero's room, from the health lost every turn
+
+    private Leaderboard mostGold = new Leaderboard(Comparator.comparingInt(SaveSummary::getGold));               // The saves whose hero has the most gold
+    private Leaderboard healthiestEscapes = new Leaderboard(Comparator.comparingInt(SaveSummary::getHealth));    // The escapes with the most health left
+    private SimulationHistogram turns = new SimulationHistogram(5, 81);     // The turn number of every save
+    private SimulationHistogram gold = new SimulationHistogram(10, 60);     // The gold of the hero of every save
+
+    // Getters for SaveAnalysis class
+    public long getSaves() {
+        return saves;
+    }
+
+    public long getUnreadable() {
+        return unreadable;
+    }
+
+    /**
+     * Counts the summary of a save file.
+     *
+     * @param summary     The summary of the save
+     */
+    public void record(SaveSummary summary) {
+        saves++;
+        if (!summary.isReadable()) {
+            unreadable++;
+            return;
+        }
+
+        switch (summary.getOutcome()) {
+            case SaveSummary.ESCAPED:
+                escapes++;
+                healthiestEscapes.offer(summary);
+            break;
+            case SaveSummary.DEAD:
+                deaths++;
+                int killer = summary.getKillerKind();
+                if (killer > CharacterStore.KIND_NAMED && killer < deathsByKiller.length) deathsByKiller[killer]++;
+                else exhaustionDeaths++;
+            break;
+            default: playing++;
+        }
+
+        mostGold.offer(summary);
+        turns.add(summary.getTurnCounter());
+        gold.add(summary.getGold());
+    }
+
+    /**
+     * Creates a report of the outcomes, the leaderboards, the deadliest monsters, and the turn and gold distributions.
+     *
+     * @return report    The text of the report
+     */
+    public String createReport() {
+        StringBuilder report = new StringBuilder();
+
+        report.append(String.format("Saves: %d, unreadable: %d, escapes: %d, deaths: %d, still playing: %d%n", saves, unreadable, escapes, deaths, playing));
+
+        report.append(String.format("%nMost gold:%n"));
+        appendLeaderboard(report, mostGold, "gold", SaveSummary::getGold);
+        report.append(String.format("%nMost health left after escaping:%n"));
+        appendLeaderboard(report, healthiestEscapes, "health", SaveSummary::getHealth);
+
+        report.append(String.format("%nDeadliest monsters:%n"));
+        List<Integer> killers = new ArrayList<>();
+        for (int kind = CharacterStore.KIND_NAMED + 1; kind < deathsByKiller.length; kind++) {
+            if (deathsByKiller[kind] > 0) killers.add(kind);
+        }
+        killers.sort(Comparator.comparingLong((Integer kind) -> deathsByKiller[kind]).reversed());
+        for (int kind : killers) {
+            report.append(String.format("    %-10s %8d  %6.2f%%%n", CharacterStore.getKindName(kind), deathsByKiller[kind], 100.0 * deathsByKiller[kind] / deaths));
+        }
+        if (exhaustionDeaths > 0) report.append(String.format("    %-10s %8d  %6.2f%%  (no monster in the room)%n", "Exhaustion", exhaustionDeaths, 100.0 * exhaustionDeaths / deaths));
+
+        appendDistribution(report, "Turns", turns);
+        appendDistribution(report, "Gold", gold);
+        return report.toString();
+    }
+
+    /**
+     * Writes one line per leader of a leaderboard to a report.
+     *
+     * @param report          The builder of the report
+     * @param leaderboard     The leaderboard
+     * @param valueName       The name of the value that the saves are ranked by
+     * @param value           The value that the saves are ranked by
+     */
+    private void appendLeaderboard(StringBuilder report, Leaderboard leaderboard, String valueName, ToIntFunction<SaveSummary> value) {
+        List<SaveSummary> leaders = leaderboard.getLeaders();
+        for (int i = 0; i < leaders.size(); i++) {
+            SaveSummary summary = leaders.get(i);
+            report.append(String.format("    %2d. %-20s %8d %s, turn %6d  (%s)%n", i + 1, summary.getHeroName(), value.applyAsInt(summary),
+                    valueName, summary.getTurnCounter(), summary.getFileName()));
+        }
+        if (leaders.isEmpty()) report.append(String.format("    None%n"));
+    }
+
+    /**
+     * Writes the summary and the bins of one distribution to a report.
+     *
+     * @param report        The builder of the report
+     * @param title         The name of the distribution
+     * @param histogram     The histogram of the distribution
+     */
+    private void appendDistribution(StringBuilder report, String title, SimulationHistogram histogram) {
+        report.append(String.format("%n%s: mean %.2f, p10 %d, p50 %d, p90 %d, p99 %d, max %d%n", title, histogram.getMean(),
+                histogram.getPercentile(10), histogram.getPercentile(50), histogram.getPercentile(90),
+                histogram.getPercentile(99), histogram.getMax()));
+        histogram.appendBins(report);
+    }
+
+    /**
+     * Keeps the saves with the largest values, with ties broken by the file name so a report does not
+     * depend on the order the saves came in.
+     */
+    private static class Leaderboard {
+
+        private final Comparator<SaveSummary> order;           // Puts the better save last
+        private final PriorityQueue<SaveSummary> leaders;      // The leaders, with the worst one at the head
+
+        private Leaderboard(Comparator<SaveSummary> byValue) {
+            this.order = byValue.thenComparing(SaveSummary::getFileName, Comparator.reverseOrder());
+            this.leaders = new PriorityQueue<>(order);
+        }
+
+        private void offer(SaveSummary summary) {
+            if (leaders.size() < LEADERBOARD_SIZE) {
+                leaders.add(summary);
+            }
+            else if (order.compare(summary, leaders.peek()) > 0) {
+                leaders.poll();
+                leaders.add(summary);
+            }
+        }
+
+        private List<SaveSummary> getLeaders() {
+            List<SaveSummary> sorted = new ArrayList<>(leaders);
+            sorted.sort(order.reversed());
+            return sorted;
+        }
+    }
+}
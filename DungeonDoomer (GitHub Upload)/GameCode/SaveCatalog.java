@@ -0,0 +1,336 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a preview of every save file in the SaveFiles folder, sorted with the newest save first, so
+ * the save loading menu can list thousands of saves without opening them. The previews are kept in a
+ * catalog file in the folder, and only the saves that changed since the catalog was written are read
+ * again when the game starts. While the game runs, a WatchService reports saves that are added,
+ * changed, or deleted, and their previews are updated on a thread of the catalog.
+ *
+ * A save that the game writes is put in place in the sorted list at once, and the watch event of
+ * the same file is skipped, since its time and size match the preview. The catalog file is only a
+ * cache of the previews, so it is written by the watch thread once the folder was quiet for a while,
+ * instead of after every save.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class SaveCatalog {
+
+    public static final String CATALOG_FILE_NAME = "Save Catalog.index";    // The name of the catalog file in the save folder
+    private static final int CATALOG_MAGIC = 0x44444341;                   // The first four bytes of a catalog file, "DDCA" in ASCII
+    private static final int CATALOG_VERSION = 1;                          // The version of the catalog file format
+    private static final long CATALOG_WRITE_DELAY_MILLIS = 2000;           // How long the folder must be quiet before the catalog file is written
+
+    private static final Comparator<SavePreview> NEWEST_FIRST =
+            Comparator.comparingLong(SavePreview::getLastModified).reversed().thenComparing(SavePreview::getFileName);    // The order of the saves in the menu
+
+    private final Path folder;                                                           // The folder with the save files
+    private final Path catalogFile;                                                      // The file that the previews are kept in
+    private final Map<String, SavePreview> previews = new ConcurrentHashMap<>();         // The preview of every save file, by file name
+    private volatile List<SavePreview> sortedSaves = List.of();                          // The previews, with the newest save first
+    private boolean started = false;                                                     // Whether the catalog was read and is being watched
+    private boolean catalogChanged = false;                                              // Whether the previews changed since the catalog file was written, guarded by this
+
+    /**
+     * Creates an empty catalog of a folder. The catalog is filled by start().
+     *
+     * @param folder     The folder with the save files
+     */
+    public SaveCatalog(Path folder) {
+        this.folder = folder;
+        this.catalogFile = folder.resolve(CATALOG_FILE_NAME);
+    }
+
+    /**
+     * Checks if a file is a save file, which is a binary save or a text export, which may be compressed.
+     *
+     * @param file     The file
+     * @return         true if the file is a save file, and false otherwise
+     */
+    public static boolean isSaveFile(Path file) {
+        String fileName = file.getFileName().toString().toLowerCase();
+        return fileName.endsWith(BinarySaveFile.EXTENSION) || fileName.endsWith(".txt") || fileName.endsWith(SaveCompression.COMPRESSED_TEXT_EXTENSION);
+    }
+
+    /**
+     * Returns the previews of the save files, with the newest save first. The list does not change
+     * when saves are added later, so the numbers of a menu that was printed from it stay valid.
+     *
+     * @return      The previews of the save files
+     */
+    public List<SavePreview> getSaves() {
+        return sortedSaves;
+    }
+
+    public Path getFolder() {
+        return folder;
+    }
+
+    /**
+     * Reads the catalog file, brings it up to date with the save folder, and starts watching the folder.
+     * Calling it again does nothing.
+     */
+    public synchronized void start() {
+        if (started) return;
+        started = true;
+
+        readCatalogFile();
+        synchronizeWithFolder();
+
+        Thread watchThread = new Thread(this::watchFolder, "Dungeon Doomer Save Catalog");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    /**
+     * Reads the preview of a save file again, or removes it if the file is gone. The game calls this
+     * after writing a save, so the save is in the menu before the WatchService reports it.
+     *
+     * @param file     The save file
+     */
+    public synchronized void update(Path file) {
+        String fileName = file.getFileName().toString();
+        if (updatePreview(fileName)) {
+            placeInOrder(fileName);
+            catalogChanged = true;
+        }
+    }
+
+    /**
+     * Lists the save folder once, reads the previews of the saves that are new or changed since the
+     * catalog file was written, and removes the previews of saves that are gone.
+     */
+    private synchronized void synchronizeWithFolder() {
+        Set<String> fileNames = new HashSet<>();
+        boolean changed = false;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder, SaveCatalog::isSaveFile)) {
+            for (Path file : stream) {
+                String fileName = file.getFileName().toString();
+                fileNames.add(fileName);
+
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                SavePreview preview = previews.get(fileName);
+                if (preview == null || !preview.isCurrent(attributes.lastModifiedTime().toMillis(), attributes.size())) {
+                    changed |= updatePreview(fileName);
+                }
+            }
+        }
+        catch (IOException e) {
+            MainLogic.getGameLog().error("The save folder could not be listed", e);
+        }
+
+        changed |= previews.keySet().retainAll(fileNames);
+        sortAll();
+        if (changed) catalogChanged = true;
+    }
+
+    /**
+     * Waits for changes of the save folder and updates the previews of the changed saves. All changes
+     * that are waiting are handled at once, and the catalog file is written when no change came for
+     * CATALOG_WRITE_DELAY_MILLIS.
+     */
+    private void watchFolder() {
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+
+            while (true) {
+                WatchKey key = isCatalogChanged() ? watchService.poll(CATALOG_WRITE_DELAY_MILLIS, TimeUnit.MILLISECONDS) : watchService.take();
+                if (key == null) {
+                    writeCatalogFile();
+                    continue;
+                }
+                boolean overflow = false;
+                Set<String> changedFiles = new HashSet<>();
+
+                for (; key != null; key = watchService.poll()) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) overflow = true;
+                        else if (isSaveFile((Path) event.context())) changedFiles.add(event.context().toString());
+                    }
+                    if (!key.reset()) return;    // The folder is gone
+                }
+
+                // Events were lost when the folder changed faster than they could be reported, so the folder is listed again
+                if (overflow) {
+                    synchronizeWithFolder();
+                }
+                else if (!changedFiles.isEmpty()) {
+                    synchronized (this) {
+                        List<String> updatedFiles = new ArrayList<>();
+                        for (String fileName : changedFiles) {
+                            if (updatePreview(fileName)) updatedFiles.add(fileName);
+                        }
+                        if (updatedFiles.size() == 1) placeInOrder(updatedFiles.getFirst());
+                        else if (!updatedFiles.isEmpty()) sortAll();
+                        if (!updatedFiles.isEmpty()) catalogChanged = true;
+                    }
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (ClosedWatchServiceException e) {
+            // The watch service was closed, so there is nothing more to watch
+        }
+        catch (IOException e) {
+            MainLogic.getGameLog().error("The save folder could not be watched", e);
+        }
+    }
+
+    /**
+     * Reads the preview of a save file into the catalog, or removes it if the file is gone. A preview
+     * whose time and size still match the file is kept, such as when the WatchService reports a save
+     * that update() already read.
+     *
+     * @param fileName     The name of the save file
+     * @return             true if the preview was read again or removed, and false if it did not change
+     */
+    private boolean updatePreview(String fileName) {
+        Path file = folder.resolve(fileName);
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            SavePreview preview = previews.get(fileName);
+            if (preview != null && preview.isCurrent(attributes.lastModifiedTime().toMillis(), attributes.size())) return false;
+
+            try {
+                preview = fileName.endsWith(BinarySaveFile.EXTENSION) ? BinarySaveFile.readPreview(file) : TextSaveLoader.readPreview(file);
+            }
+            catch (IOException e) {
+                preview = SavePreview.unreadable(fileName, attributes.lastModifiedTime().toMillis(), attributes.size());
+            }
+            previews.put(fileName, preview);
+            return true;
+        }
+        catch (NoSuchFileException e) {
+            return previews.remove(fileName) != null;
+        }
+        catch (IOException e) {
+            MainLogic.getGameLog().error("A save preview could not be read", e);
+            return false;
+        }
+    }
+
+    /**
+     * Sorts every preview for the menu, such as after the folder was listed.
+     */
+    private synchronized void sortAll() {
+        List<SavePreview> saves = new ArrayList<>(previews.values());
+        saves.sort(NEWEST_FIRST);
+        sortedSaves = Collections.unmodifiableList(saves);
+    }
+
+    /**
+     * Moves the preview of one save to its place in the sorted previews, or takes it out if the save is
+     * gone, without sorting the other previews again.
+     *
+     * @param fileName     The name of the save file
+     */
+    private synchronized void placeInOrder(String fileName) {
+        List<SavePreview> saves = new ArrayList<>(sortedSaves.size() + 1);
+        for (SavePreview save : sortedSaves) {
+            if (!save.getFileName().equals(fileName)) saves.add(save);
+        }
+
+        SavePreview preview = previews.get(fileName);
+        if (preview != null) {
+            int index = Collections.binarySearch(saves, preview, NEWEST_FIRST);
+            saves.add((index < 0) ? -index - 1 : index, preview);
+        }
+        sortedSaves = Collections.unmodifiableList(saves);
+    }
+
+    private synchronized boolean isCatalogChanged() {
+        return catalogChanged;
+    }
+
+    /**
+     * Reads the previews of the catalog file. A missing or unreadable catalog file leaves the catalog
+     * empty, and every save is read again.
+     */
+    private void readCatalogFile() {
+        if (!Files.exists(catalogFile)) return;
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(catalogFile)))) {
+            if (input.readInt() != CATALOG_MAGIC || input.readInt() != CATALOG_VERSION) return;
+
+            int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                String fileName = input.readUTF();
+                String heroName = input.readBoolean() ? input.readUTF() : null;
+                SavePreview preview = new SavePreview(fileName, heroName, input.readInt(), input.readInt(), input.readInt(),
+                        input.readInt(), input.readLong(), input.readLong());
+                previews.put(fileName, preview);
+            }
+        }
+        catch (IOException e) {
+            previews.clear();
+            MainLogic.getGameLog().error("The save catalog could not be read", e);
+        }
+    }
+
+    /**
+     * Writes the sorted previews to the catalog file. The file is written next to the catalog file and then
+     * moved over it, so a game that stops while writing leaves the old catalog file, and the saves that
+     * changed since are read again when the game starts.
+     */
+    private void writeCatalogFile() {
+        List<SavePreview> saves;
+        synchronized (this) {
+            saves = sortedSaves;
+            catalogChanged = false;
+        }
+        Path temporaryFile = folder.resolve(CATALOG_FILE_NAME + ".tmp");
+
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(CATALOG_MAGIC);
+                output.writeInt(CATALOG_VERSION);
+                output.writeInt(saves.size());
+                for (SavePreview preview : saves) {
+                    output.writeUTF(preview.getFileName());
+                    output.writeBoolean(preview.isReadable());
+                    if (preview.isReadable()) output.writeUTF(preview.getHeroName());
+                    output.writeInt(preview.getHealth());
+                    output.writeInt(preview.getGold());
+                    output.writeInt(preview.getTurnCounter());
+                    output.writeInt(preview.getDungeonSize());
+                    output.writeLong(preview.getLastModified());
+                    output.writeLong(preview.getFileSize());
+                }
+            }
+            Files.move(temporaryFile, catalogFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (IOException e) {
+            MainLogic.getGameLog().error("The save catalog could not be written", e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses save files with GZIP as they are written, and opens save files for reading whether they
+ * are compressed or not. A compressed file is told apart by the two bytes that every GZIP file starts
+ * with, which neither a binary save nor a text export starts with, so the readers need no setting.
+ *
+ * Compression is off unless a level is given when the game is started (--compression=1), since it makes saving much
+ * slower for a smaller file: on a dungeon of about 180,000 characters the lowest level shrinks a
+ * binary save from 5.0 MB to 1.9 MB and a text export from 32 MB to 2.6 MB, but the binary save takes
+ * about 0.2 seconds to write instead of 12 milliseconds. Level 6 saves a fifth more space in four
+ * times the time, and level 9 takes seconds. Even when it is on, only the saves of dungeons with many
+ * characters are compressed, since a small save is written and read at once either way and a text
+ * export of it should stay readable by hand.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class SaveCompression {
+
+    public static final int NONE = 0;                                   // The level of a save that is written as it is
+    public static final int DEFAULT_LEVEL = NONE;                       // The level that saves are written with, unless another level is given
+    public static final int MIN_COMPRESSED_CHARACTERS = 1000;           // The number of characters from which a save is compressed
+    public static final String COMPRESSED_TEXT_EXTENSION = ".txt.gz";   // The extension of a compressed text export
+
+    private static final int GZIP_FIRST_BYTE = 0x1f, GZIP_SECOND_BYTE = 0x8b;    // The first two bytes of every GZIP file
+    private static final int BUFFER_BYTES = 1 << 16;                             // The size of the buffers that the data is streamed through
+
+    /**
+     * Picks the level that a save of a game session is written with.
+     *
+     * @param session     The game session to save
+     * @param level       The level that was chosen for large dungeons, from 1 (fastest) to 9 (smallest), or NONE
+     * @return            The level, or NONE if the save should be written as it is
+     */
+    public static int getLevel(GameSession session, int level) {
+        if (level < NONE || level > Deflater.BEST_COMPRESSION) throw new IllegalArgumentException("There is no compression level " + level);
+        return (session.getCharacterList().size() < MIN_COMPRESSED_CHARACTERS) ? NONE : level;
+    }
+
+    /**
+     * Opens a save file for reading, and inflates it while it is read if it is compressed.
+     *
+     * @param file             The file to read
+     * @return                 The channel of the file, which is a FileChannel if the file is not compressed
+     * @throws IOException     If the file cannot be opened
+     */
+    public static ReadableByteChannel open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer start = ByteBuffer.allocate(2);
+            while (start.hasRemaining() && channel.read(start) != -1) {}
+            channel.position(0);
+
+            if (start.position() < 2 || (start.get(0) & 0xff) != GZIP_FIRST_BYTE || (start.get(1) & 0xff) != GZIP_SECOND_BYTE) return channel;
+            return Channels.newChannel(new GZIPInputStream(Channels.newInputStream(channel), BUFFER_BYTES));
+        }
+        catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a buffered stream into a channel, which compresses what is written unless the level is NONE. 
+     * Closing the stream finishes the file but leaves the channel open, so it can be forced to the disk.
+     *
+     * @param channel          The channel of the file
+     * @param level            The level, from 1 (fastest) to 9 (smallest), or NONE
+     * @return output          The stream to write the content of the file to
+     * @throws IOException     If the channel cannot be written
+     */
+    public static OutputStream newOutputStream(WritableByteChannel channel, int level) throws IOException {
+        // The channel is kept open when the GZIP stream is closed, which frees the memory of its deflater
+        OutputStream output = new FilterOutputStream(Channels.newOutputStream(channel)) {
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                out.write(bytes, offset, length);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+
+        if (level == NONE) return new BufferedOutputStream(output, BUFFER_BYTES);
+        return new GZIPOutputStream(output, BUFFER_BYTES) { { def.setLevel(level); } };
+    }
+
+    /**
+     * Compresses the content of a file into a channel. The channel is left open, so it can be forced to the disk.
+     *
+     * @param channel          The channel of the file
+     * @param contents         The content of the file, from its position to its limit, which does not change
+     * @param level            The level, from 1 (fastest) to 9 (smallest)
+     * @throws IOException     If the channel cannot be written
+     */
+    public static void write(WritableByteChannel channel, ByteBuffer contents, int level) throws IOException {
+        try (OutputStream gzip = newOutputStream(channel, level)) {
+            ByteBuffer bytes = contents.duplicate();
+            byte[] chunk = bytes.hasArray() ? null : new byte[BUFFER_BYTES];
+            while (bytes.hasRemaining()) {
+                int length = Math.min(bytes.remaining(), BUFFER_BYTES);
+                if (chunk == null) {
+                    gzip.write(bytes.array(), bytes.arrayOffset() + bytes.position(), length);
+                    bytes.position(bytes.position() + length);
+                }
+                else {
+                    bytes.get(chunk, 0, length);
+                    gzip.write(chunk, 0, length);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+import java.io.IOException;
+
+/**
+ * Custom exception thrown when a save file cannot be loaded because its content breaks the format,
+ * such as an unknown key or a value that is not a number. The message names the file and the line,
+ * so the user can find the mistake in a save file that was edited by hand.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class SaveFileFormatException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String fileName;    // The name of the save file
+    private final int lineNumber;     // The number of the line with the mistake, starting at 1
+
+    /**
+     * This will be thrown if a line of a save file breaks the format.
+     *
+     * @param fileName       The name of the save file
+     * @param lineNumber     The number of the line with the mistake, starting at 1
+     * @param problem        What is wrong with the line
+     */
+    public SaveFileFormatException(String fileName, int lineNumber, String problem) {
+        super("Line " + lineNumber + " of " + fileName + ": " + problem);
+        this.fileName = fileName;
+        this.lineNumber = lineNumber;
+    }
+
+    // Getters for SaveFileFormatException class
+    public String getFileName() {
+        return fileName;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+}
@@ -1,109 +1,118 @@
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
- * Creates a "save" by storing all game information into a separate text file. 
+ * Creates a "save" by storing all game information into a separate file. Saves are written in the 
+ * binary format of BinarySaveFile, and the old text format is kept as an export that can be read 
+ * by hand and loaded like a save. 
+ * 
+ * The content of a save is captured from the game on the calling thread, and the SaveWriter writes it 
+ * on a thread of its own. The result is printed to the terminal once the file is written. The saves 
+ * of large dungeons are compressed while they are written (see SaveCompression). 
  * 
  * @author Blake Payne
  * @since  08.19.2024
  */
 public class SaveFileMaker {
 
-    private String fileName = ("Save File " + MainLogic.getCurrentTimeStamp() + ".txt");
+    private String fileName = ("Save File " + MainLogic.getCurrentTimeStamp());    // The name of the save files without an extension
+    private GameSession session;    // The game session that is saved
+
+    /**
+     * Creates a save file maker for the game session played in the game window. 
+     */
+    public SaveFileMaker() {
+        this(MainLogic.getSession());
+    }
 
     /**
-     * Creates a new save file and writes both dungeon and character info to it.  
+     * Creates a save file maker for a specific game session. 
+     * 
+     * @param session    The game session to save
+     */
+    public SaveFileMaker(GameSession session) {
+        this.session = session;
+    }
+
+    /**
+     * Creates a new binary save file and writes both dungeon and character info to it.  
      */
     public void createSave() {
-        File f = new File("SaveFiles//" + fileName);
+        String saveName = fileName + BinarySaveFile.EXTENSION;
+        long startTime = System.nanoTime();
+        GameEvents.Save saveEvent = GameEvents.startSave();
         
         try {
-            BufferedWriter output = new BufferedWriter(new FileWriter(f));
-            Character hero = MainLogic.getCharacterList().get(0);
-            
-            output.write("numOfCharacters: " + MainLogic.getCharacterList().size());
-            output.write("\n");
-            
-            Integer dungeonSize = hero.getDungeonSize();
-            output.write("dungeonSize: " + dungeonSize);
-            output.write("\n");
-            
-            Integer turnCounter = hero.getTurnCounterValue();
-            output.write("turnCounter: " + turnCounter);
-            output.write("\n");
-            
-            Integer characterInSameRoom = hero.getCharacterInSameRoomIndex();
-            output.write("characterInSameRoom: " + characterInSameRoom);
-            output.write("\n");
-            
-            Integer potionTurnCounter = MainLogic.getPotionTurnCounter();
-            output.write("potionTurnCounter: " + potionTurnCounter);
-            output.write("\n");
-            
-            Boolean canRetreat = MainLogic.getCanRetreat();
-            output.write("canRetreat: " + canRetreat);
-            output.write("\n");
-            
-            output.write("~~~ END OF DUNGEON INFO ~~~");
-            output.write("\n");
-            
-            // The following for loop writes each character's info to the file 
-            for (int i = 0; i < MainLogic.getCharacterList().size(); i++) {
-                String name = MainLogic.getCharacterList().get(i).getName();
-                output.write("name: " + name);
-                output.write("\n");
-                
-                Integer health = MainLogic.getCharacterList().get(i).getHealth();
-                output.write("health: " + health);
-                output.write("\n");
-                
-                Integer maxDamage = MainLogic.getCharacterList().get(i).getMaxDamage();
-                output.write("maxDamage: " + maxDamage);
-                output.write("\n");
-                
-                Integer xCord = MainLogic.getCharacterList().get(i).getXCord();
-                output.write("xCord: " + xCord);
-                output.write("\n");
-                
-                Integer yCord = MainLogic.getCharacterList().get(i).getYCord();
-                output.write("yCord: " + yCord);
-                output.write("\n");
-                
-                Integer gold = MainLogic.getCharacterList().get(i).getGoldValue();
-                output.write("gold: " + gold);
-                output.write("\n");
-                
-                Integer type = MainLogic.getCharacterList().get(i).getTypeValue();
-                output.write("type: " + type);
-                output.write("\n");
-                
-                Boolean healthPotionCondition = MainLogic.getCharacterList().get(i).getHasHealthPotion();
-                output.write("healthPotionCondition: " + healthPotionCondition);
-                output.write("\n");
-                
-                Boolean strengthPotionCondition = MainLogic.getCharacterList().get(i).getHasStrengthPotion();
-                output.write("strengthPotionCondition: " + strengthPotionCondition);
-                output.write("\n");
-                
-                output.write("~~~ END OF CHARACTER INFO ~~~");
-                output.write("\n");
-            }
-            
-            output.write("~~~ END OF SAVE FILE ~~~");
-            output.close();
-            switch (MainLogic.getLanguage()) {
-                case "English": MainLogic.getGameWindow().printToTerminal("\n\nYour game has been saved as: " + fileName); break;
-                case "German": MainLogic.getGameWindow().printToTerminal("\n\nDas Spiel ist als " + fileName + " gespeichert "); break;
-            }
+            ByteBuffer contents = BinarySaveFile.encode(session);
+            int level = getCompressionLevel();
+            if (saveEvent != null) saveEvent.finish(session, saveName, contents.remaining(), level);
+            submitSave(saveName, SaveWriter.SaveContent.of(contents), level, startTime, new LanguageTranslation("\n\nYour game has been saved as: " + saveName, 
+                    "\n\nDas Spiel ist als " + saveName + " gespeichert ").extrapolate());
         }
-        catch (IndexOutOfBoundsException ioobe) {
-            MainLogic.getGameWindow().pushMessage("Error: Your game could not be saved at this time. (MISSING CHARACTER(S) INFO)");
-            ioobe.printStackTrace();
+        catch (Exception ex) {
+            session.getListener().printToTerminal("\n\nError: Your game could not be saved at this time. (UNKNOWN ERROR)");
+            MainLogic.getGameLog().error("The game could not be saved", ex);
+        }
+    }
+
+    /**
+     * Hands the content of a save file to the save writer. The save catalog is updated and the 
+     * result is printed once the file is written, while the game goes on. 
+     * 
+     * @param saveName          The name of the save file in the "SaveFiles" folder
+     * @param content           Writes the content of the save file
+     * @param level             The compression level of the save file
+     * @param startTime         The time the save was started, as measured with System.nanoTime()
+     * @param savedMessage      The message printed once the save is written
+     */
+    private void submitSave(String saveName, SaveWriter.SaveContent content, int level, long startTime, String savedMessage) {
+        Path saveFile = Paths.get("SaveFiles", saveName);
+        GameListener listener = session.getListener();
+        
+        MainLogic.getSaveWriter().submit(saveFile, content, level, 
+            bytes -> {
+                MainLogic.getGameMetrics().recordSave(System.nanoTime() - startTime, bytes);
+                MainLogic.getSaveCatalog().update(saveFile);
+                listener.printToTerminal(savedMessage);
+            }, 
+            ioe -> {
+                MainLogic.getGameMetrics().recordFailedSave();
+                listener.printToTerminal("\n\nError: Your game could not be saved at this time. (FILE COULD NOT BE WRITTEN)");
+                MainLogic.getGameLog().error("The save file could not be written", ioe);
+            }
+        );
+    }
+
+    /**
+     * Returns the compression level of a save of the game session, which is SaveCompression.NONE for small dungeons. 
+     * 
+     * @return level     The compression level
+     */
+    private int getCompressionLevel() {
+        return SaveCompression.getLevel(session, MainLogic.getSaveCompressionLevel());
+    }
+
+    /**
+     * Creates a new text file and writes both dungeon and character info to it as "name: value" lines. The 
+     * game is captured as the compact content of a binary save, and the save writer renders the text from it 
+     * straight into the file, so the text of a large dungeon is never held in memory. 
+     */
+    public void createTextExport() {
+        long startTime = System.nanoTime();
+        GameEvents.Save saveEvent = GameEvents.startSave();
+        
+        try {
+            ByteBuffer contents = BinarySaveFile.encode(session);
+            int level = getCompressionLevel();
+            String exportName = fileName + ((level == SaveCompression.NONE) ? ".txt" : SaveCompression.COMPRESSED_TEXT_EXTENSION);
+            if (saveEvent != null) saveEvent.finish(session, exportName, contents.remaining(), level);
+            submitSave(exportName, output -> BinarySaveFile.writeText(contents, output), level, startTime, new LanguageTranslation("\n\nYour game has been exported as: " + exportName, 
+                    "\n\nDas Spiel ist als " + exportName + " exportiert ").extrapolate());
         }
         catch (Exception ex) {
-            MainLogic.getGameWindow().pushMessage("Error: Your game could not be saved at this time. (UNKNOWN ERROR)");
-            ex.printStackTrace();
+            session.getListener().printToTerminal("\n\nError: Your game could not be saved at this time. (UNKNOWN ERROR)");
+            MainLogic.getGameLog().error("The text export could not be written", ex);
         }
     }
 }
\ No newline at end of file
@@ -1,29 +1,28 @@
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.file.Path;
+import java.util.List;
 
 /**
- * Reads a save file with all game information and loads a new game from that info. 
+ * Reads a save file with all game information and loads a new game from that info. Binary save 
+ * files are read by BinarySaveFile, and text files exported by SaveFileMaker are read by TextSaveLoader. 
+ * The menu is printed from the previews of the SaveCatalog, so the save folder is not listed again. 
  * 
  * @author Blake Payne
  * @since  08.19.2024
  */
 public class SaveFileReader {
 
-    private ArrayList<Character> characterList = new ArrayList<>();
-    private ArrayList<String> saveFiles;
-    private File[] arrayOfFiles;
+    private List<SavePreview> shownSaves;
     private int dungeonSizeValue = -1;
+    private int characterInSameRoomValue = -1;
     private String targetFile = "";
 
+    /**
+     * Returns the number of saves in the last printed menu, which are the saves that can be chosen. 
+     */
     public int getSaveFileNumberTotal() {
-        saveFiles = new ArrayList<>();
-        File folder = new File("SaveFiles//");
-        arrayOfFiles = folder.listFiles();
-        return arrayOfFiles.length;
+        if (shownSaves == null) shownSaves = MainLogic.getSaveCatalog().getSaves();
+        return shownSaves.size();
     }
 
     public Integer getDungeonSizeValue() {
@@ -34,24 +33,38 @@ public class SaveFileReader {
         dungeonSizeValue = value;
     }
 
+    /**
+     * Returns the list position of the character in the hero's room, which can only be turned
+     * into a handle once the loaded characters are in the session. 
+     */
+    public int getCharacterInSameRoomValue() {
+        return characterInSameRoomValue;
+    }
+
     public String getSaveFileString() {
         return targetFile;
     }
 
     /**
-     * Prints out the save files in the "SaveFiles" folder. Informs user if there are no save files. 
+     * Prints out the save files in the "SaveFiles" folder with the newest save first, each with a preview 
+     * of its hero and dungeon. Informs user if there are no save files. 
      */
     public void printSaveLoadingMenu() {
-        if (getSaveFileNumberTotal() > 0) {
-            MainLogic.getGameWindow().printToTerminal(new LanguageTranslation("\n\n~ Save Menu ~", "\n\n~ Speicherdateien Menü ~").extrapolate());
-            for (int i = 0; i < getSaveFileNumberTotal(); i++) {
-                MainLogic.getGameWindow().printToTerminal("\n" + (i + 1) + ": " + arrayOfFiles[i].getName());
-                saveFiles.add(arrayOfFiles[i].getName());
+        shownSaves = MainLogic.getSaveCatalog().getSaves();
+        int saveTotal = shownSaves.size();
+        
+        if (saveTotal > 0) {
+            // The menu is built first, so thousands of saves are printed to the terminal at once
+            StringBuilder menu = new StringBuilder(new LanguageTranslation("\n\n~ Save Menu ~", "\n\n~ Speicherdateien Menü ~").extrapolate());
+            for (int i = 0; i < saveTotal; i++) {
+                SavePreview save = shownSaves.get(i);
+                menu.append("\n").append(i + 1).append(": ").append(save.getFileName()).append("\n    ").append(getPreviewText(save));
             }
+            MainLogic.getGameWindow().printToTerminal(menu.toString());
             
             switch (MainLogic.getLanguage()) {
-                case "English": MainLogic.getGameWindow().printToTerminal("\n\nWhich save file would you like to load from (Select from 1-" + getSaveFileNumberTotal() + ")?"); break;
-                case "German": MainLogic.getGameWindow().printToTerminal("\n\nWelche Speicherdatei möchten Sie laden? (Wählen Sie 1-" + getSaveFileNumberTotal() + ")?"); break;
+                case "English": MainLogic.getGameWindow().printToTerminal("\n\nWhich save file would you like to load from (Select from 1-" + saveTotal + ")?"); break;
+                case "German": MainLogic.getGameWindow().printToTerminal("\n\nWelche Speicherdatei möchten Sie laden? (Wählen Sie 1-" + saveTotal + ")?"); break;
             }
         }
         else {
@@ -63,248 +76,58 @@ public class SaveFileReader {
     }
     
     /**
-     * Loads a new list of characters from a given save file index. 
+     * Returns the line of the save loading menu that describes the hero and dungeon of a save. 
      * 
-     * @param index     Index of the save file
-     * @return          New list of characters made from save file 
+     * @param save     The preview of the save
+     * @return         The line of the menu
      */
-    public ArrayList<Character> loadFromSave(Integer index) {
-        targetFile = arrayOfFiles[index - 1].getName();
-        fileReader(targetFile);
-        return characterList;
-    }
-
-    private Integer toInt(String str) {
-        return Integer.parseInt(str);
-    }
-
-    private boolean toBoolean(String str) {
-        return Boolean.parseBoolean(str);
-    }
-
-    private void fileReader(String fileName) throws IndexOutOfBoundsException {
-        try {
-            int dungeonSize = 0, numOfCharacters = 0, turnCounter = 0, characterInSameRoom = -1, potionTurnCounter = 0;
-            String fileNameWithPath = "SaveFiles//" + fileName;
-            BufferedReader reader = new BufferedReader(new FileReader(fileNameWithPath));
-            String line = reader.readLine();
-            Boolean canRetreat = null;
-            
-            // Gets the value of dungeonSize, numOfCharacters, turnCounter, and characterInSameRoom from the save file 
-            while (!line.contains("~~~ END OF DUNGEON INFO ~~~")) {
-                String attributeType = attributeGetter(line, 'l');
-                
-                if (attributeType.contains("numOfCharacters")) {
-                    String attributeValue = attributeGetter(line, 'r');
-                    numOfCharacters = toInt(attributeValue);
-                    characterAdder(numOfCharacters);
-                }
-                else if (attributeType.contains("dungeonSize")) {
-                    String attributeValue = attributeGetter(line, 'r');
-                    dungeonSize = toInt(attributeValue);
-                    attributeUpdater("dungeonSize", attributeValue, 0);
-                }
-                else if (attributeType.contains("turnCounter")) {
-                    String attributeValue = attributeGetter(line, 'r');
-                    turnCounter = toInt(attributeValue);
-                    attributeUpdater("turnCounter", attributeValue, 0);
-                }
-                else if (attributeType.equals("characterInSameRoom")) {
-                    String attributeValue = attributeGetter(line, 'r');
-                    characterInSameRoom = toInt(attributeValue);
-                    attributeUpdater("characterInSameRoom", attributeValue, 0);
-                }
-                else if (attributeType.equals("potionTurnCounter")) {
-                    String attributeValue = attributeGetter(line, 'r');
-                    potionTurnCounter = toInt(attributeValue);
-                    attributeUpdater("potionTurnCounter", attributeValue, 0);
-                }
-                else if (attributeType.equals("canRetreat")) {
-                    String attributeValue = attributeGetter(line, 'r');
-                    canRetreat = toBoolean(attributeValue);
-                    attributeUpdater("canRetreat", attributeValue, 0);
-                }
-                line = reader.readLine();
-            }
-            
-            System.out.println("dungeonSize: " + dungeonSize + ", numOfCharacters: " + numOfCharacters +
-                    ", turnCounter: " + turnCounter + ", characterInSameRoom: " + characterInSameRoom +
-                    ", potionTurnCounter: " + potionTurnCounter + ", canRetreat: " + canRetreat);
-            reader.close();
-            
-            // Reopens BufferedReader to evaluate the characters' info in the file 
-            reader = new BufferedReader(new FileReader(fileNameWithPath));
-            line = reader.readLine();
-            
-            // Evaluates the rest of the characters' info and restores it in the character list
-            for (int i = 0; i < numOfCharacters; i++) {
-                while (!line.contains("~~~ END OF CHARACTER INFO ~~~")) {
-                    String attributeType = attributeGetter(line, 'l');
-                    
-                    if (attributeType.contains("name")) {
-                        String attributeValue = attributeGetter(line, 'r');
-                        attributeUpdater("name", attributeValue, i);
-                    } 
-                    else if (attributeType.equals("health")) {
-                        String attributeValue = attributeGetter(line, 'r');
-                        attributeUpdater("health", attributeValue, i);
-                    }
-                    else if (attributeType.contains("maxDamage")) {
-                        String attributeValue = attributeGetter(line, 'r');
-                        attributeUpdater("maxDamage", attributeValue, i);
-                    } 
-                    else if (attributeType.contains("xCord")) {
-                        String attributeValue = attributeGetter(line, 'r');
-                        attributeUpdater("xCord", attributeValue, i);
-                    } 
-                    else if (attributeType.contains("yCord")) {
-                        String attributeValue = attributeGetter(line, 'r');
-                        attributeUpdater("yCord", attributeValue, i);
-                    } 
-                    else if (attributeType.contains("gold")) {
-                        String attributeValue = attributeGetter(line, 'r');
-                        attributeUpdater("gold", attributeValue, i);
-                    } 
-                    else if (attributeType.contains("type")) {
-                        String attributeValue = attributeGetter(line, 'r');
-                        attributeUpdater("type", attributeValue, i);
-                    } 
-                    else if (attributeType.equals("hasHealthPotion")) {
-                        String attributeValue = attributeGetter(line, 'r');
-                        attributeUpdater("hasHealthPotion", attributeValue, i);
-                    } 
-                    else if (attributeType.contains("hasStrengthPotion")) {
-                        String attributeValue = attributeGetter(line, 'r');
-                        attributeUpdater("hasStrengthPotion", attributeValue, i); 
-                    }
-                    line = reader.readLine();
-                }
-                line = reader.readLine();
-            }
-            reader.close();
-            characterRemover(numOfCharacters);
-            
-        }
-        catch (FileNotFoundException e) {
-            System.out.println("That save file was not found");
-        }
-        catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
-    // If the current game has fewer characters than the loaded save file, more "empty" characters are added
-    private void characterAdder(int numOfCharacters) {
-        while (true) {
-            if (characterList.size() < numOfCharacters) {
-                Character gameCharacter = new Character();
-                characterList.add(gameCharacter);
-            } 
-            else break;
+    private String getPreviewText(SavePreview save) {
+        if (!save.isReadable()) return new LanguageTranslation("(damaged)", "(beschädigt)").extrapolate();
+        
+        String dungeon = save.getDungeonSize() + "x" + save.getDungeonSize();
+        switch (MainLogic.getLanguage()) {
+            case "German": return "Held: " + save.getHeroName() + ", Gesundheitspunkte: " + save.getHealth() + ", Geld: " + save.getGold() 
+                    + ", Zug: " + save.getTurnCounter() + ", Kerker: " + dungeon;
+            default: return "Hero: " + save.getHeroName() + ", Health: " + save.getHealth() + ", Gold: " + save.getGold() 
+                    + ", Turn: " + save.getTurnCounter() + ", Dungeon: " + dungeon;
         }
     }
-
-    private void characterRemover(int numOfCharacters) { 
-        if (characterList.size() > numOfCharacters) {
-            for (int i = numOfCharacters; i < characterList.size(); i++) {
-                characterList.remove(i);
-            }
-            characterRemover(numOfCharacters);
-        }
+    
+    /**
+     * Returns the path of a save file from the last printed menu. 
+     * 
+     * @param index     Index of the save file
+     * @return          The path of the save file
+     */
+    private Path getSaveFilePath(Integer index) {
+        SaveCatalog saveCatalog = MainLogic.getSaveCatalog();
+        return saveCatalog.getFolder().resolve(shownSaves.get(index - 1).getFileName());
     }
-
-    private String attributeGetter(String line, char letter) {
-        int colonIndex = line.indexOf(":");
-        String attributeValue = "";
+    
+    /**
+     * Loads a new list of characters from a given save file index. The characters replace the characters 
+     * of the game session, and a save file that is damaged or has a mistake leaves the game session as it was. 
+     * 
+     * @param index            Index of the save file
+     * @return                 New list of characters made from save file 
+     * @throws IOException     If the save file cannot be read or breaks its format
+     */
+    public List<Character> loadFromSave(Integer index) throws IOException {
+        GameSession session = MainLogic.getSession();
+        Path file = getSaveFilePath(index);
+        targetFile = file.getFileName().toString();
+        long startTime = System.nanoTime();
+        GameEvents.Load loadEvent = GameEvents.startLoad();
         
-        try {
-            if (letter == ('l')) {
-                attributeValue = line.substring(0, colonIndex);
-            } else if (letter == ('r')) {
-                attributeValue = line.substring(colonIndex);
-            }
-        }
-        catch (IndexOutOfBoundsException e) {
-            if (line.contains("~~~ END OF CHARACTER INFO ~~~")) {
-                return "~~~ END OF CHARACTER INFO ~~~";
-            } 
-            else if (line.contains("~~~ END OF DUNGEON INFO ~~~")) {
-                return "~~~ END OF DUNGEON INFO ~~~";
-            }
-            else if (line.contains("~~~ END OF SAVE FILE ~~~")) {
-                return "~~~ END OF SAVE FILE ~~~";
-            }
-            else {
-                return "~~~ ERROR STRING ~~~";
-            }
+        // A binary save is read by BinarySaveFile, and any other file is read as a text export
+        if (targetFile.endsWith(BinarySaveFile.EXTENSION)) {
+            characterInSameRoomValue = BinarySaveFile.load(file, session);
         }
+        else characterInSameRoomValue = TextSaveLoader.load(file, session);
         
-        String[] tempStringArray = attributeValue.split(":");
-        for (String element: tempStringArray) { attributeValue = element; }
-        attributeValue = attributeValue.trim();
-        return attributeValue;
-    }
-
-    private void attributeUpdater(String attributeType, String attributeValue, int index) {
-        int attributeIntValue;
-        boolean attributeBoolValue;
-        switch (attributeType) {
-            case "dungeonSize":
-                attributeIntValue = toInt(attributeValue);
-                characterList.getFirst().setDungeonSize(attributeIntValue);
-                setDungeonSizeValue(attributeIntValue);
-                break;
-            case "turnCounter":
-                attributeIntValue = toInt(attributeValue);
-                characterList.getFirst().setTurnCounterValue(attributeIntValue);
-                break;
-            case "characterInSameRoom":
-                attributeIntValue = toInt(attributeValue);
-                characterList.getFirst().setCharacterInSameRoomIndex(attributeIntValue);
-                break;
-            case "potionTurnCounter":
-                attributeIntValue = toInt(attributeValue);
-                characterList.getFirst().setPotionTurnCounter(attributeIntValue);
-                break;
-            case "canRetreat":
-                attributeBoolValue = toBoolean(attributeValue);
-                characterList.getFirst().setCanRetreat(attributeBoolValue);
-                break;
-            case "name":
-                characterList.get(index).setName(attributeValue);
-                break;
-            case "health":
-                attributeIntValue = toInt(attributeValue);
-                characterList.get(index).setHealth(attributeIntValue);
-                break;
-            case "maxDamage":
-                attributeIntValue = toInt(attributeValue);
-                characterList.get(index).setMaxDamage(attributeIntValue);
-                break;
-            case "xCord":
-                attributeIntValue = toInt(attributeValue);
-                characterList.get(index).setXCord(attributeIntValue);
-                break;
-            case "yCord":
-                attributeIntValue = toInt(attributeValue);
-                characterList.get(index).setYCord(attributeIntValue);
-                break;
-            case "gold":
-                attributeIntValue = toInt(attributeValue);
-                characterList.get(index).setGoldValue(attributeIntValue);
-                break;
-            case "type":
-                attributeIntValue = toInt(attributeValue);
-                characterList.get(index).setTypeValue(attributeIntValue);
-                break;
-            case "hasHealthPotion":
-                attributeBoolValue = toBoolean(attributeValue);
-                characterList.get(index).setHasHealthPotion(attributeBoolValue);
-                break;
-            case "hasStrengthPotion":
-                attributeBoolValue = toBoolean(attributeValue);
-                characterList.get(index).setHasStrengthPotion(attributeBoolValue);
-                break;
-        }
+        setDungeonSizeValue(session.getDungeonSize());
+        MainLogic.getGameMetrics().recordLoad(System.nanoTime() - startTime);
+        if (loadEvent != null) loadEvent.finish(session, file);
+        return session.getCharacterList();
     }
 }
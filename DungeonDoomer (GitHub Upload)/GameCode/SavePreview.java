@@ -0,0 +1,104 @@
+/**
+ * Holds what the save loading menu shows of a save file: its name, the hero, and the state of the
+ * dungeon. A preview is read from the start of the save file once and then kept in the SaveCatalog,
+ * together with the time and size of the file, so a changed file can be told apart from the one
+ * the preview was read from.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class SavePreview {
+
+    private final String fileName;        // The name of the save file
+    private final String heroName;        // The name of the hero, or null if the file could not be read
+    private final int health;             // The health of the hero
+    private final int gold;               // The gold of the hero
+    private final int turnCounter;        // The number of turns that were played
+    private final int dungeonSize;        // The size of the dungeon
+    private final long lastModified;      // The time the file was last changed, in milliseconds since 1970
+    private final long fileSize;          // The size of the file in bytes
+
+    /**
+     * Creates a preview of a save file.
+     *
+     * @param fileName         The name of the save file
+     * @param heroName         The name of the hero, or null if the file could not be read
+     * @param health           The health of the hero
+     * @param gold             The gold of the hero
+     * @param turnCounter      The number of turns that were played
+     * @param dungeonSize      The size of the dungeon
+     * @param lastModified     The time the file was last changed, in milliseconds since 1970
+     * @param fileSize         The size of the file in bytes
+     */
+    public SavePreview(String fileName, String heroName, int health, int gold, int turnCounter, int dungeonSize,
+                       long lastModified, long fileSize) {
+        this.fileName = fileName;
+        this.heroName = heroName;
+        this.health = health;
+        this.gold = gold;
+        this.turnCounter = turnCounter;
+        this.dungeonSize = dungeonSize;
+        this.lastModified = lastModified;
+        this.fileSize = fileSize;
+    }
+
+    /**
+     * Creates a preview of a save file that could not be read, which is still listed so the user sees it.
+     *
+     * @param fileName         The name of the save file
+     * @param lastModified     The time the file was last changed, in milliseconds since 1970
+     * @param fileSize         The size of the file in bytes
+     * @return                 The preview
+     */
+    public static SavePreview unreadable(String fileName, long lastModified, long fileSize) {
+        return new SavePreview(fileName, null, 0, 0, 0, 0, lastModified, fileSize);
+    }
+
+    // Getters for SavePreview class
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getHeroName() {
+        return heroName;
+    }
+
+    public boolean isReadable() {
+        return heroName != null;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public int getGold() {
+        return gold;
+    }
+
+    public int getTurnCounter() {
+        return turnCounter;
+    }
+
+    public int getDungeonSize() {
+        return dungeonSize;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * Checks if the preview was read from the file as it is now.
+     *
+     * @param lastModified     The time the file was last changed, in milliseconds since 1970
+     * @param fileSize         The size of the file in bytes
+     * @return                 true if the file has the time and size that it had when the preview was read
+     */
+    public boolean isCurrent(long lastModified, long fileSize) {
+        return this.lastModified == lastModified && this.fileSize == fileSize;
+    }
+}
@@ -0,0 +1,178 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Holds what the SaveAnalyser takes from a save file: the hero, the outcome of the game, and the kind
+ * of the monster that killed the hero. A summary is made by loading the whole save once and is then
+ * kept in the parse cache, together with the time and size of the file, so a save is only loaded again
+ * when it changed.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class SaveSummary {
+
+    public static final int PLAYING = 0, ESCAPED = 1, DEAD = 2;    // The outcomes of the game of a save
+
+    private final String fileName;        // The name of the save file
+    private final String heroName;        // The name of the hero, or null if the file could not be read
+    private final int health;             // The health of the hero
+    private final int gold;               // The gold of the hero
+    private final int turnCounter;        // The number of turns that were played
+    private final int dungeonSize;        // The size of the dungeon
+    private final int characters;         // The number of characters in the dungeon
+    private final int outcome;            // Whether the hero was still playing, escaped, or was dead
+    private final int killerKind;         // The kind of the character in the dead hero's room, or -1 if there is none
+    private final long lastModified;      // The time the file was last changed, in milliseconds since 1970
+    private final long fileSize;          // The size of the file in bytes
+
+    private SaveSummary(String fileName, String heroName, int health, int gold, int turnCounter, int dungeonSize, int characters,
+                        int outcome, int killerKind, long lastModified, long fileSize) {
+        this.fileName = fileName;
+        this.heroName = heroName;
+        this.health = health;
+        this.gold = gold;
+        this.turnCounter = turnCounter;
+        this.dungeonSize = dungeonSize;
+        this.characters = characters;
+        this.outcome = outcome;
+        this.killerKind = killerKind;
+        this.lastModified = lastModified;
+        this.fileSize = fileSize;
+    }
+
+    /**
+     * Sums up a save that was loaded into a game session.
+     *
+     * @param fileName                The name of the save file
+     * @param session                 The game session that the save was loaded into
+     * @param characterInSameRoom     The list position of the character in the hero's room, or -1 if there is none
+     * @param lastModified            The time the file was last changed, in milliseconds since 1970
+     * @param fileSize                The size of the file in bytes
+     * @return                        The summary
+     */
+    public static SaveSummary of(String fileName, GameSession session, int characterInSameRoom, long lastModified, long fileSize) {
+        CharacterStore store = session.getCharacterList();
+        int hero = store.getId(0), dungeonSize = session.getDungeonSize();
+
+        int outcome = PLAYING, killerKind = -1;
+        if (store.getHealth(hero) <= 0) {
+            outcome = DEAD;
+            int killer = (characterInSameRoom > 0 && characterInSameRoom < store.size())
+                    ? store.getId(characterInSameRoom) : store.getIdInRoom(store.getXCord(hero), store.getYCord(hero));
+            if (killer >= 0 && killer != hero) killerKind = store.getKind(killer);
+        }
+        else if (store.getXCord(hero) == dungeonSize - 1 && store.getYCord(hero) == dungeonSize - 1) outcome = ESCAPED;
+
+        return new SaveSummary(fileName, store.getName(hero), store.getHealth(hero), store.getGoldValue(hero), session.getTurnCounter(),
+                dungeonSize, store.size(), outcome, killerKind, lastModified, fileSize);
+    }
+
+    /**
+     * Creates the summary of a save file that could not be read, which is still counted in the report.
+     *
+     * @param fileName         The name of the save file
+     * @param lastModified     The time the file was last changed, in milliseconds since 1970
+     * @param fileSize         The size of the file in bytes
+     * @return                 The summary
+     */
+    public static SaveSummary unreadable(String fileName, long lastModified, long fileSize) {
+        return new SaveSummary(fileName, null, 0, 0, 0, 0, 0, PLAYING, -1, lastModified, fileSize);
+    }
+
+    /**
+     * Reads a summary that was written by write().
+     *
+     * @param input            The input of the parse cache
+     * @return                 The summary
+     * @throws IOException     If the input cannot be read
+     */
+    public static SaveSummary read(DataInput input) throws IOException {
+        String fileName = input.readUTF();
+        String heroName = input.readBoolean() ? input.readUTF() : null;
+        return new SaveSummary(fileName, heroName, input.readInt(), input.readInt(), input.readInt(), input.readInt(), input.readInt(),
+                input.readByte(), input.readByte(), input.readLong(), input.readLong());
+    }
+
+    /**
+     * Writes the summary to the parse cache.
+     *
+     * @param output           The output of the parse cache
+     * @throws IOException     If the output cannot be written
+     */
+    public void write(DataOutput output) throws IOException {
+        output.writeUTF(fileName);
+        output.writeBoolean(isReadable());
+        if (isReadable()) output.writeUTF(heroName);
+        output.writeInt(health);
+        output.writeInt(gold);
+        output.writeInt(turnCounter);
+        output.writeInt(dungeonSize);
+        output.writeInt(characters);
+        output.writeByte(outcome);
+        output.writeByte(killerKind);
+        output.writeLong(lastModified);
+        output.writeLong(fileSize);
+    }
+
+    // Getters for SaveSummary class
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getHeroName() {
+        return heroName;
+    }
+
+    public boolean isReadable() {
+        return heroName != null;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public int getGold() {
+        return gold;
+    }
+
+    public int getTurnCounter() {
+        return turnCounter;
+    }
+
+    public int getDungeonSize() {
+        return dungeonSize;
+    }
+
+    public int getCharacters() {
+        return characters;
+    }
+
+    public int getOutcome() {
+        return outcome;
+    }
+
+    public int getKillerKind() {
+        return killerKind;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * Checks if the summary was made from the file as it is now.
+     *
+     * @param lastModified     The time the file was last changed, in milliseconds since 1970
+     * @param fileSize         The size of the file in bytes
+     * @return                 true if the file did not change since the summary was made
+     */
+    public boolean isCurrent(long lastModified, long fileSize) {
+        return this.lastModified == lastModified && this.fileSize == fileSize;
+    }
+}
@@ -0,0 +1,313 @@
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Writes save files on a thread of its own, so a slow disk never stalls the game. A save is handed over
+ * as a SaveContent, which writes a snapshot that was captured from the game before, so a text export
+ * is rendered on the writer thread straight into the file. The content is written to a temporary file
+ * next to the save, forced to the disk, and then moved over the save in one step. A game that stops
+ * while a save is written leaves the old save file as it was, and never a partly written one.
+ *
+ * A save that is requested while an older save of the same file still waits replaces the older one,
+ * so saves that are made right after each other write the file once. A save of a large dungeon is
+ * compressed on the writer thread while it is written (see SaveCompression).
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class SaveWriter {
+
+    public static final String TEMPORARY_EXTENSION = ".tmp";    // The extension added to a save while it is written
+
+    private final Map<Path, PendingSave> pendingSaves = new LinkedHashMap<>();    // The saves that wait to be written, by file, guarded by itself
+    private final GameLog gameLog;       // The log that errors of the callbacks are written to
+    private Thread writerThread;         // Writes the pending saves, once the first save was requested
+    private boolean closed = false;      // Whether the writer was closed, guarded by pendingSaves
+
+    /**
+     * Creates a save writer. Its thread is started once the first save is requested.
+     *
+     * @param gameLog     The log that errors of the callbacks are written to
+     */
+    public SaveWriter(GameLog gameLog) {
+        this.gameLog = gameLog;
+    }
+
+    /**
+     * Hands the content of a save to the writer thread. If a save of the same file still waits,
+     * it is replaced, and only this save is reported.
+     *
+     * @param file          The save file to write
+     * @param content       Writes the content of the save file, from a snapshot that must not change afterward
+     * @param level         The compression level of the file, or SaveCompression.NONE to write the content as it is
+     * @param whenSaved     Told on the writer thread the number of bytes that were written before compression, when the save was written
+     * @param whenFailed    Told on the writer thread when the save could not be written
+     */
+    public void submit(Path file, SaveContent content, int level, LongConsumer whenSaved, Consumer<IOException> whenFailed) {
+        synchronized (pendingSaves) {
+            if (closed) {
+                whenFailed.accept(new IOException("The save writer was closed before " + file + " was written"));
+                return;
+            }
+
+            pendingSaves.remove(file);    // A replaced save moves to the end, after the saves that were requested before it
+            pendingSaves.put(file, new PendingSave(file, content, level, whenSaved, whenFailed));
+            if (writerThread == null) {
+                writerThread = new Thread(this::writeSaves, "Dungeon Doomer Save Writer");
+                writerThread.setDaemon(true);
+                writerThread.start();
+            }
+            pendingSaves.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until every pending save was written, and stops the writer thread. Called when the window is closed.
+     */
+    public void close() {
+        Thread thread;
+        synchronized (pendingSaves) {
+            closed = true;
+            pendingSaves.notifyAll();
+            thread = writerThread;
+        }
+        if (thread == null) return;
+
+        try {
+            thread.join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs on the writer thread and writes the pending saves in the order they were requested. A save that
+     * fails in any way is reported to its callback, and an error of a callback is logged, so the thread keeps
+     * writing the saves after it.
+     */
+    private void writeSaves() {
+        while (true) {
+            PendingSave save;
+            synchronized (pendingSaves) {
+                while (pendingSaves.isEmpty() && !closed) {
+                    try {
+                        pendingSaves.wait();
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (pendingSaves.isEmpty()) return;
+
+                Iterator<PendingSave> iterator = pendingSaves.values().iterator();
+                save = iterator.next();
+                iterator.remove();
+            }
+
+            IOException failure = null;
+            long bytes = 0;
+            try {
+                GameEvents.SaveWrite writeEvent = GameEvents.startSaveWrite();
+                bytes = writeAtomically(save.file, save.content, save.level);
+                if (writeEvent != null) writeEvent.finish(save.file.getFileName().toString(), bytes, save.level);
+            }
+            catch (IOException e) {
+                failure = e;
+            }
+            catch (RuntimeException e) {
+                failure = new IOException("The save " + save.file + " could not be written", e);
+            }
+
+            IOException saveFailure = failure;
+            long savedBytes = bytes;
+            if (saveFailure == null) runCallback(() -> save.whenSaved.accept(savedBytes), "The callback of a written save failed");
+            else runCallback(() -> save.whenFailed.accept(saveFailure), "The callback of a failed save failed");
+        }
+    }
+
+    private void runCallback(Runnable callback, String message) {
+        try {
+            callback.run();
+        }
+        catch (RuntimeException e) {
+            gameLog.error(message, e);
+        }
+    }
+
+    /**
+     * Writes the content of a file to a temporary file, forces it to the disk, and moves it over the file.
+     *
+     * @param file             The file to write
+     * @param contents         The content of the file
+     * @throws IOException     If the file cannot be written
+     */
+    public static void writeAtomically(Path file, ByteBuffer contents) throws IOException {
+        writeAtomically(file, contents, SaveCompression.NONE);
+    }
+
+    /**
+     * Writes the content of a file to a temporary file, compressing it unless the level is NONE, forces
+     * it to the disk, and moves it over the file.
+     *
+     * @param file             The file to write
+     * @param contents         The content of the file
+     * @param level            The compression level, or SaveCompression.NONE to write the content as it is
+     * @throws IOException     If the file cannot be written
+     */
+    public static void writeAtomically(Path file, ByteBuffer contents, int level) throws IOException {
+        writeAtomically(file, channel -> {
+            ByteBuffer bytes = contents.duplicate();
+            if (level == SaveCompression.NONE) {
+                while (bytes.hasRemaining()) channel.write(bytes);
+            }
+            else SaveCompression.write(channel, bytes, level);
+            return contents.remaining();
+        });
+    }
+
+    /**
+     * Writes the content of a file to a temporary file as it is rendered, compressing it unless the level
+     * is NONE, forces it to the disk, and moves it over the file.
+     *
+     * @param file             The file to write
+     * @param content          Writes the content of the file
+     * @param level            The compression level, or SaveCompression.NONE to write the content as it is
+     * @return bytes           The number of bytes of the content, before compression
+     * @throws IOException     If the file cannot be written
+     */
+    public static long writeAtomically(Path file, SaveContent content, int level) throws IOException {
+        return writeAtomically(file, channel -> {
+            CountingOutputStream output = new CountingOutputStream(SaveCompression.newOutputStream(channel, level));
+            try (output) {
+                content.writeTo(output);
+            }
+            return output.count;
+        });
+    }
+
+    private static long writeAtomically(Path file, ChannelContent content) throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_EXTENSION);
+        long bytes;
+
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                bytes = content.writeTo(channel);
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes the content of a save file. A save is captured as a snapshot on the logic thread, and its 
+     * content is written from the snapshot on the writer thread.
+     */
+    public interface SaveContent {
+
+        /**
+         * Writes the content of the save file to a stream, which is compressed if the save is.
+         *
+         * @param output           The stream of the file, which is closed by the save writer
+         * @throws IOException     If the content cannot be written
+         */
+        void writeTo(OutputStream output) throws IOException;
+
+        /**
+         * Returns the content of a save that was captured as bytes.
+         *
+         * @param contents     The content of the save file, from its position to its limit, which does not change
+         * @return content     Writes the bytes
+         */
+        static SaveContent of(ByteBuffer contents) {
+            return output -> {
+                ByteBuffer bytes = contents.duplicate();
+                if (bytes.hasArray()) {
+                    output.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+                    return;
+                }
+                byte[] chunk = new byte[Math.min(bytes.remaining(), 1 << 16)];
+                while (bytes.hasRemaining()) {
+                    int length = Math.min(bytes.remaining(), chunk.length);
+                    bytes.get(chunk, 0, length);
+                    output.write(chunk, 0, length);
+                }
+            };
+        }
+    }
+
+    /**
+     * Writes the content of a file to its channel, and returns the number of bytes before compression.
+     */
+    private interface ChannelContent {
+        long writeTo(FileChannel channel) throws IOException;
+    }
+
+    /**
+     * Counts the bytes that are written through it.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count = 0;    // The number of bytes that were written
+
+        private CountingOutputStream(OutputStream output) {
+            super(output);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            count += length;
+        }
+    }
+
+    /**
+     * A save that waits to be written.
+     */
+    private static class PendingSave {
+
+        private final Path file;                              // The save file to write
+        private final SaveContent content;                    // Writes the content of the save file
+        private final int level;                              // The compression level of the save file
+        private final LongConsumer whenSaved;                 // Told the number of bytes when the save was written
+        private final Consumer<IOException> whenFailed;       // Told when the save could not be written
+
+        private PendingSave(Path file, SaveContent content, int level, LongConsumer whenSaved, Consumer<IOException> whenFailed) {
+            this.file = file;
+            this.content = content;
+            this.level = level;
+            this.whenSaved = whenSaved;
+            this.whenFailed = whenFailed;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Counts non-negative values in bins of a fixed width. Histograms of different workers
+ * can be merged, which keeps a simulation from having to store every result.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class SimulationHistogram {
+
+    private final int binWidth;     // The range of values counted by one bin
+    private final long[] counts;    // The number of values in each bin. The last bin also counts every larger value
+    private long total = 0;         // The number of values added to the histogram
+    private long sum = 0;           // The sum of every value added to the histogram
+    private int max = 0;            // The largest value added to the histogram
+
+    /**
+     * Creates an empty histogram.
+     *
+     * @param binWidth     The range of values counted by one bin
+     * @param binCount     The number of bins
+     */
+    public SimulationHistogram(int binWidth, int binCount) {
+        this.binWidth = binWidth;
+        this.counts = new long[binCount];
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return total == 0 ? 0 : (double) sum / total;
+    }
+
+    /**
+     * Counts a value. Negative values are counted as zero.
+     *
+     * @param value     The value to count
+     */
+    public void add(int value) {
+        value = Math.max(value, 0);
+        counts[Math.min(value / binWidth, counts.length - 1)]++;
+        total++;
+        sum += value;
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds the counts of another histogram with the same bins to this one.
+     *
+     * @param other     The histogram to merge into this one
+     */
+    public void merge(SimulationHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Estimates a percentile as the lower edge of the bin that holds it.
+     *
+     * @param percent      The percentile to estimate (0 to 100)
+     * @return             The lower edge of the bin holding the percentile
+     */
+    public int getPercentile(double percent) {
+        long target = (long) Math.ceil(total * percent / 100.0);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target && seen > 0) return i * binWidth;
+        }
+        return (counts.length - 1) * binWidth;
+    }
+
+    /**
+     * Writes one line per non-empty bin with its range, count, and a bar of its share.
+     *
+     * @param output    The builder to write the lines to
+     */
+    public void appendBins(StringBuilder output) {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) continue;
+
+            String range = (i == counts.length - 1) ? (i * binWidth) + "+" : (i * binWidth) + "-" + ((i + 1) * binWidth - 1);
+            double share = (double) counts[i] / total;
+            output.append(String.format("    %9s %12d  %6.2f%% %s%n", range, counts[i], share * 100, "#".repeat((int) Math.round(share * 50))));
+        }
+    }
+}
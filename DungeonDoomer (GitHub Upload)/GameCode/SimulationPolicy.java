@@ -0,0 +1,78 @@
+import java.util.random.RandomGenerator;
+
+/**
+ * The ways a simulated hero can choose its next command. Each policy only looks at the
+ * game session and uses the given generator, so a simulated game can be replayed exactly.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public enum SimulationPolicy {
+
+    /**
+     * Wanders in random directions, mostly fights, and buys or drinks potions at random.
+     */
+    RANDOM {
+        @Override
+        public String nextCommand(GameSession session, RandomGenerator random) {
+            Character hero = session.getHero();
+
+            if (session.getIsInCombat()) {
+                int choice = random.nextInt(10);
+                if (choice < 7) return "fight";
+                else if (choice < 9) return "retreat";
+                else return hero.getHasHealthPotion() ? "health" : "fight";
+            }
+            else if (session.getIsInTrade()) {
+                if (random.nextInt(4) == 0 && hero.getGoldValue() >= session.getPotionPrice()) {
+                    return random.nextBoolean() ? "health" : "strength";
+                }
+                return "leave";
+            }
+            else if (hero.getHasHealthPotion() && random.nextInt(10) == 0) {
+                return "health";
+            }
+            return DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+        }
+    },
+
+    /**
+     * Heads for the exit, always fights, buys a health potion when it can pay for one,
+     * and drinks it when its health gets low.
+     */
+    SCRIPTED {
+        @Override
+        public String nextCommand(GameSession session, RandomGenerator random) {
+            Character hero = session.getHero();
+
+            if (session.getIsInCombat()) {
+                if (hero.getHealth() < 30 && hero.getHasHealthPotion()) return "health";
+                return "fight";
+            }
+            else if (session.getIsInTrade()) {
+                if (!hero.getHasHealthPotion() && hero.getGoldValue() >= session.getPotionPrice()) return "health";
+                return "leave";
+            }
+            else if (hero.getHealth() < 40 && hero.getHasHealthPotion()) {
+                return "health";
+            }
+
+            // Moves south or east at random until the hero reaches the last row or column
+            boolean canGoSouth = hero.getYCord() < session.getDungeonSize() - 1;
+            boolean canGoEast = hero.getXCord() < session.getDungeonSize() - 1;
+            if (canGoSouth && canGoEast) return random.nextBoolean() ? "south" : "east";
+            return canGoSouth ? "south" : "east";
+        }
+    };
+
+    private static final String[] DIRECTIONS = {"north", "south", "east", "west"};    // The commands that move the hero
+
+    /**
+     * Chooses the next command for the hero of a game session.
+     *
+     * @param session    The game session that is being played
+     * @param random     The generator for every random choice of the policy
+     * @return           The command to run in the game session
+     */
+    public abstract String nextCommand(GameSession session, RandomGenerator random);
+}
@@ -0,0 +1,188 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays a large number of games without a game window to measure the balance of the game.
+ * The games are split between the cores with fork/join. Each batch of games has its own
+ * random number stream that only depends on the seed and the batch, so a run with the
+ * same arguments gives the same report no matter how many threads are used. Every game
+ * is played by a session with its own seed, so a single game can be replayed as well.
+ *
+ * Usage: java SimulationRunner [games] [RANDOM|SCRIPTED] [seed] [threads] [dungeonSize]
+ *        java SimulationRunner replay [gameSeed] [RANDOM|SCRIPTED] [dungeonSize]
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class SimulationRunner {
+
+    private static final int BATCH_SIZE = 2048;         // The number of games played by one worker task
+    private static final int MAX_COMMANDS = 5000;       // The number of commands after which a game is stopped
+
+    private final long seed;                    // The seed that every random number stream is derived from
+    private final SimulationPolicy policy;      // The policy that chooses the commands of the hero
+    private int dungeonSize = 0;                // The size of every dungeon, or 0 if the size is picked at random
+
+    /**
+     * Creates a simulation runner.
+     *
+     * @param seed      The seed that every random number stream is derived from
+     * @param policy    The policy that chooses the commands of the hero
+     */
+    public SimulationRunner(long seed, SimulationPolicy policy) {
+        this.seed = seed;
+        this.policy = policy;
+    }
+
+    public void setDungeonSize(int dungeonSize) {
+        this.dungeonSize = dungeonSize;
+    }
+
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("replay")) {
+            long gameSeed = (args.length > 1) ? Long.parseLong(args[1]) : 1;
+            SimulationPolicy policy = (args.length > 2) ? SimulationPolicy.valueOf(args[2].toUpperCase()) : SimulationPolicy.SCRIPTED;
+            int dungeonSize = (args.length > 3) ? Integer.parseInt(args[3]) : 0;
+            replay(gameSeed, policy, dungeonSize);
+            return;
+        }
+
+        long games = (args.length > 0) ? Long.parseLong(args[0]) : 1_000_000;
+        SimulationPolicy policy = (args.length > 1) ? SimulationPolicy.valueOf(args[1].toUpperCase()) : SimulationPolicy.SCRIPTED;
+        long seed = (args.length > 2) ? Long.parseLong(args[2]) : 1;
+        int threads = (args.length > 3) ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        SimulationRunner runner = new SimulationRunner(seed, policy);
+        if (args.length > 4) runner.setDungeonSize(Integer.parseInt(args[4]));
+
+        long startTime = System.nanoTime();
+        SimulationStats stats = runner.run(games, threads);
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+
+        System.out.printf("Dungeon Doomer simulation (policy: %s, seed: %d, threads: %d)%n", policy, seed, threads);
+        System.out.printf("Played %d games in %.2f s (%.0f games per minute)%n%n", stats.getGames(), seconds, stats.getGames() / seconds * 60);
+        System.out.print(stats.createReport());
+    }
+
+    /**
+     * Plays games on a fork/join pool and merges their results.
+     *
+     * @param games      The number of games to play
+     * @param threads    The number of worker threads
+     * @return           The merged results of every game
+     */
+    public SimulationStats run(long games, int threads) {
+        if (games <= 0) return new SimulationStats();
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long batches = (games + BATCH_SIZE - 1) / BATCH_SIZE;
+            return pool.invoke(new BatchTask(games, 0, batches));
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays one batch of games with the batch's own random number stream.
+     *
+     * @param batch      The index of the batch
+     * @param games      The number of games in the batch
+     * @return stats     The results of the batch
+     */
+    public SimulationStats runBatch(long batch, int games) {
+        SplittableRandom batchRandom = new SplittableRandom(seed ^ (batch * 0x9E3779B97F4A7C15L));
+        SimulationStats stats = new SimulationStats();
+
+        for (int i = 0; i < games; i++) {
+            stats.record(playGame(batchRandom.nextLong()));
+        }
+        return stats;
+    }
+
+    /**
+     * Plays one game until it is over or until it runs too long. The policy draws from a generator 
+     * that is split off the session's after the dungeon is made, so the game only depends on its seed. 
+     *
+     * @param gameSeed   The seed of the game session
+     * @return session   The session of the finished game
+     */
+    public GameSession playGame(long gameSeed) {
+        GameSession session = new GameSession(gameSeed);
+        session.setChosenDungeonSize(dungeonSize);
+        session.initializeGame("Simulated Hero");
+        SplittableRandom policyRandom = session.splitRandom();
+
+        for (int commands = 0; commands < maxCommands(session) && !session.getGameOver(); commands++) {
+            session.runCommand(policy.nextCommand(session, policyRandom));
+        }
+        return session;
+    }
+
+    /**
+     * Replays one game and prints every command with its output.
+     *
+     * @param gameSeed      The seed of the game session
+     * @param policy        The policy that chooses the commands of the hero
+     * @param dungeonSize   The size of the dungeon, or 0 if the size is picked at random
+     */
+    public static void replay(long gameSeed, SimulationPolicy policy, int dungeonSize) {
+        GameSession session = new GameSession(gameSeed);
+        session.setChosenDungeonSize(dungeonSize);
+
+        long startTime = System.nanoTime();
+        int characters = session.initializeGame("Simulated Hero").size();
+        System.out.printf("%d characters in a dungeon of size %d (made in %.1f ms, %.1f bytes per character)", characters, session.getDungeonSize(),
+                (System.nanoTime() - startTime) / 1e6, session.getCharacterList().getBytesPerCharacter());
+        SplittableRandom policyRandom = session.splitRandom();
+
+        for (int commands = 0; commands < maxCommands(session) && !session.getGameOver(); commands++) {
+            String command = policy.nextCommand(session, policyRandom);
+            System.out.print("\n\n> " + command + session.runCommand(command));
+        }
+        System.out.println("\n\n" + session.getHero());
+    }
+
+    /**
+     * Gives a large dungeon enough commands to reach the exit. 
+     *
+     * @param session    The game session that is being played
+     * @return           The number of commands after which the game is stopped
+     */
+    private static int maxCommands(GameSession session) {
+        return Math.max(MAX_COMMANDS, session.getDungeonSize() * 4);
+    }
+
+    /**
+     * Splits a range of batches between the workers until one batch is left.
+     */
+    private class BatchTask extends RecursiveTask<SimulationStats> {
+
+        private static final long serialVersionUID = 1L;    // Tasks are never serialized, but RecursiveTask is Serializable
+
+        private final long games;           // The number of games in the whole simulation
+        private final long firstBatch;      // The first batch of this task
+        private final long endBatch;        // The batch after the last batch of this task
+
+        BatchTask(long games, long firstBatch, long endBatch) {
+            this.games = games;
+            this.firstBatch = firstBatch;
+            this.endBatch = endBatch;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (endBatch - firstBatch == 1) {
+                int batchGames = (int) Math.min(BATCH_SIZE, games - firstBatch * BATCH_SIZE);
+                return runBatch(firstBatch, batchGames);
+            }
+
+            long middleBatch = (firstBatch + endBatch) >>> 1;
+            BatchTask left = new BatchTask(games, firstBatch, middleBatch);
+            left.fork();
+            SimulationStats right = new BatchTask(games, middleBatch, endBatch).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Collects the results of simulated games. Every worker of a simulation fills its own
+ * stats object, and the objects are merged once the workers are done.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class SimulationStats {
+
+    private long games = 0;         // The number of games that were played
+    private long escapes = 0;       // The number of games where the hero escaped the dungeon
+    private long deaths = 0;        // The number of games where the hero perished
+    private long unfinished = 0;    // The number of games that were stopped before they ended
+
+    private SimulationHistogram gold = new SimulationHistogram(10, 60);           // The gold of the hero at the end of every game
+    private SimulationHistogram escapeHealth = new SimulationHistogram(5, 41);    // The health of the hero at the end of every escape
+    private SimulationHistogram turns = new SimulationHistogram(5, 81);           // The turn number at the end of every game
+
+    // Getters for SimulationStats class
+    public long getGames() {
+        return games;
+    }
+
+    public long getEscapes() {
+        return escapes;
+    }
+
+    public long getDeaths() {
+        return deaths;
+    }
+
+    public long getUnfinished() {
+        return unfinished;
+    }
+
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) escapes / games;
+    }
+
+    /**
+     * Records the result of a game that is over or was stopped.
+     *
+     * @param session    The game session of the game
+     */
+    public void record(GameSession session) {
+        Character hero = session.getHero();
+        games++;
+
+        if (hero.isDead()) {
+            deaths++;
+        }
+        else if (hero.hasEscaped()) {
+            escapes++;
+            escapeHealth.add(hero.getHealth());
+        }
+        else unfinished++;
+
+        gold.add(hero.getGoldValue());
+        turns.add(hero.getTurnCounterValue());
+    }
+
+    /**
+     * Adds the results of another stats object to this one.
+     *
+     * @param other     The stats to merge into this one
+     * @return          This stats object
+     */
+    public SimulationStats merge(SimulationStats other) {
+        games += other.games;
+        escapes += other.escapes;
+        deaths += other.deaths;
+        unfinished += other.unfinished;
+        gold.merge(other.gold);
+        escapeHealth.merge(other.escapeHealth);
+        turns.merge(other.turns);
+        return this;
+    }
+
+    /**
+     * Creates a report of the win rate and of the gold, escape health, and turn number distributions.
+     *
+     * @return report    The text of the report
+     */
+    public String createReport() {
+        StringBuilder report = new StringBuilder();
+
+        report.append(String.format("Games: %d, escapes: %d, deaths: %d, unfinished: %d%n", games, escapes, deaths, unfinished));
+        report.append(String.format("Win rate: %.2f%%%n", getWinRate() * 100));
+        appendDistribution(report, "Gold", gold);
+        appendDistribution(report, "Escape health", escapeHealth);
+        appendDistribution(report, "Turns", turns);
+
+        return report.toString();
+    }
+
+    /**
+     * Writes the summary and the bins of one distribution to a report.
+     *
+     * @param report        The builder of the report
+     * @param title         The name of the distribution
+     * @param histogram     The histogram of the distribution
+     */
+    private void appendDistribution(StringBuilder report, String title, SimulationHistogram histogram) {
+        report.append(String.format("%n%s: mean %.2f, p10 %d, p50 %d, p90 %d, p99 %d, max %d%n", title, histogram.getMean(),
+                histogram.getPercentile(10), histogram.getPercentile(50), histogram.getPercentile(90),
+                histogram.getPercentile(99), histogram.getMax()));
+        histogram.appendBins(report);
+    }
+}
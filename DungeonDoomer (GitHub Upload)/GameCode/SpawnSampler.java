@@ -0,0 +1,95 @@
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Picks distinct random rooms for the characters of a new dungeon without retrying rooms that are
+ * taken. The rooms are numbered row by row, leaving out the entrance and the exit, and split into
+ * chunks of the same size. Every chunk gets its share of the rooms and draws them with Floyd's
+ * sampling algorithm, which needs exactly one random number per room. Each chunk has its own
+ * generator split off the session's, so large dungeons are sampled on every core and the same
+ * seed always gives the same rooms, no matter how many cores there are.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class SpawnSampler {
+
+    private static final int CHUNK_ROOMS = 1 << 20;    // The number of rooms sampled by one task
+
+    /**
+     * Picks distinct rooms that are neither the entrance (0, 0) nor the exit of the dungeon.
+     *
+     * @param dungeonSize   The size of the dungeon
+     * @param count         The number of rooms to pick
+     * @param random        The generator that the generators of the chunks are split off of
+     * @return rooms        The picked rooms as (y * dungeonSize + x)
+     */
+    public static int[] sampleRooms(int dungeonSize, int count, SplittableRandom random) {
+        int roomTotal = dungeonSize * dungeonSize - 2;
+        if (count < 0 || count > roomTotal) {
+            throw new IllegalArgumentException("Cannot pick " + count + " rooms in a dungeon of size " + dungeonSize);
+        }
+
+        int[] rooms = new int[count];
+        int chunks = (roomTotal + CHUNK_ROOMS - 1) / CHUNK_ROOMS;
+
+        // A dungeon of one chunk is sampled with the session's generator on the calling thread
+        if (chunks == 1) {
+            sampleChunk(rooms, 0, count, 0, roomTotal, random);
+            return rooms;
+        }
+
+        SplittableRandom[] chunkRandoms = new SplittableRandom[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            chunkRandoms[chunk] = random.split();
+        }
+
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int firstRoom = chunk * CHUNK_ROOMS;
+            int roomCount = Math.min(CHUNK_ROOMS, roomTotal - firstRoom);
+
+            // The rooms picked before this chunk and in this chunk, shared out in proportion to the chunk's size
+            int offset = share(count, firstRoom, roomTotal);
+            int chunkCount = share(count, firstRoom + roomCount, roomTotal) - offset;
+
+            sampleChunk(rooms, offset, chunkCount, firstRoom, roomCount, chunkRandoms[chunk]);
+        });
+        return rooms;
+    }
+
+    /**
+     * Picks distinct rooms from one chunk with Floyd's algorithm. For every j from (roomCount - chunkCount)
+     * up to (roomCount - 1), a random room from 0 to j is picked, or room j if that one was picked already.
+     *
+     * @param rooms         The array of picked rooms
+     * @param offset        The index in rooms of the first room of this chunk
+     * @param chunkCount    The number of rooms to pick from this chunk
+     * @param firstRoom     The number of the chunk's first room
+     * @param roomCount     The number of rooms in the chunk
+     * @param random        The generator of the chunk
+     */
+    private static void sampleChunk(int[] rooms, int offset, int chunkCount, int firstRoom, int roomCount, SplittableRandom random) {
+        BitSet picked = new BitSet(roomCount);
+
+        for (int j = roomCount - chunkCount; j < roomCount; j++) {
+            int room = random.nextInt(j + 1);
+            if (picked.get(room)) room = j;
+
+            picked.set(room);
+            rooms[offset++] = firstRoom + room + 1;    // Skips the entrance, which is room 0
+        }
+    }
+
+    /**
+     * Shares out the picked rooms in proportion to the rooms before a boundary.
+     *
+     * @param count         The number of rooms to pick in the whole dungeon
+     * @param boundary      The number of rooms before the boundary
+     * @param roomTotal     The number of rooms in the whole dungeon
+     * @return              The number of picked rooms before the boundary
+     */
+    private static int share(int count, int boundary, int roomTotal) {
+        return (int) ((long) count * boundary / roomTotal);
+    }
+}
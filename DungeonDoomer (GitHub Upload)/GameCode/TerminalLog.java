@@ -0,0 +1,184 @@
+import java.util.Arrays;
+import javax.swing.JTextArea;
+import javax.swing.text.BadLocationException;
+
+/**
+ * Holds the text printed to the output terminal. Only the newest lines are kept in a ring of lines,
+ * so a long game does not make the log grow without end. The text appended since the terminal was
+ * last shown is kept apart, so the terminal only has to append that text instead of all of it.
+ * The methods are synchronized, as the logic thread prints while the event thread shows the log;
+ * a caller that has to make several calls at once holds the lock of the log around them.
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class TerminalLog {
+
+    public static final int DEFAULT_MAX_LINES = 2000;    // The number of lines kept if no other number is chosen
+
+    private final String[] lines;                                   // The kept lines that were ended by a line break, in a ring
+    private final StringBuilder openLine = new StringBuilder();     // The last line, which was not ended by a line break yet
+    private final StringBuilder newText = new StringBuilder();      // The text appended since the log was last shown
+    private int firstLine = 0;                                      // The index of the oldest kept line in the ring
+    private int lineCount = 0;                                      // The number of kept lines in the ring
+    private int newLineBreaks = 0;                                  // The number of line breaks in the new text
+    private boolean resetNeeded = true;                             // Whether the whole log has to be shown again instead of the new text
+    private long droppedLines = 0;                                  // The number of old lines that were dropped to make room
+
+    /**
+     * Creates an empty log.
+     *
+     * @param maxLines     The number of lines that are kept besides the line being printed
+     */
+    public TerminalLog(int maxLines) {
+        if (maxLines < 1) throw new IllegalArgumentException("A terminal log has to keep at least one line, not " + maxLines);
+        lines = new String[maxLines];
+    }
+
+    // Getters for TerminalLog class
+    public int getMaxLines() {
+        return lines.length;
+    }
+
+    public synchronized int getLineCount() {
+        return lineCount;
+    }
+
+    public synchronized long getDroppedLines() {
+        return droppedLines;
+    }
+
+    public synchronized boolean isResetNeeded() {
+        return resetNeeded;
+    }
+
+    public synchronized boolean hasNewText() {
+        return newText.length() > 0;
+    }
+
+    /**
+     * Appends text to the log. Every line break ends a line, and the oldest line is dropped once the log is full.
+     *
+     * @param text     The text to append
+     */
+    public synchronized void append(String text) {
+        int start = 0;
+        for (int end = text.indexOf('\n'); end != -1; end = text.indexOf('\n', start)) {
+            openLine.append(text, start, end);
+            addLine(openLine.toString());
+            openLine.setLength(0);
+            newLineBreaks++;
+            start = end + 1;
+        }
+        openLine.append(text, start, text.length());
+
+        // New text that holds more lines than the log keeps is replaced by showing the whole log again
+        if (newLineBreaks > lines.length) resetNeeded = true;
+        if (resetNeeded) discardNewText();
+        else newText.append(text);
+    }
+
+    /**
+     * Returns the text appended since the log was last shown and marks it as shown.
+     *
+     * @return text     The new text
+     */
+    public synchronized String takeNewText() {
+        String text = newText.toString();
+        discardNewText();
+        return text;
+    }
+
+    /**
+     * Marks the whole log as shown, e.g. after it was put into a new text component.
+     */
+    public synchronized void markShown() {
+        discardNewText();
+        resetNeeded = false;
+    }
+
+    /**
+     * Shows the log in a text area that showed it before. Only the text appended since then is added, and
+     * the oldest lines of the text area are removed once it holds more lines than the log keeps. The whole
+     * log is put into the text area instead if it was cleared or more lines were appended than it keeps.
+     * Runs on the event thread.
+     *
+     * @param terminal                  The text area that shows the log
+     * @return                          Whether the text of the text area changed
+     * @throws BadLocationException     If the old lines cannot be removed from the text area
+     */
+    public boolean showIn(JTextArea terminal) throws BadLocationException {
+        String text;
+        boolean reset;
+
+        // The log is locked, so no text appended by the logic thread in between is marked as shown
+        synchronized (this) {
+            reset = resetNeeded;
+            text = reset ? getText() : takeNewText();
+            if (reset) markShown();
+        }
+
+        if (reset) {
+            terminal.setText(text);
+            return true;
+        }
+        if (text.isEmpty()) return false;
+
+        terminal.append(text);
+        int extraLines = terminal.getLineCount() - (lines.length + 1);
+        if (extraLines > 0) terminal.getDocument().remove(0, terminal.getLineStartOffset(extraLines));
+        return true;
+    }
+
+    /**
+     * Removes every line from the log.
+     */
+    public synchronized void clear() {
+        Arrays.fill(lines, null);
+        openLine.setLength(0);
+        firstLine = 0;
+        lineCount = 0;
+        discardNewText();
+        resetNeeded = true;
+    }
+
+    /**
+     * Returns every kept line, followed by the line being printed.
+     *
+     * @return text     The text of the log
+     */
+    public synchronized String getText() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lineCount; i++) {
+            text.append(lines[(firstLine + i) % lines.length]).append('\n');
+        }
+        return text.append(openLine).toString();
+    }
+
+    @Override
+    public String toString() {
+        return getText();
+    }
+
+    /**
+     * Adds an ended line to the ring, dropping the oldest line if the ring is full.
+     *
+     * @param line     The line to add
+     */
+    private void addLine(String line) {
+        if (lineCount == lines.length) {
+            lines[firstLine] = line;
+            firstLine = (firstLine + 1) % lines.length;
+            droppedLines++;
+        }
+        else {
+            lines[(firstLine + lineCount) % lines.length] = line;
+            lineCount++;
+        }
+    }
+
+    private void discardNewText() {
+        newText.setLength(0);
+        newLineBreaks = 0;
+    }
+}
@@ -0,0 +1,441 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Loads a save file in the text format that SaveFileMaker exports, reading the file once from top to
+ * bottom. The lines are scanned as bytes in a buffer, so only names are turned into strings. The key of
+ * every "key: value" line is looked up in a table of the known keys and its value is stored in the field
+ * the key stands for, and a character is made as soon as its "END OF CHARACTER INFO" line is read. The
+ * game session is only changed once the whole file was read, so a file with a mistake leaves the running
+ * game as it was, and the mistake is reported with its line number. A compressed export is inflated
+ * while it is read (see SaveCompression).
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class TextSaveLoader {
+
+    private static final byte[] END_OF_DUNGEON_INFO = ascii("~~~ END OF DUNGEON INFO ~~~");        // The line that ends the dungeon info
+    private static final byte[] END_OF_CHARACTER_INFO = ascii("~~~ END OF CHARACTER INFO ~~~");    // The line that ends the info of a character
+    private static final byte[] END_OF_SAVE_FILE = ascii("~~~ END OF SAVE FILE ~~~");              // The last line of a save file
+
+    // The fields of the dungeon info
+    private static final int NUM_OF_CHARACTERS = 0, DUNGEON_SIZE = 1, TURN_COUNTER = 2, CHARACTER_IN_SAME_ROOM = 3,
+                             POTION_TURN_COUNTER = 4, CAN_RETREAT = 5, SEED = 6, DUNGEON_FIELDS = 7;
+
+    // The fields of a character
+    private static final int NAME = 0, HEALTH = 1, MAX_DAMAGE = 2, X_CORD = 3, Y_CORD = 4, GOLD = 5, TYPE = 6,
+                             HEALTH_POTION = 7, STRENGTH_POTION = 8, CHARACTER_FIELDS = 9;
+
+    private static final String[] DUNGEON_KEY_NAMES = {"numOfCharacters", "dungeonSize", "turnCounter", "characterInSameRoom",
+                                                       "potionTurnCounter", "canRetreat", "seed"};                // The key of every field of the dungeon info
+    private static final String[] CHARACTER_KEY_NAMES = {"name", "health", "maxDamage", "xCord", "yCord", "gold", "type",
+                                                         "healthPotionCondition", "strengthPotionCondition"};    // The key of every field of a character, as SaveFileMaker writes it
+
+    private static final KeyTable DUNGEON_KEYS = new KeyTable(DUNGEON_KEY_NAMES);        // The field of every key of the dungeon info
+    private static final KeyTable CHARACTER_KEYS = createCharacterKeys();                // The field of every key of a character
+
+    private static final int REQUIRED_DUNGEON_FIELDS = (1 << NUM_OF_CHARACTERS) | (1 << DUNGEON_SIZE);    // The dungeon fields that every save file has
+    private static final int BUFFER_BYTES = 1 << 16;                                                      // The size of the buffer that the file is read through
+
+    private final String fileName;                                      // The name of the save file, for the error messages
+    private final long[] dungeonValues = new long[DUNGEON_FIELDS];      // The values of the dungeon info
+    private final int[] characterValues = new int[CHARACTER_FIELDS];    // The values of the character being read, with booleans as 0 or 1
+    private String characterName;                                       // The name of the character being read
+    private OccupancyIndex rooms;                                       // The list position of the character in every room, besides the hero
+    private int seenFields = 0;                                         // The fields of the current section that were read, one bit each
+    private boolean hasSeed = false;                                    // Whether the dungeon info has a seed, which older save files do not
+    private int lineNumber = 0;                                         // The number of the line being read, starting at 1
+
+    private byte[] bytes = new byte[BUFFER_BYTES];    // The bytes that were read from the file
+    private int position = 0;                         // The index of the first byte after the current line
+    private int limit = 0;                            // The number of bytes in the buffer
+    private boolean endOfStream = false;              // Whether every byte of the file was read
+    private int lineStart, lineEnd;                   // The bounds of the current line, without surrounding whitespace
+
+    private TextSaveLoader(String fileName) {
+        this.fileName = fileName;
+        dungeonValues[CHARACTER_IN_SAME_ROOM] = -1;
+        dungeonValues[CAN_RETREAT] = -1;    // The session keeps its own setting if the file has none
+    }
+
+    /**
+     * Reads a text save file into a game session. The characters of the file replace the characters
+     * of the session, and the dungeon info of the file is set in the session.
+     *
+     * @param file                         The file to read
+     * @param session                      The game session to load the save into
+     * @return                             The list position of the character in the hero's room, or -1 if there is none
+     * @throws SaveFileFormatException     If a line of the file breaks the format
+     * @throws IOException                 If the file cannot be read
+     */
+    public static int load(Path file, GameSession session) throws IOException {
+        return new TextSaveLoader(file.getFileName().toString()).read(file, session);
+    }
+
+    /**
+     * Reads the preview of a text save file for the save loading menu. Only the dungeon info and
+     * the hero's info at the start of the file are read.
+     *
+     * @param file                         The file to read
+     * @return preview                     The preview of the save
+     * @throws SaveFileFormatException     If a line before the end of the hero's info breaks the format
+     * @throws IOException                 If the file cannot be read
+     */
+    public static SavePreview readPreview(Path file) throws IOException {
+        return new TextSaveLoader(file.getFileName().toString()).readHero(file);
+    }
+
+    private SavePreview readHero(Path file) throws IOException {
+        boolean dungeonInfoRead = false;
+
+        try (ReadableByteChannel channel = SaveCompression.open(file)) {
+            while (nextLine(channel)) {
+                lineNumber++;
+                if (lineStart == lineEnd) continue;
+
+                if (!dungeonInfoRead) {
+                    dungeonInfoRead = lineEquals(END_OF_DUNGEON_INFO);
+                    if (dungeonInfoRead) seenFields = 0;
+                    else readDungeonValue();
+                }
+                else if (lineEquals(END_OF_CHARACTER_INFO)) {
+                    return new SavePreview(fileName, (characterName == null) ? "" : characterName, characterValues[HEALTH], characterValues[GOLD],
+                            (int) dungeonValues[TURN_COUNTER], (int) dungeonValues[DUNGEON_SIZE], Files.getLastModifiedTime(file).toMillis(), Files.size(file));
+                }
+                else readCharacterValue();
+            }
+        }
+        throw error("The file ends before the end of the hero's info");
+    }
+
+    private int read(Path file, GameSession session) throws IOException {
+        CharacterStore store = session.getCharacterList();
+        int[] ids = null;
+        int characterCount = 0;
+        boolean endOfFile = false;
+
+        try (ReadableByteChannel channel = SaveCompression.open(file)) {
+            while (!endOfFile && nextLine(channel)) {
+                lineNumber++;
+                if (lineStart == lineEnd) continue;
+
+                if (ids == null) {
+                    if (lineEquals(END_OF_DUNGEON_INFO)) {
+                        if ((seenFields & REQUIRED_DUNGEON_FIELDS) != REQUIRED_DUNGEON_FIELDS) {
+                            throw error("The dungeon info needs both numOfCharacters and dungeonSize");
+                        }
+                        if (dungeonValues[NUM_OF_CHARACTERS] < 1) throw error("A save file needs at least one character");
+                        if (dungeonValues[DUNGEON_SIZE] < 1) throw error("A dungeon needs a size of at least 1");
+                        if (dungeonValues[CHARACTER_IN_SAME_ROOM] < -1 || dungeonValues[CHARACTER_IN_SAME_ROOM] >= dungeonValues[NUM_OF_CHARACTERS]) {
+                            throw error("The characterInSameRoom " + dungeonValues[CHARACTER_IN_SAME_ROOM] + " is not a listed character");
+                        }
+
+                        ids = new int[(int) dungeonValues[NUM_OF_CHARACTERS]];
+                        rooms = new OccupancyIndex(ids.length);
+                        store.ensureCapacity(store.size() + ids.length);
+                        hasSeed = (seenFields & (1 << SEED)) != 0;
+                        seenFields = 0;
+                    }
+                    else readDungeonValue();
+                }
+                else if (lineEquals(END_OF_CHARACTER_INFO)) {
+                    if (characterCount == ids.length) throw error("There are more characters than the " + ids.length + " given by numOfCharacters");
+                    ids[characterCount] = createCharacter(store, characterCount);
+                    characterCount++;
+                }
+                else if (lineEquals(END_OF_SAVE_FILE)) {
+                    if (seenFields != 0) throw error("The last character is not ended by \"" + new String(END_OF_CHARACTER_INFO, StandardCharsets.US_ASCII) + "\"");
+                    endOfFile = true;
+                }
+                else readCharacterValue();
+            }
+        }
+
+        if (!endOfFile) throw error("The file ends before \"" + new String(END_OF_SAVE_FILE, StandardCharsets.US_ASCII) + "\"");
+        if (characterCount != ids.length) throw error("There are " + characterCount + " characters, but numOfCharacters is " + ids.length);
+
+        // The file was read without a mistake, so the loaded game replaces the running game
+        session.setDungeonSize((int) dungeonValues[DUNGEON_SIZE]);
+        session.setTurnCounter((int) dungeonValues[TURN_COUNTER]);
+        session.setPotionTurnCounter((int) dungeonValues[POTION_TURN_COUNTER]);
+        if (dungeonValues[CAN_RETREAT] >= 0) session.setCanRetreat(dungeonValues[CAN_RETREAT] == 1);
+        if (hasSeed) session.setSeed(dungeonValues[SEED]);
+        store.replaceContents(ids);
+        return (int) dungeonValues[CHARACTER_IN_SAME_ROOM];
+    }
+
+    /**
+     * Stores the value of a line of the dungeon info.
+     *
+     * @throws SaveFileFormatException     If the key is unknown or the value is not valid
+     */
+    private void readDungeonValue() throws SaveFileFormatException {
+        int colon = findColon();
+        int field = lookUpField(colon, DUNGEON_KEYS);
+
+        switch (field) {
+            case CAN_RETREAT: dungeonValues[field] = parseBoolean(colon + 1); break;
+            case SEED: dungeonValues[field] = parseNumber(colon + 1, Long.MIN_VALUE, Long.MAX_VALUE); break;
+            default: dungeonValues[field] = parseNumber(colon + 1, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+        seenFields |= 1 << field;
+    }
+
+    /**
+     * Stores the value of a line of a character's info.
+     *
+     * @throws SaveFileFormatException     If the key is unknown or the value is not valid
+     */
+    private void readCharacterValue() throws SaveFileFormatException {
+        int colon = findColon();
+        int field = lookUpField(colon, CHARACTER_KEYS);
+
+        switch (field) {
+            case NAME: characterName = getValue(colon + 1); break;
+            case HEALTH_POTION:
+            case STRENGTH_POTION: characterValues[field] = parseBoolean(colon + 1); break;
+            default: characterValues[field] = (int) parseNumber(colon + 1, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+        seenFields |= 1 << field;
+    }
+
+    /**
+     * Makes the character whose info was read, without putting it in the list yet.
+     *
+     * @param store                        The store to make the character in
+     * @param position                     The list position of the character
+     * @return                             The id of the character
+     * @throws SaveFileFormatException     If a field of the character is missing, or its room is outside the dungeon or 
+     *                                     holds another character besides the hero
+     */
+    private int createCharacter(CharacterStore store, int position) throws SaveFileFormatException {
+        for (int field = 0; field < CHARACTER_FIELDS; field++) {
+            if ((seenFields & (1 << field)) == 0) throw error("The character is missing \"" + CHARACTER_KEY_NAMES[field] + "\"");
+        }
+
+        int dungeonSize = (int) dungeonValues[DUNGEON_SIZE];
+        int xCord = characterValues[X_CORD], yCord = characterValues[Y_CORD];
+        if (xCord < 0 || xCord >= dungeonSize || yCord < 0 || yCord >= dungeonSize) {
+            throw error("The room (" + xCord + ", " + yCord + ") of " + characterName + " is outside the dungeon of size " + dungeonSize);
+        }
+
+        // Only one character besides the hero can be in a room, or the occupancy index of the store would lose one of them
+        if (position > 0 && !rooms.add(position, xCord, yCord)) {
+            throw error("The room (" + xCord + ", " + yCord + ") of " + characterName + " already holds character " + (rooms.get(xCord, yCord) + 1));
+        }
+
+        seenFields = 0;
+        return store.create(characterName, characterValues[HEALTH], characterValues[TYPE], characterValues[MAX_DAMAGE], xCord, yCord,
+                characterValues[GOLD], characterValues[HEALTH_POTION] == 1, characterValues[STRENGTH_POTION] == 1);
+    }
+
+    /**
+     * Moves to the next line of the file, reading more of the file into the buffer if the line does not end in it.
+     *
+     * @param channel          The channel of the file
+     * @return                 true if there is another line, and false at the end of the file
+     * @throws IOException     If the file cannot be read
+     */
+    private boolean nextLine(ReadableByteChannel channel) throws IOException {
+        int scanFrom = position;
+        while (true) {
+            for (int i = scanFrom; i < limit; i++) {
+                if (bytes[i] == '\n') {
+                    setLine(position, i);
+                    position = i + 1;
+                    return true;
+                }
+            }
+            if (endOfStream) {
+                if (position == limit) return false;
+                setLine(position, limit);    // The last line of a save file has no line break
+                position = limit;
+                return true;
+            }
+
+            // The start of the line is moved to the front of the buffer, which grows if the line fills all of it
+            System.arraycopy(bytes, position, bytes, 0, limit - position);
+            limit -= position;
+            position = 0;
+            scanFrom = limit;
+            if (limit == bytes.length) bytes = Arrays.copyOf(bytes, bytes.length * 2);
+
+            int read = channel.read(ByteBuffer.wrap(bytes, limit, bytes.length - limit));
+            if (read == -1) endOfStream = true;
+            else limit += read;
+        }
+    }
+
+    private void setLine(int start, int end) {
+        while (start < end && bytes[start] <= ' ') start++;
+        while (end > start && bytes[end - 1] <= ' ') end--;
+        lineStart = start;
+        lineEnd = end;
+    }
+
+    private boolean lineEquals(byte[] text) {
+        return Arrays.equals(bytes, lineStart, lineEnd, text, 0, text.length);
+    }
+
+    private int findColon() throws SaveFileFormatException {
+        for (int i = lineStart; i < lineEnd; i++) {
+            if (bytes[i] == ':') return i;
+        }
+        throw error("Expected \"key: value\", but found \"" + new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8) + "\"");
+    }
+
+    /**
+     * Finds the field of the key of the current line.
+     *
+     * @param colon                        The index of the colon after the key
+     * @param keys                         The field of every key that may be in the section
+     * @return field                       The field of the key
+     * @throws SaveFileFormatException     If the key is unknown or was already given
+     */
+    private int lookUpField(int colon, KeyTable keys) throws SaveFileFormatException {
+        int keyEnd = colon;
+        while (keyEnd > lineStart && bytes[keyEnd - 1] <= ' ') keyEnd--;
+
+        int field = keys.get(bytes, lineStart, keyEnd);
+        if (field < 0) throw error("Unknown key \"" + new String(bytes, lineStart, keyEnd - lineStart, StandardCharsets.UTF_8) + "\"");
+        if ((seenFields & (1 << field)) != 0) throw error("The key \"" + new String(bytes, lineStart, keyEnd - lineStart, StandardCharsets.UTF_8) + "\" is given twice");
+        return field;
+    }
+
+    /**
+     * Reads the whole number after the colon of the current line.
+     *
+     * @param start                        The index of the first byte after the colon
+     * @param min                          The smallest number that is allowed
+     * @param max                          The largest number that is allowed
+     * @return value                       The number
+     * @throws SaveFileFormatException     If the value is not a whole number between min and max
+     */
+    private long parseNumber(int start, long min, long max) throws SaveFileFormatException {
+        int i = skipWhitespace(start);
+        boolean negative = (i < lineEnd) && bytes[i] == '-';
+        if (negative || ((i < lineEnd) && bytes[i] == '+')) i++;
+        if (i == lineEnd) throw error("\"" + getValue(start) + "\" is not a whole number");
+
+        long value = 0;
+        boolean tooLarge = false;
+        for (; i < lineEnd; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) throw error("\"" + getValue(start) + "\" is not a whole number");
+
+            try { 
+                value = Math.addExact(Math.multiplyExact(value, 10), negative ? -digit : digit); 
+            }
+            catch (ArithmeticException e) { 
+                tooLarge = true; 
+            }
+        }
+
+        if (tooLarge || value < min || value > max) throw error("\"" + getValue(start) + "\" is too large");
+        return value;
+    }
+
+    private int parseBoolean(int start) throws SaveFileFormatException {
+        int from = skipWhitespace(start);
+        if (valueEqualsIgnoreCase(from, "true")) return 1;
+        if (valueEqualsIgnoreCase(from, "false")) return 0;
+        throw error("\"" + getValue(start) + "\" is neither true nor false");
+    }
+
+    private boolean valueEqualsIgnoreCase(int from, String word) {
+        if (lineEnd - from != word.length()) return false;
+        for (int i = 0; i < word.length(); i++) {
+            if ((bytes[from + i] | 0x20) != word.charAt(i)) return false;    // Setting the 0x20 bit makes an ASCII letter lowercase
+        }
+        return true;
+    }
+
+    private int skipWhitespace(int start) {
+        while (start < lineEnd && bytes[start] <= ' ') start++;
+        return start;
+    }
+
+    private String getValue(int start) {
+        int from = skipWhitespace(start);
+        return new String(bytes, from, lineEnd - from, StandardCharsets.UTF_8);
+    }
+
+    private SaveFileFormatException error(String problem) {
+        return new SaveFileFormatException(fileName, lineNumber, problem);
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Creates the table of the keys of a character. SaveFileMaker writes the potions as "healthPotionCondition"
+     * and "strengthPotionCondition", and the names that the old reader looked for are kept as other names for them.
+     *
+     * @return keys     The field of every key
+     */
+    private static KeyTable createCharacterKeys() {
+        KeyTable keys = new KeyTable(CHARACTER_KEY_NAMES);
+        keys.put("hasHealthPotion", HEALTH_POTION);
+        keys.put("hasStrengthPotion", STRENGTH_POTION);
+        return keys;
+    }
+
+    /**
+     * Finds the field of a key given as bytes, without making a string of the key. The keys are kept in
+     * an open-addressing table that is made once and only read while a file is loaded.
+     */
+    private static class KeyTable {
+
+        private final byte[][] keys = new byte[32][];    // The key in every slot of the table, or null if the slot is empty
+        private final int[] fields = new int[32];        // The field of the key in every slot
+
+        /**
+         * Creates a table with the given keys, whose fields are their positions.
+         *
+         * @param keyNames     The key of every field
+         */
+        private KeyTable(String[] keyNames) {
+            for (int field = 0; field < keyNames.length; field++) {
+                put(keyNames[field], field);
+            }
+        }
+
+        private void put(String keyName, int field) {
+            byte[] key = ascii(keyName);
+            int slot = hash(key, 0, key.length);
+            while (keys[slot] != null) slot = (slot + 1) & (keys.length - 1);
+            keys[slot] = key;
+            fields[slot] = field;
+        }
+
+        /**
+         * Finds the field of a key.
+         *
+         * @param bytes     The bytes that hold the key
+         * @param start     The index of the first byte of the key
+         * @param end       The index after the last byte of the key
+         * @return          The field of the key, or -1 if it is not in the table
+         */
+        private int get(byte[] bytes, int start, int end) {
+            for (int slot = hash(bytes, start, end); keys[slot] != null; slot = (slot + 1) & (keys.length - 1)) {
+                if (Arrays.equals(keys[slot], 0, keys[slot].length, bytes, start, end)) return fields[slot];
+            }
+            return -1;
+        }
+
+        private int hash(byte[] bytes, int start, int end) {
+            int hash = end - start;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + bytes[i];
+            }
+            return (hash ^ (hash >>> 16)) & (keys.length - 1);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+import java.awt.Color;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Holds the colors that the color names used by the game window stand for (e.g. "BLUE"). Every
+ * color is resolved once when the theme is created, so looking up a color is one map lookup.
+ * The default theme uses the colors of java.awt.Color, and a theme file in the Themes folder
+ * can give any name another color, written as "NAME = #RRGGBB" or "NAME = OTHER_NAME".
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class Theme {
+
+    public static final String THEME_FOLDER = "Themes";       // The folder with the theme files, next to the Instructions folder
+    public static final String THEME_EXTENSION = ".theme";    // The extension of a theme file
+
+    private static final Theme DEFAULT_THEME = new Theme("Default", createDefaultPalette());    // The theme with the colors of java.awt.Color
+
+    private final String name;                   // The name of the theme, which is the name of its file
+    private final Map<String, Color> palette;    // The color of every name in the theme
+
+    /**
+     * Creates a theme with resolved colors.
+     *
+     * @param name        The name of the theme
+     * @param palette     The color of every name in the theme
+     */
+    private Theme(String name, Map<String, Color> palette) {
+        this.name = name;
+        this.palette = palette;
+    }
+
+    // Getters for Theme class
+    public static Theme getDefault() {
+        return DEFAULT_THEME;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the color that a name stands for in this theme.
+     *
+     * @param colorName     The name of the color (e.g. "BLUE")
+     * @return              The color of the name, or null if the theme has no such color
+     */
+    public Color getColor(String colorName) {
+        return palette.get(colorName);
+    }
+
+    /**
+     * Loads a theme file. Every name that the file does not give a color keeps its default color.
+     *
+     * @param file              The theme file to load
+     * @return                  The theme of the file
+     * @throws IOException      If the file cannot be read
+     */
+    public static Theme load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        Map<String, Color> palette = new HashMap<>(DEFAULT_THEME.palette);
+        for (String colorName : properties.stringPropertyNames()) {
+            palette.put(colorName.trim().toUpperCase(), parseColor(properties.getProperty(colorName).trim(), file));
+        }
+
+        String fileName = file.getFileName().toString();
+        return new Theme(fileName.substring(0, fileName.length() - THEME_EXTENSION.length()), palette);
+    }
+
+    /**
+     * Loads the default theme and every theme file in a folder, sorted by name. A theme file that cannot
+     * be loaded is logged and left out.
+     *
+     * @param folder        The folder with the theme files
+     * @return themes       The default theme, followed by the themes of the folder
+     */
+    public static List<Theme> loadAll(Path folder) {
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(folder)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder, "*" + THEME_EXTENSION)) {
+                stream.forEach(files::add);
+            }
+            catch (IOException e) {
+                MainLogic.getGameLog().error("The theme folder could not be listed", e);
+            }
+        }
+        files.sort(null);
+
+        List<Theme> themes = new ArrayList<>();
+        themes.add(DEFAULT_THEME);
+        for (Path file : files) {
+            try {
+                themes.add(load(file));
+            }
+            catch (IOException | IllegalArgumentException e) {
+                MainLogic.getGameLog().error("A theme file could not be loaded", e);
+            }
+        }
+        return themes;
+    }
+
+    /**
+     * Reads a color of a theme file, which is either a hex code or the name of a default color.
+     *
+     * @param value     The color as written in the theme file
+     * @param file      The theme file, for the error message
+     * @return          The color
+     */
+    private static Color parseColor(String value, Path file) {
+        if (value.startsWith("#")) {
+            try {
+                return Color.decode(value);
+            }
+            catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid color \"" + value + "\" in theme file " + file, e);
+            }
+        }
+
+        Color color = DEFAULT_THEME.palette.get(value.toUpperCase());
+        if (color == null) throw new IllegalArgumentException("Unknown color \"" + value + "\" in theme file " + file);
+        return color;
+    }
+
+    /**
+     * Creates the palette of the default theme from the constants of java.awt.Color.
+     *
+     * @return palette     The color of every name in the default theme
+     */
+    private static Map<String, Color> createDefaultPalette() {
+        Map<String, Color> palette = new HashMap<>();
+        palette.put("BLACK", Color.BLACK);
+        palette.put("BLUE", Color.BLUE);
+        palette.put("CYAN", Color.CYAN);
+        palette.put("DARK_GRAY", Color.DARK_GRAY);
+        palette.put("GRAY", Color.GRAY);
+        palette.put("GREEN", Color.GREEN);
+        palette.put("LIGHT_GRAY", Color.LIGHT_GRAY);
+        palette.put("MAGENTA", Color.MAGENTA);
+        palette.put("ORANGE", Color.ORANGE);
+        palette.put("PINK", Color.PINK);
+        palette.put("RED", Color.RED);
+        palette.put("WHITE", Color.WHITE);
+        palette.put("YELLOW", Color.YELLOW);
+        return palette;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,119 @@
+import java.awt.Color;
+import java.lang.reflect.Field;
+import java.util.Locale;
+
+/**
+ * Compares looking up colors by reflection, as GUIFrame.getColor() used to do, with looking them up in a
+ * Theme. The colors are looked up in the order of an old rebuild of the game screen with a 15x15 map,
+ * which needed one lookup per panel and two per label, button, and text component.
+ *
+ * Usage: java ThemeBenchmark [rebuilds]
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class ThemeBenchmark {
+
+    private static final String[] REBUILD_LOOKUPS = createRebuildLookups();    // The color names looked up by one old rebuild
+
+    public static void main(String[] args) {
+        int rebuilds = (args.length > 0) ? Integer.parseInt(args[0]) : 20_000;
+        Theme theme = Theme.getDefault();
+
+        System.out.println("Color lookups per rebuild of the game screen: " + REBUILD_LOOKUPS.length);
+
+        // Every round is run twice, so the second round shows the cost once the JIT compiled both lookups
+        for (int round = 1; round <= 2; round++) {
+            long reflectionNanos = timeReflection(rebuilds);
+            long themeNanos = timeTheme(theme, rebuilds);
+
+            System.out.println(String.format(Locale.ROOT, "Round %d: reflection %.1f us per rebuild, theme %.1f us per rebuild (%.0fx faster)",
+                    round, reflectionNanos / 1000.0 / rebuilds, themeNanos / 1000.0 / rebuilds, (double) reflectionNanos / themeNanos));
+        }
+    }
+
+    /**
+     * Looks up the colors of the given number of rebuilds by reflection.
+     *
+     * @param rebuilds     The number of rebuilds to look up the colors of
+     * @return             The time the lookups took in nanoseconds
+     */
+    private static long timeReflection(int rebuilds) {
+        int checksum = 0;
+        long start = System.nanoTime();
+
+        for (int i = 0; i < rebuilds; i++) {
+            for (String colorName : REBUILD_LOOKUPS) {
+                checksum += getColorByReflection(colorName).getRGB();
+            }
+        }
+
+        long nanos = System.nanoTime() - start;
+        if (checksum == 42) System.out.println();    // Keeps the JIT from dropping the lookups
+        return nanos;
+    }
+
+    /**
+     * Looks up the colors of the given number of rebuilds in a theme.
+     *
+     * @param theme        The theme to look up the colors in
+     * @param rebuilds     The number of rebuilds to look up the colors of
+     * @return             The time the lookups took in nanoseconds
+     */
+    private static long timeTheme(Theme theme, int rebuilds) {
+        int checksum = 0;
+        long start = System.nanoTime();
+
+        for (int i = 0; i < rebuilds; i++) {
+            for (String colorName : REBUILD_LOOKUPS) {
+                checksum += theme.getColor(colorName).getRGB();
+            }
+        }
+
+        long nanos = System.nanoTime() - start;
+        if (checksum == 42) System.out.println();    // Keeps the JIT from dropping the lookups
+        return nanos;
+    }
+
+    /**
+     * The lookup that GUIFrame.getColor() used before themes were added.
+     *
+     * @param colorName     The name of a constant of java.awt.Color
+     * @return              The color of the constant, or null if there is none
+     */
+    private static Color getColorByReflection(String colorName) {
+        try {
+            Field field = Color.class.getField(colorName);
+            return (Color) field.get(null);
+        }
+        catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Lists the color names of one old rebuild: 49 for the status panel, 10 for the title panel, 5 for the
+     * terminal, and 1 for the map panel plus 3 for every one of the 225 rooms of the map grid.
+     *
+     * @return lookups     The color names in the order they were looked up
+     */
+    private static String[] createRebuildLookups() {
+        String[] lookups = new String[49 + 10 + 5 + 1 + 225 * 3];
+        int next = 0;
+
+        lookups[next++] = "BLUE";
+        for (int i = 0; i < 8; i++) {
+            for (String colorName : new String[] {"BLACK", "BLACK", "BLUE", "BLUE", "BLACK", "WHITE"}) lookups[next++] = colorName;
+        }
+        for (String colorName : new String[] {"BLACK", "BLACK", "BLACK", "BLUE", "BLACK", "BLUE", "WHITE", "BLACK", "BLUE", "WHITE"}) {
+            lookups[next++] = colorName;
+        }
+        for (String colorName : new String[] {"BLACK", "BLACK", "BLUE", "BLACK", "BLUE"}) lookups[next++] = colorName;
+
+        lookups[next++] = "BLACK";
+        for (int i = 0; i < 225; i++) {
+            for (String colorName : new String[] {"DARK_GRAY", "DARK_GRAY", "DARK_GRAY"}) lookups[next++] = colorName;
+        }
+        return lookups;
+    }
+}
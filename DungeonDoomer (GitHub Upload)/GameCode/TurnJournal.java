@@ -0,0 +1,532 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Keeps the game that is being played on disk after every turn, so a game is not lost when the window
+ * is closed or the game stops without a save. The journal is a snapshot of the whole game, written as
+ * a binary save file, and an append-only file of the turns played since the snapshot. A turn only
+ * writes the session info and the characters that changed, moved, or were added in it, which the
+ * CharacterStore remembers while its changes are recorded.
+ *
+ * Turns are written and forced to the disk by a thread of the journal, which takes every turn that
+ * waits at once, so the game never waits for the disk and many turns share one fsync. After many
+ * turns, or when most characters changed (e.g. a new dungeon was made), a new snapshot is encoded on
+ * the logic thread and written by the same thread of the journal, and the older snapshot and turns
+ * are deleted. Every snapshot and its file of turns share a generation number, so a game that stops
+ * while a snapshot is written still has the older generation.
+ *
+ * If a write fails (e.g. the disk is full), the turns of that generation are dropped, since the turns
+ * after a missing one could not be replayed, and the game goes on without waiting. A new snapshot is
+ * tried after a pause that doubles with every failure in a row, and the older generation on disk stays
+ * the game that can be recovered until then.
+ *
+ * An entry of the turns file holds its length and its CRC32C checksum before its bytes, so a turn that
+ * was only partly written when the game stopped is found and ignored by recover().
+ *
+ * @author Blake Payne
+ * @since  10.18.2026
+ */
+public class TurnJournal {
+
+    public static final String JOURNAL_FOLDER = "Journal";    // The folder that the journal is kept in
+
+    private static final String SNAPSHOT_PREFIX = "Snapshot ";          // The start of the name of a snapshot file, followed by its generation
+    private static final String TURNS_PREFIX = "Turns ";                // The start of the name of a turns file, followed by its generation
+    private static final String TURNS_EXTENSION = ".journal";           // The extension of a turns file
+
+    private static final int ENTRY_HEADER_BYTES = 8;                    // Length (4) and checksum (4) of an entry
+    private static final int TURN_BYTES = 25;                           // Characters, dungeon size, turn counter, character in same room, potion turn counter (4 each), can retreat (1), changed characters (4)
+    private static final int TURNS_PER_SNAPSHOT = 1000;                 // The number of turns after which a new snapshot is written
+    private static final long MAX_TURNS_FILE_BYTES = 16L << 20;         // The size of the turns file after which a new snapshot is written
+    private static final int MIN_RETRY_TURNS = 8;                       // The turns that are not journaled after a failed write, doubled with every failure in a row
+
+    private final GameSession session;    // The game session that is journaled
+    private final Path folder;            // The folder of the journal
+
+    private final ArrayDeque<PendingEntry> pendingEntries = new ArrayDeque<>();    // The entries that wait for the writer thread, guarded by itself
+    private Thread writerThread;             // Writes the pending entries to the turns file
+    private boolean closed = false;          // Whether the journal was closed, guarded by pendingEntries
+    private int generation = 0;              // The generation of the newest snapshot that was handed to the writer thread
+    private boolean snapshotNeeded = true;   // Whether the next turn writes a snapshot instead of a turn entry
+    private int turnsSinceSnapshot = 0;      // The number of turn entries written since the newest snapshot
+    private long turnsFileBytes = 0;         // The number of bytes written to the turns file of the newest snapshot
+    private byte[] lastTurnInfo;             // The session info of the last entry, so turns that changed nothing are not written
+    private int turnsToSkip = 0;             // The turns that are not journaled before a new snapshot is tried after a failed write
+
+    private volatile int failedGeneration = -1;    // The newest generation that the writer thread could not write
+    private volatile int failedWrites = 0;         // The failed writes since a snapshot was last written, set by the writer thread
+
+    /**
+     * Creates the journal of a game session. Nothing is written until start() is called.
+     *
+     * @param session     The game session to journal
+     * @param folder      The folder of the journal
+     */
+    public TurnJournal(GameSession session, Path folder) {
+        this.session = session;
+        this.folder = folder;
+    }
+
+    public Path getFolder() {
+        return folder;
+    }
+
+    /**
+     * Checks if the journal holds a game that was not finished, which recover() can load.
+     *
+     * @return      The preview of the newest snapshot, or null if there is no game to recover
+     */
+    public SavePreview findUnfinishedGame() {
+        for (int snapshotGeneration : listGenerations()) {
+            try {
+                return BinarySaveFile.readPreview(getSnapshotFile(snapshotGeneration));
+            }
+            catch (IOException e) {
+                MainLogic.getGameLog().error("A journal snapshot could not be read", e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Loads the last consistent state of the journal into the game session: the newest intact snapshot
+     * and every intact turn after it. The characters of the journal replace the characters of the session.
+     * Must be called before start().
+     *
+     * @return                 The list position of the character in the hero's room, or -1 if there is none
+     * @throws IOException     If no snapshot of the journal can be read
+     */
+    public int recover() throws IOException {
+        IOException failure = new IOException("The journal in " + folder + " holds no game to recover");
+
+        // A damaged snapshot is skipped, and the older generation is tried instead
+        for (int snapshotGeneration : listGenerations()) {
+            Path snapshotFile = getSnapshotFile(snapshotGeneration);
+            try {
+                int characterInSameRoom = BinarySaveFile.load(snapshotFile, session);
+                return replayTurns(getTurnsFile(snapshotGeneration), characterInSameRoom);
+            }
+            catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * Deletes every file of the journal, such as an unfinished game that the user did not want to recover.
+     */
+    public void discardUnfinishedGame() {
+        for (int oldGeneration : listGenerations()) {
+            deleteGeneration(oldGeneration);
+        }
+    }
+
+    /**
+     * Starts recording the changes of the characters and starts the writer thread. The first recorded
+     * turn writes a snapshot. Calling it again does nothing.
+     */
+    public void start() {
+        if (writerThread != null) return;
+
+        try {
+            Files.createDirectories(folder);
+        }
+        catch (IOException e) {
+            MainLogic.getGameLog().error("The journal folder could not be made", e);
+        }
+        List<Integer> generations = listGenerations();
+        generation = generations.isEmpty() ? 0 : generations.getFirst();
+        snapshotNeeded = true;
+        session.getCharacterList().setRecordingChanges(true);
+
+        writerThread = new Thread(this::writeEntries, "Dungeon Doomer Turn Journal");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Writes the changes of the turn that was just played. Runs on the logic thread after every command,
+     * and only hands the encoded turn to the writer thread, unless a new snapshot is due. A game that is
+     * over is not kept, since it cannot be played on.
+     *
+     * @param ids          The characters that changed in the turn, taken from the CharacterStore
+     * @param replaced     Whether the list of characters was replaced in the turn
+     */
+    public void recordTurn(int[] ids, boolean replaced) {
+        if (writerThread == null) return;
+
+        CharacterStore store = session.getCharacterList();
+        if (session.getGameOver() || store.isEmpty()) {
+            if (!snapshotNeeded) enqueue(new PendingEntry(generation, null, PendingEntry.DISCARD));
+            snapshotNeeded = true;
+            return;
+        }
+
+        // The writer thread dropped the turns of the newest generation, so a new snapshot is tried after a pause
+        if (failedGeneration == generation && !snapshotNeeded) {
+            snapshotNeeded = true;
+            turnsToSkip = Math.min(MIN_RETRY_TURNS << Math.clamp(failedWrites - 1, 0, 16), TURNS_PER_SNAPSHOT);
+        }
+        if (turnsToSkip > 0) {
+            turnsToSkip--;
+            return;
+        }
+
+        byte[] turnInfo = encodeTurnInfo(store);
+        boolean manyChanged = ids.length > store.size() / 4 + 64;
+        if (snapshotNeeded || replaced || manyChanged || turnsSinceSnapshot >= TURNS_PER_SNAPSHOT || turnsFileBytes >= MAX_TURNS_FILE_BYTES) {
+            writeSnapshot(turnInfo);
+            return;
+        }
+
+        if (ids.length == 0 && Arrays.equals(turnInfo, lastTurnInfo)) return;
+
+        // The names of their own are encoded first, since they decide the length of the entry
+        byte[][] names = new byte[ids.length][];
+        int entryBytes = ENTRY_HEADER_BYTES + TURN_BYTES;
+        for (int i = 0; i < ids.length; i++) {
+            entryBytes += 4 + BinarySaveFile.CHARACTER_BYTES;
+            if (store.getKind(ids[i]) != CharacterStore.KIND_NAMED) continue;
+
+            names[i] = store.getName(ids[i]).getBytes(StandardCharsets.UTF_8);
+            entryBytes += 4 + names[i].length;
+        }
+
+        ByteBuffer entry = ByteBuffer.allocate(entryBytes);
+        entry.position(ENTRY_HEADER_BYTES);
+        entry.put(turnInfo).putInt(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            entry.putInt(store.indexOfId(ids[i]));
+            BinarySaveFile.putCharacter(entry, store, ids[i]);
+            if (names[i] != null) entry.putInt(names[i].length).put(names[i]);
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(entry.array(), ENTRY_HEADER_BYTES, entryBytes - ENTRY_HEADER_BYTES);
+        entry.putInt(0, entryBytes - ENTRY_HEADER_BYTES).putInt(4, (int) crc.getValue());
+        entry.flip();
+
+        enqueue(new PendingEntry(generation, entry, PendingEntry.TURN));
+        lastTurnInfo = turnInfo;
+        turnsSinceSnapshot++;
+        turnsFileBytes += entryBytes;
+    }
+
+    /**
+     * Waits until the writer thread wrote every pending entry, and stops it. Called when the window
+     * is closed, so the last turns are on disk and the game can be recovered when it starts again.
+     */
+    public void close() {
+        if (writerThread == null) return;
+
+        synchronized (pendingEntries) {
+            closed = true;
+            pendingEntries.notifyAll();
+        }
+        try {
+            writerThread.join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Encodes a snapshot of the whole game as the next generation, and hands it to the writer thread,
+     * which writes it and then the turns after it to the turns file of that generation.
+     *
+     * @param turnInfo     The session info of the turn
+     */
+    private void writeSnapshot(byte[] turnInfo) {
+        generation++;
+        enqueue(new PendingEntry(generation, BinarySaveFile.encode(session), PendingEntry.SNAPSHOT));
+        snapshotNeeded = false;
+        turnsSinceSnapshot = 0;
+        turnsFileBytes = 0;
+        lastTurnInfo = turnInfo;
+    }
+
+    /**
+     * Encodes the info of the session that every turn entry holds.
+     *
+     * @param store     The characters of the session
+     * @return          The session info, without the number of changed characters
+     */
+    private byte[] encodeTurnInfo(CharacterStore store) {
+        ByteBuffer turnInfo = ByteBuffer.allocate(TURN_BYTES - 4);
+        turnInfo.putInt(store.size());
+        turnInfo.putInt(session.getDungeonSize());
+        turnInfo.putInt(session.getTurnCounter());
+        turnInfo.putInt(session.getCharacterInSameRoomIndex());
+        turnInfo.putInt(session.getPotionTurnCounter());
+        turnInfo.put((byte) (session.getCanRetreat() ? 1 : 0));
+        return turnInfo.array();
+    }
+
+    private void enqueue(PendingEntry entry) {
+        synchronized (pendingEntries) {
+            if (closed) return;    // The writer thread stopped, such as for a turn that ended after the window was closed
+            pendingEntries.add(entry);
+            pendingEntries.notifyAll();
+        }
+    }
+
+    /**
+     * Runs on the writer thread. Takes every pending entry at once, writes the turns with one gathering
+     * write, and forces them to the disk with one fsync. A failed write only gives up the generation it
+     * belongs to, and the thread goes on with the entries after it.
+     */
+    private void writeEntries() {
+        FileChannel channel = null;
+        int channelGeneration = -1;
+        List<PendingEntry> batch = new ArrayList<>();
+        List<ByteBuffer> buffers = new ArrayList<>();
+
+        try {
+            while (true) {
+                synchronized (pendingEntries) {
+                    while (pendingEntries.isEmpty() && !closed) pendingEntries.wait();
+                    if (pendingEntries.isEmpty()) break;
+                    batch.addAll(pendingEntries);
+                    pendingEntries.clear();
+                }
+
+                for (PendingEntry entry : batch) {
+                    // The turns of a generation whose snapshot or turns file could not be written are dropped
+                    if (entry.kind == PendingEntry.TURN) {
+                        if (entry.generation == channelGeneration && channel != null) buffers.add(entry.bytes);
+                        continue;
+                    }
+
+                    try {
+                        // A snapshot or a finished game ends the turns file, so the waiting turns are written first
+                        writeAndForce(channel, buffers);
+                        closeChannel(channel);
+                        channel = null;
+                        channelGeneration = entry.generation;
+
+                        if (entry.kind == PendingEntry.SNAPSHOT) {
+                            // The snapshot is forced to the disk before it is moved into place, so a snapshot file is never partly written
+                            SaveWriter.writeAtomically(getSnapshotFile(entry.generation), entry.bytes);
+                            channel = FileChannel.open(getTurnsFile(channelGeneration), StandardOpenOption.CREATE,
+                                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                            if (failedWrites > 0) MainLogic.getGameLog().info("The turn journal is written again after " + failedWrites + " failed writes");
+                            failedWrites = 0;
+                        }
+                        for (int oldGeneration : listGenerations()) {
+                            if (oldGeneration < entry.generation || (entry.kind == PendingEntry.DISCARD && oldGeneration == entry.generation)) deleteGeneration(oldGeneration);
+                        }
+                    }
+                    catch (IOException e) {
+                        channel = failGeneration(channel, buffers, entry.generation, e);
+                    }
+                }
+
+                try {
+                    writeAndForce(channel, buffers);
+                }
+                catch (IOException e) {
+                    channel = failGeneration(channel, buffers, channelGeneration, e);
+                }
+                batch.clear();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            closeChannel(channel);
+        }
+    }
+
+    /**
+     * Gives up the turns file of a generation after a write failed, since the turns after a missing turn
+     * could not be replayed. The logic thread sees the failed generation and tries a new snapshot after a
+     * pause. Only the first failure in a row is logged, so a full disk does not fill the log.
+     *
+     * @param channel        The turns file that is open, or null
+     * @param buffers        The turns that wait to be written
+     * @param generation     The generation that could not be written
+     * @param e              The failure
+     * @return               null, as the turns file that is open from now on
+     */
+    private FileChannel failGeneration(FileChannel channel, List<ByteBuffer> buffers, int generation, IOException e) {
+        buffers.clear();
+        closeChannel(channel);
+        if (failedWrites == 0) MainLogic.getGameLog().error("The turn journal could not be written, so turns are not kept until a new snapshot is written", e);
+        failedWrites++;
+        failedGeneration = generation;
+        return null;
+    }
+
+    private static void closeChannel(FileChannel channel) {
+        if (channel == null) return;
+
+        try {
+            channel.close();
+        }
+        catch (IOException e) {
+            MainLogic.getGameLog().error("The turn journal could not be closed", e);
+        }
+    }
+
+    private static void writeAndForce(FileChannel channel, List<ByteBuffer> buffers) throws IOException {
+        if (channel == null || buffers.isEmpty()) return;
+
+        ByteBuffer[] array = buffers.toArray(new ByteBuffer[0]);
+        while (array[array.length - 1].hasRemaining()) channel.write(array);
+        channel.force(false);
+        buffers.clear();
+    }
+
+    /**
+     * Applies the intact turns of a turns file to the characters that were loaded from its snapshot.
+     * The turns are read until the file ends or an entry is only partly written or damaged.
+     *
+     * @param turnsFile                The turns file
+     * @param characterInSameRoom      The list position of the character in the hero's room of the snapshot
+     * @return                         The list position of the character in the hero's room after the last turn
+     * @throws IOException             If an intact entry does not fit the characters of the snapshot
+     */
+    private int replayTurns(Path turnsFile, int characterInSameRoom) throws IOException {
+        CharacterStore store = session.getCharacterList();
+        int count = store.size();
+        int[] ids = new int[Math.max(count, 16)];
+        for (int i = 0; i < count; i++) ids[i] = store.getId(i);
+        if (!Files.exists(turnsFile)) return characterInSameRoom;
+
+        try (FileChannel channel = FileChannel.open(turnsFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(ENTRY_HEADER_BYTES);
+            CRC32C crc = new CRC32C();
+
+            while (readFully(channel, header.clear())) {
+                int length = header.getInt(0), checksum = header.getInt(4);
+                if (length < TURN_BYTES || length > channel.size() - channel.position()) break;
+
+                ByteBuffer entry = ByteBuffer.allocate(length);
+                if (!readFully(channel, entry)) break;
+                crc.reset();
+                crc.update(entry.array());
+                if ((int) crc.getValue() != checksum) break;
+
+                int newCount = entry.getInt();
+                session.setDungeonSize(entry.getInt());
+                session.setTurnCounter(entry.getInt());
+                characterInSameRoom = entry.getInt();
+                session.setPotionTurnCounter(entry.getInt());
+                session.setCanRetreat(entry.get() != 0);
+                int changedCount = entry.getInt();
+
+                if (newCount > ids.length) ids = Arrays.copyOf(ids, Math.max(newCount, ids.length * 2));
+                if (newCount > count) Arrays.fill(ids, count, newCount, -1);
+
+                // The new version of a changed character is created in a new slot, and the old version is freed at the end
+                for (int i = 0; i < changedCount; i++) {
+                    int position = entry.getInt();
+                    if (position < 0 || position >= newCount) throw new IOException("A turn of " + turnsFile + " changes a character that is not listed");
+
+                    ids[position] = BinarySaveFile.createCharacter(entry, store);
+                    if (store.getKind(ids[position]) == CharacterStore.KIND_NAMED) {
+                        byte[] name = new byte[entry.getInt()];
+                        entry.get(name);
+                        store.setName(ids[position], new String(name, StandardCharsets.UTF_8));
+                    }
+                }
+                for (int i = count; i < newCount; i++) {
+                    if (ids[i] == -1) throw new IOException("A turn of " + turnsFile + " adds a character without its record");
+                }
+                count = newCount;
+            }
+        }
+
+        store.replaceContents(Arrays.copyOf(ids, count));
+        return characterInSameRoom;
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) return false;
+        }
+        buffer.flip();
+        return true;
+    }
+
+    /**
+     * Lists the generations that have a snapshot file, with the newest first.
+     *
+     * @return      The generations of the snapshots
+     */
+    private List<Integer> listGenerations() {
+        List<Integer> generations = new ArrayList<>();
+        if (!Files.isDirectory(folder)) return generations;
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder, SNAPSHOT_PREFIX + "*" + BinarySaveFile.EXTENSION)) {
+            for (Path file : stream) {
+                String fileName = file.getFileName().toString();
+                try {
+                    generations.add(Integer.parseInt(fileName.substring(SNAPSHOT_PREFIX.length(), fileName.length() - BinarySaveFile.EXTENSION.length())));
+                }
+                catch (NumberFormatException e) {
+                    // A file that only looks like a snapshot is left alone
+                }
+            }
+        }
+        catch (IOException e) {
+            MainLogic.getGameLog().error("The journal folder could not be listed", e);
+        }
+        generations.sort((first, second) -> Integer.compare(second, first));
+        return generations;
+    }
+
+    private void deleteGeneration(int oldGeneration) {
+        try {
+            Files.deleteIfExists(getSnapshotFile(oldGeneration));
+            Files.deleteIfExists(getTurnsFile(oldGeneration));
+        }
+        catch (IOException e) {
+            MainLogic.getGameLog().error("An old journal generation could not be deleted", e);
+        }
+    }
+
+    private Path getSnapshotFile(int snapshotGeneration) {
+        return folder.resolve(SNAPSHOT_PREFIX + snapshotGeneration + BinarySaveFile.EXTENSION);
+    }
+
+    private Path getTurnsFile(int snapshotGeneration) {
+        return folder.resolve(TURNS_PREFIX + snapshotGeneration + TURNS_EXTENSION);
+    }
+
+    /**
+     * An entry that waits for the writer thread: the bytes of a turn, the snapshot that starts a new
+     * generation, or the end of a finished game.
+     */
+    private static class PendingEntry {
+
+        private static final int TURN = 0;        // A turn, written to the turns file of its generation
+        private static final int SNAPSHOT = 1;    // A snapshot, which starts its generation
+        private static final int DISCARD = 2;     // The end of a finished game, whose journal is deleted
+
+        private final int generation;      // The generation that the entry belongs to
+        private final ByteBuffer bytes;    // The bytes of the turn or snapshot, or null for the end of a game
+        private final int kind;            // Whether the entry is a turn, a snapshot, or the end of a game
+
+        private PendingEntry(int generation, ByteBuffer bytes, int kind) {
+            this.generation = generation;
+            this.bytes = bytes;
+            this.kind = kind;
+        }
+    }
+}